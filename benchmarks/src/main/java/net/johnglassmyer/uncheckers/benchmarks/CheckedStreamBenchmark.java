@@ -0,0 +1,84 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.johnglassmyer.uncheckers.CheckedStream;
+import net.johnglassmyer.uncheckers.Uncheckers;
+
+/**
+ * Measures a five-stage pipeline over 1,000 elements, its checked lambdas unchecked
+ * stage by stage with {@link Uncheckers} and tunnelled stage by stage by
+ * {@link CheckedStream}, which translates the exceptions at its terminal operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckedStreamBenchmark {
+	private List<String> elements;
+
+	@Setup
+	public void setUp() {
+		elements = IntStream.range(0, 1_000)
+				.mapToObj(Integer::toString)
+				.collect(Collectors.toList());
+	}
+
+	private static int parse(String s) throws Exception {
+		return Integer.parseInt(s);
+	}
+
+	private static boolean isKept(int i) throws Exception {
+		return i % 3 != 0;
+	}
+
+	private static int scale(int i) throws Exception {
+		return i * 7;
+	}
+
+	private static String format(int i) throws Exception {
+		return Integer.toHexString(i);
+	}
+
+	private static boolean isShort(String s) throws Exception {
+		return s.length() < 4;
+	}
+
+	@Benchmark
+	public long uncheckedPerStage() {
+		return elements.stream()
+				.map(Uncheckers.uncheckFunction(CheckedStreamBenchmark::parse))
+				.filter(Uncheckers.uncheckPredicate(CheckedStreamBenchmark::isKept))
+				.map(Uncheckers.uncheckFunction(CheckedStreamBenchmark::scale))
+				.map(Uncheckers.uncheckFunction(CheckedStreamBenchmark::format))
+				.filter(Uncheckers.uncheckPredicate(CheckedStreamBenchmark::isShort))
+				.count();
+	}
+
+	@Benchmark
+	public long checkedStream() throws Exception {
+		return CheckedStream.of(elements.stream())
+				.map(CheckedStreamBenchmark::parse)
+				.filter(CheckedStreamBenchmark::isKept)
+				.map(CheckedStreamBenchmark::scale)
+				.map(CheckedStreamBenchmark::format)
+				.filter(CheckedStreamBenchmark::isShort)
+				.count();
+	}
+}
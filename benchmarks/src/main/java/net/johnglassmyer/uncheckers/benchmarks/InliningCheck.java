@@ -0,0 +1,180 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import net.johnglassmyer.uncheckers.FastUncheckers;
+import net.johnglassmyer.uncheckers.InterruptibleUncheckers;
+import net.johnglassmyer.uncheckers.IoUncheckers;
+import net.johnglassmyer.uncheckers.Uncheckers;
+
+/**
+ * Runs a workload calling uncheckers in a JVM launched with {@code -XX:+PrintInlining},
+ * and exits with a failure status unless HotSpot reports inlining each unchecker into its
+ * caller at least once, and never refuses to inline one for being too big.
+ *
+ * <p>Complements the {@code check-inlining} goal, which limits the bytecode size of every
+ * generated method at build time, by confirming that the JIT compiler in use agrees.
+ * Run it with:
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar net.johnglassmyer.uncheckers.benchmarks.InliningCheck
+ * </pre>
+ */
+public class InliningCheck {
+	private static final int ROUNDS = 20;
+	private static final int ITERATIONS = 100_000;
+
+	/** The methods expected to be inlined, as HotSpot names them. */
+	private static final List<String> WRAPPERS = Arrays.asList(
+			"net.johnglassmyer.uncheckers.Uncheckers$CheckedFunction::apply",
+			"net.johnglassmyer.uncheckers.Uncheckers::callUncheckedSupplier",
+			"net.johnglassmyer.uncheckers.IoUncheckers$CheckedIoFunction::apply",
+			"net.johnglassmyer.uncheckers.IoUncheckers$CheckedIoToIntFunction::applyAsInt",
+			"net.johnglassmyer.uncheckers.IoUncheckers::callUncheckedIoIntBinaryOperator",
+			"net.johnglassmyer.uncheckers.FastUncheckers$CheckedFastFunction::apply",
+			"net.johnglassmyer.uncheckers.InterruptibleUncheckers$CheckedInterruptibleSupplier::get");
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length == 1 && args[0].equals("workload")) {
+			runWorkload();
+			return;
+		}
+
+		List<String> command = Arrays.asList(
+				Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+				"-XX:+UnlockDiagnosticVMOptions",
+				"-XX:+PrintInlining",
+				"-cp", System.getProperty("java.class.path"),
+				InliningCheck.class.getName(),
+				"workload");
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+		Map<String, Integer> inlinedCounts = new LinkedHashMap<>();
+		for (String wrapper : WRAPPERS) {
+			inlinedCounts.put(wrapper, 0);
+		}
+		List<String> tooBigReports = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), Charset.defaultCharset()))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				for (String wrapper : WRAPPERS) {
+					if (!line.contains(wrapper + " ")) {
+						continue;
+					}
+					// such as "@ 7   ...::apply (18 bytes)   inline (hot)"
+					String decision = line.substring(line.indexOf("bytes)") + "bytes)".length())
+							.trim();
+					if (decision.startsWith("inline")) {
+						inlinedCounts.merge(wrapper, 1, Integer::sum);
+					} else if (decision.contains("too big") || decision.contains("too large")) {
+						tooBigReports.add(line.trim());
+					}
+				}
+			}
+		}
+		int exitStatus = process.waitFor();
+		if (exitStatus != 0) {
+			System.out.println(String.format("workload exited with status %d", exitStatus));
+			System.exit(1);
+		}
+
+		boolean passed = tooBigReports.isEmpty();
+		for (Map.Entry<String, Integer> inlinedCount : inlinedCounts.entrySet()) {
+			System.out.println(String.format(
+					"%s inlined %d times", inlinedCount.getKey(), inlinedCount.getValue()));
+			passed &= inlinedCount.getValue() > 0;
+		}
+		for (String tooBigReport : tooBigReports) {
+			System.out.println(String.format("not inlined: %s", tooBigReport));
+		}
+		System.exit(passed ? 0 : 1);
+	}
+
+	/**
+	 * Calls each unchecker from its own loop, so that each call site sees a single receiver
+	 * class and becomes hot enough to compile.
+	 */
+	private static void runWorkload() {
+		long sum = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			sum += callUncheckersFunction(Uncheckers.uncheckFunction(i -> i + 1));
+			sum += callUncheckersCallUncheckedSupplier();
+			sum += callIoUncheckersFunction(IoUncheckers.uncheckIoFunction(i -> i + 2));
+			sum += callIoUncheckersToIntFunction(IoUncheckers.uncheckIoToIntFunction(i -> i + 3));
+			sum += callIoUncheckersCallUncheckedIntBinaryOperator();
+			sum += callFastUncheckersFunction(FastUncheckers.uncheckFastFunction(i -> i + 4));
+			sum += callInterruptibleUncheckersSupplier(
+					InterruptibleUncheckers.uncheckInterruptibleSupplier(() -> 5));
+		}
+		System.out.println(String.format("workload sum %d", sum));
+	}
+
+	private static long callUncheckersFunction(Function<Integer, Integer> function) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += function.apply(i);
+		}
+		return sum;
+	}
+
+	private static long callUncheckersCallUncheckedSupplier() {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += Uncheckers.callUncheckedSupplier(() -> 1);
+		}
+		return sum;
+	}
+
+	private static long callIoUncheckersFunction(Function<Integer, Integer> function) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += function.apply(i);
+		}
+		return sum;
+	}
+
+	private static long callIoUncheckersToIntFunction(ToIntFunction<Integer> function) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += function.applyAsInt(i);
+		}
+		return sum;
+	}
+
+	private static long callIoUncheckersCallUncheckedIntBinaryOperator() {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += IoUncheckers.callUncheckedIoIntBinaryOperator((l, r) -> l + r, i, i);
+		}
+		return sum;
+	}
+
+	private static long callFastUncheckersFunction(Function<Integer, Integer> function) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += function.apply(i);
+		}
+		return sum;
+	}
+
+	private static long callInterruptibleUncheckersSupplier(Supplier<Integer> supplier) {
+		long sum = 0;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sum += supplier.get();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,65 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.johnglassmyer.uncheckers.InstrumentedUncheckers;
+import net.johnglassmyer.uncheckers.Uncheckers;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedFunction;
+
+/**
+ * Measures the overhead of {@link InstrumentedUncheckers}' recording on the success path,
+ * from four threads sharing one call site: an uninstrumented unchecked function, an
+ * instrumented one held ({@code instrumented_held}), and an instrumented
+ * {@code callUnchecked} method looking up its call site for every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class InstrumentedUncheckersBenchmark {
+	private final Object objectValue = "42";
+
+	private CheckedFunction<Object, Object> checkedFunction;
+	private Function<Object, Object> uninstrumented;
+	private Function<Object, Object> instrumented;
+
+	@Setup
+	public void setUp() {
+		checkedFunction = o -> o;
+		uninstrumented = Uncheckers.uncheckFunction(checkedFunction);
+		instrumented = InstrumentedUncheckers.uncheckInstrumentedFunction(
+				"benchmark", checkedFunction);
+	}
+
+	@Benchmark
+	public Object uninstrumented() {
+		return uninstrumented.apply(objectValue);
+	}
+
+	@Benchmark
+	public Object instrumented_held() {
+		return instrumented.apply(objectValue);
+	}
+
+	@Benchmark
+	public Object instrumented_callUnchecked() {
+		return InstrumentedUncheckers.callUncheckedInstrumentedFunction(
+				"benchmark", checkedFunction, objectValue);
+	}
+}
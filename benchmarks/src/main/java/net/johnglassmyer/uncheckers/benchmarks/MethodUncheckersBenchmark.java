@@ -0,0 +1,89 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.johnglassmyer.uncheckers.MethodUncheckers;
+
+/**
+ * Measures reading the properties of a record through getters, as a serializer would:
+ * called directly, through {@link Method#invoke}, and through views from
+ * {@link MethodUncheckers}, both held ({@code view}) and looked up from the cache
+ * for every call ({@code viewPerCall}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodUncheckersBenchmark {
+	public static class Record {
+		private final int id;
+		private final String name;
+
+		public Record(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	private Record record;
+	private Method getId;
+	private Method getName;
+	private ToIntFunction<Record> getIdView;
+	private Function<Record, String> getNameView;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		record = new Record(42, "forty-two");
+		getId = Record.class.getMethod("getId");
+		getName = Record.class.getMethod("getName");
+		getIdView = MethodUncheckers.uncheckMethodAsToIntFunction(getId);
+		getNameView = MethodUncheckers.uncheckMethodAsFunction(getName);
+	}
+
+	@Benchmark
+	public int direct() {
+		return record.getId() + record.getName().length();
+	}
+
+	@Benchmark
+	public int methodInvoke() throws IllegalAccessException, InvocationTargetException {
+		return (Integer) getId.invoke(record) + ((String) getName.invoke(record)).length();
+	}
+
+	@Benchmark
+	public int view() {
+		return getIdView.applyAsInt(record) + getNameView.apply(record).length();
+	}
+
+	@Benchmark
+	public int viewPerCall() {
+		ToIntFunction<Record> getIdView = MethodUncheckers.uncheckMethodAsToIntFunction(getId);
+		Function<Record, String> getNameView = MethodUncheckers.uncheckMethodAsFunction(getName);
+		return getIdView.applyAsInt(record) + getNameView.apply(record).length();
+	}
+}
@@ -0,0 +1,96 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.johnglassmyer.uncheckers.Uncheckers;
+import net.johnglassmyer.uncheckers.function.FloatBinaryOperator;
+import net.johnglassmyer.uncheckers.function.IntIntConsumer;
+import net.johnglassmyer.uncheckers.function.ObjIntPredicate;
+
+/**
+ * Measures the uncheckers of primitive SAM types against those of the boxed SAM types
+ * which would otherwise be used for the same shapes, with arguments varying outside the
+ * cache of {@code Integer.valueOf}. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveSamTypesBenchmark {
+	private int intValue = 1_000;
+	private float floatValue = 42.0f;
+	private String stringValue = "42";
+
+	private FloatBinaryOperator floatBinaryOperator;
+	private BinaryOperator<Float> boxedFloatBinaryOperator;
+	private ObjIntPredicate<String> objIntPredicate;
+	private BiPredicate<String, Integer> boxedObjIntPredicate;
+	private IntIntConsumer intIntConsumer;
+	private BiConsumer<Integer, Integer> boxedIntIntConsumer;
+
+	private int consumedSum;
+
+	@Setup
+	public void setUp() {
+		floatBinaryOperator = Uncheckers.uncheckFloatBinaryOperator((a, b) -> a * b);
+		boxedFloatBinaryOperator = Uncheckers.uncheckBinaryOperator((a, b) -> a * b);
+		objIntPredicate = Uncheckers.uncheckObjIntPredicate((s, i) -> s.length() < i);
+		boxedObjIntPredicate = Uncheckers.uncheckBiPredicate((s, i) -> s.length() < i);
+		intIntConsumer = Uncheckers.uncheckIntIntConsumer((a, b) -> consumedSum += a ^ b);
+		boxedIntIntConsumer = Uncheckers.uncheckBiConsumer((a, b) -> consumedSum += a ^ b);
+	}
+
+	private int nextInt() {
+		intValue = intValue == Integer.MAX_VALUE ? 1_000 : intValue + 1;
+		return intValue;
+	}
+
+	@Benchmark
+	public void FloatBinaryOperator_primitive(Blackhole bh) {
+		bh.consume(floatBinaryOperator.applyAsFloat(floatValue, nextInt()));
+	}
+
+	@Benchmark
+	public void FloatBinaryOperator_boxed(Blackhole bh) {
+		bh.consume(boxedFloatBinaryOperator.apply(floatValue, (float) nextInt()));
+	}
+
+	@Benchmark
+	public void ObjIntPredicate_primitive(Blackhole bh) {
+		bh.consume(objIntPredicate.test(stringValue, nextInt()));
+	}
+
+	@Benchmark
+	public void ObjIntPredicate_boxed(Blackhole bh) {
+		bh.consume(boxedObjIntPredicate.test(stringValue, nextInt()));
+	}
+
+	@Benchmark
+	public int IntIntConsumer_primitive() {
+		intIntConsumer.accept(nextInt(), intValue);
+		return consumedSum;
+	}
+
+	@Benchmark
+	public int IntIntConsumer_boxed() {
+		boxedIntIntConsumer.accept(nextInt(), intValue);
+		return consumedSum;
+	}
+}
@@ -0,0 +1,125 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.johnglassmyer.uncheckers.RuntimeUncheckers;
+import net.johnglassmyer.uncheckers.Uncheckers;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedFunction;
+
+/**
+ * Measures {@link RuntimeUncheckers} against the statically generated
+ * {@link Uncheckers#uncheckFunction} and against a naive {@link Proxy} calling the checked
+ * method reflectively, both unchecking once ({@code *_call}) and for every call
+ * ({@code *_uncheckPerCall}), on the success path ({@code failing=false})
+ * and on the throwing path ({@code failing=true}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RuntimeUncheckersBenchmark {
+	@Param({"false", "true"})
+	public boolean failing;
+
+	private Object objectValue = "42";
+	private Exception checkedException;
+
+	private CheckedFunction<Object, Object> checkedFunction;
+	private Function<Object, Object> staticUnchecked;
+	private Function<Object, Object> runtimeUnchecked;
+	private Function<Object, Object> proxyUnchecked;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		checkedException = new Exception("benchmark");
+		checkedFunction = o -> {
+			if (failing) {
+				throw checkedException;
+			}
+			return o;
+		};
+
+		staticUnchecked = Uncheckers.uncheckFunction(checkedFunction);
+		runtimeUnchecked = runtimeUncheck(checkedFunction);
+		proxyUnchecked = proxyUncheck(checkedFunction);
+	}
+
+	@Benchmark
+	public void static_call(Blackhole bh) {
+		call(bh, staticUnchecked);
+	}
+
+	@Benchmark
+	public void runtime_call(Blackhole bh) {
+		call(bh, runtimeUnchecked);
+	}
+
+	@Benchmark
+	public void proxy_call(Blackhole bh) {
+		call(bh, proxyUnchecked);
+	}
+
+	@Benchmark
+	public void static_uncheckPerCall(Blackhole bh) {
+		call(bh, Uncheckers.uncheckFunction(checkedFunction));
+	}
+
+	@Benchmark
+	public void runtime_uncheckPerCall(Blackhole bh) {
+		call(bh, runtimeUncheck(checkedFunction));
+	}
+
+	@Benchmark
+	public void proxy_uncheckPerCall(Blackhole bh) throws NoSuchMethodException {
+		call(bh, proxyUncheck(checkedFunction));
+	}
+
+	private void call(Blackhole bh, Function<Object, Object> function) {
+		try {
+			bh.consume(function.apply(objectValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> runtimeUncheck(Object checkedImpl) {
+		return RuntimeUncheckers.uncheck(Function.class, checkedImpl);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> proxyUncheck(
+			CheckedFunction<Object, Object> checkedImpl) throws NoSuchMethodException {
+		Method checkedMethod = CheckedFunction.class.getMethod("applyChecked", Object.class);
+
+		return (Function<Object, Object>) Proxy.newProxyInstance(
+				Function.class.getClassLoader(),
+				new Class<?>[] { Function.class },
+				(proxy, method, args) -> {
+					try {
+						return checkedMethod.invoke(checkedImpl, args);
+					} catch (InvocationTargetException e) {
+						throw new RuntimeException(e.getCause());
+					}
+				});
+	}
+}
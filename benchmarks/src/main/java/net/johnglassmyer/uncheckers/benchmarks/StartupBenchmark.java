@@ -0,0 +1,172 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures, in freshly launched JVMs, the time to first call a dozen unchecked SAM types
+ * decorated by generated lambdas ({@link LambdaDecoratingUncheckers}), each bootstrapped
+ * through {@code invokedynamic} on first use, and by generated nested classes
+ * ({@link ClassDecoratingUncheckers}). The checked lambdas being decorated are created
+ * beforehand, outside the measurement, as they are the same for both.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+	@State(Scope.Benchmark)
+	public static class LambdaDecorated {
+		LambdaDecoratingUncheckers.CheckedFunction<Object, Object> function;
+		LambdaDecoratingUncheckers.CheckedBiFunction<Object, Object, Object> biFunction;
+		LambdaDecoratingUncheckers.CheckedSupplier<Object> supplier;
+		LambdaDecoratingUncheckers.CheckedConsumer<Object> consumer;
+		LambdaDecoratingUncheckers.CheckedBiConsumer<Object, Object> biConsumer;
+		LambdaDecoratingUncheckers.CheckedPredicate<Object> predicate;
+		LambdaDecoratingUncheckers.CheckedBiPredicate<Object, Object> biPredicate;
+		LambdaDecoratingUncheckers.CheckedRunnable runnable;
+		LambdaDecoratingUncheckers.CheckedUnaryOperator<Object> unaryOperator;
+		LambdaDecoratingUncheckers.CheckedIntFunction<Object> intFunction;
+		LambdaDecoratingUncheckers.CheckedToIntFunction<Object> toIntFunction;
+		LambdaDecoratingUncheckers.CheckedComparator<Object> comparator;
+
+		@Setup
+		public void setUp() {
+			function = o -> o;
+			biFunction = (o, p) -> o;
+			supplier = () -> "42";
+			consumer = o -> {};
+			biConsumer = (o, p) -> {};
+			predicate = o -> true;
+			biPredicate = (o, p) -> true;
+			runnable = () -> {};
+			unaryOperator = o -> o;
+			intFunction = i -> "42";
+			toIntFunction = o -> 42;
+			comparator = (o, p) -> 0;
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class ClassDecorated {
+		ClassDecoratingUncheckers.CheckedFunction<Object, Object> function;
+		ClassDecoratingUncheckers.CheckedBiFunction<Object, Object, Object> biFunction;
+		ClassDecoratingUncheckers.CheckedSupplier<Object> supplier;
+		ClassDecoratingUncheckers.CheckedConsumer<Object> consumer;
+		ClassDecoratingUncheckers.CheckedBiConsumer<Object, Object> biConsumer;
+		ClassDecoratingUncheckers.CheckedPredicate<Object> predicate;
+		ClassDecoratingUncheckers.CheckedBiPredicate<Object, Object> biPredicate;
+		ClassDecoratingUncheckers.CheckedRunnable runnable;
+		ClassDecoratingUncheckers.CheckedUnaryOperator<Object> unaryOperator;
+		ClassDecoratingUncheckers.CheckedIntFunction<Object> intFunction;
+		ClassDecoratingUncheckers.CheckedToIntFunction<Object> toIntFunction;
+		ClassDecoratingUncheckers.CheckedComparator<Object> comparator;
+
+		@Setup
+		public void setUp() {
+			function = o -> o;
+			biFunction = (o, p) -> o;
+			supplier = () -> "42";
+			consumer = o -> {};
+			biConsumer = (o, p) -> {};
+			predicate = o -> true;
+			biPredicate = (o, p) -> true;
+			runnable = () -> {};
+			unaryOperator = o -> o;
+			intFunction = i -> "42";
+			toIntFunction = o -> 42;
+			comparator = (o, p) -> 0;
+		}
+	}
+
+	@Benchmark
+	public void lambdaDecorated(LambdaDecorated s, Blackhole bh) {
+		Function<Object, Object> function = LambdaDecoratingUncheckers.uncheckFunction(s.function);
+		BiFunction<Object, Object, Object> biFunction =
+				LambdaDecoratingUncheckers.uncheckBiFunction(s.biFunction);
+		Supplier<Object> supplier = LambdaDecoratingUncheckers.uncheckSupplier(s.supplier);
+		Consumer<Object> consumer = LambdaDecoratingUncheckers.uncheckConsumer(s.consumer);
+		BiConsumer<Object, Object> biConsumer =
+				LambdaDecoratingUncheckers.uncheckBiConsumer(s.biConsumer);
+		Predicate<Object> predicate = LambdaDecoratingUncheckers.uncheckPredicate(s.predicate);
+		BiPredicate<Object, Object> biPredicate =
+				LambdaDecoratingUncheckers.uncheckBiPredicate(s.biPredicate);
+		Runnable runnable = LambdaDecoratingUncheckers.uncheckRunnable(s.runnable);
+		UnaryOperator<Object> unaryOperator =
+				LambdaDecoratingUncheckers.uncheckUnaryOperator(s.unaryOperator);
+		IntFunction<Object> intFunction = LambdaDecoratingUncheckers.uncheckIntFunction(s.intFunction);
+		ToIntFunction<Object> toIntFunction =
+				LambdaDecoratingUncheckers.uncheckToIntFunction(s.toIntFunction);
+		Comparator<Object> comparator = LambdaDecoratingUncheckers.uncheckComparator(s.comparator);
+
+		bh.consume(function.apply(bh));
+		bh.consume(biFunction.apply(bh, bh));
+		bh.consume(supplier.get());
+		consumer.accept(bh);
+		biConsumer.accept(bh, bh);
+		bh.consume(predicate.test(bh));
+		bh.consume(biPredicate.test(bh, bh));
+		runnable.run();
+		bh.consume(unaryOperator.apply(bh));
+		bh.consume(intFunction.apply(42));
+		bh.consume(toIntFunction.applyAsInt(bh));
+		bh.consume(comparator.compare(bh, bh));
+	}
+
+	@Benchmark
+	public void classDecorated(ClassDecorated s, Blackhole bh) {
+		Function<Object, Object> function = ClassDecoratingUncheckers.uncheckFunction(s.function);
+		BiFunction<Object, Object, Object> biFunction =
+				ClassDecoratingUncheckers.uncheckBiFunction(s.biFunction);
+		Supplier<Object> supplier = ClassDecoratingUncheckers.uncheckSupplier(s.supplier);
+		Consumer<Object> consumer = ClassDecoratingUncheckers.uncheckConsumer(s.consumer);
+		BiConsumer<Object, Object> biConsumer =
+				ClassDecoratingUncheckers.uncheckBiConsumer(s.biConsumer);
+		Predicate<Object> predicate = ClassDecoratingUncheckers.uncheckPredicate(s.predicate);
+		BiPredicate<Object, Object> biPredicate =
+				ClassDecoratingUncheckers.uncheckBiPredicate(s.biPredicate);
+		Runnable runnable = ClassDecoratingUncheckers.uncheckRunnable(s.runnable);
+		UnaryOperator<Object> unaryOperator =
+				ClassDecoratingUncheckers.uncheckUnaryOperator(s.unaryOperator);
+		IntFunction<Object> intFunction = ClassDecoratingUncheckers.uncheckIntFunction(s.intFunction);
+		ToIntFunction<Object> toIntFunction =
+				ClassDecoratingUncheckers.uncheckToIntFunction(s.toIntFunction);
+		Comparator<Object> comparator = ClassDecoratingUncheckers.uncheckComparator(s.comparator);
+
+		bh.consume(function.apply(bh));
+		bh.consume(biFunction.apply(bh, bh));
+		bh.consume(supplier.get());
+		consumer.accept(bh);
+		biConsumer.accept(bh, bh);
+		bh.consume(predicate.test(bh));
+		bh.consume(biPredicate.test(bh, bh));
+		runnable.run();
+		bh.consume(unaryOperator.apply(bh));
+		bh.consume(intFunction.apply(42));
+		bh.consume(toIntFunction.applyAsInt(bh));
+		bh.consume(comparator.compare(bh, bh));
+	}
+}
@@ -0,0 +1,87 @@
+package net.johnglassmyer.uncheckers.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.johnglassmyer.uncheckers.FastIoUncheckers;
+import net.johnglassmyer.uncheckers.FastIoUncheckers.CheckedFastIoSupplier;
+import net.johnglassmyer.uncheckers.IoUncheckers;
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoSupplier;
+
+/**
+ * Measures the throwing path of {@link IoUncheckers} against that of {@link FastIoUncheckers}
+ * at several stack depths, the cost of capturing a stack trace growing with the depth.
+ *
+ * <p>With {@code freshCause=true} each call throws a newly-constructed {@link IOException},
+ * as a failing IO operation would, so that the cost of wrapping can be seen
+ * relative to the cost of the checked exception itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WrapperStackTraceBenchmark {
+	@Param({"8", "64", "256"})
+	public int depth;
+
+	@Param({"false", "true"})
+	public boolean freshCause;
+
+	private IOException preallocatedCause;
+	private CheckedIoSupplier<Object> checkedIoSupplier;
+	private CheckedFastIoSupplier<Object> checkedFastIoSupplier;
+
+	@Setup
+	public void setUp() {
+		preallocatedCause = new IOException("benchmark");
+		checkedIoSupplier = () -> {
+			throw cause();
+		};
+		checkedFastIoSupplier = () -> {
+			throw cause();
+		};
+	}
+
+	@Benchmark
+	public Object ioUncheckers() {
+		return callAtDepth(depth, true);
+	}
+
+	@Benchmark
+	public Object fastIoUncheckers() {
+		return callAtDepth(depth, false);
+	}
+
+	private Object callAtDepth(int remainingDepth, boolean useIoUncheckers) {
+		if (remainingDepth > 0) {
+			return callAtDepth(remainingDepth - 1, useIoUncheckers);
+		}
+
+		try {
+			return useIoUncheckers
+					? IoUncheckers.callUncheckedIoSupplier(checkedIoSupplier)
+					: FastIoUncheckers.callUncheckedFastIoSupplier(checkedFastIoSupplier);
+		} catch (UncheckedIOException e) {
+			return e;
+		}
+	}
+
+	private IOException cause() {
+		return freshCause ? new IOException("benchmark") : preallocatedCause;
+	}
+}
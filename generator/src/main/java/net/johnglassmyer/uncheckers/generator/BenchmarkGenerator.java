@@ -0,0 +1,253 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates a JMH benchmark class measuring the {@code uncheck} and {@code callUnchecked}
+ * methods which {@link Generator} generates for a given {@link UncheckersConfiguration},
+ * alongside a plain lambda and a hand-written try/catch block as baselines,
+ * both throwing an instance of the given baseline unchecked exception type.
+ */
+class BenchmarkGenerator {
+	public static String generate(
+			List<SamType> samTypes,
+			UncheckersConfiguration configuration,
+			Class<? extends RuntimeException> baselineUncheckedExceptionClass,
+			String benchmarkPackageName,
+			String benchmarkClassName) {
+		String checkedExceptionName = Generator.simpleNameOf(configuration.checkedExceptionClassName);
+		String uncheckedExceptionName = baselineUncheckedExceptionClass.getSimpleName();
+
+		StringBuilder fields = new StringBuilder();
+		StringBuilder setUp = new StringBuilder();
+		StringBuilder benchmarks = new StringBuilder();
+
+		for (SamType samType : samTypes) {
+			String samTypeSimpleName = samType.getSimpleName();
+			int typeParameterCount = samType.getTypeParameterNames().size();
+			String typeArgs = typeParameterCount > 0
+					? "<" + String.join(", ", Collections.nCopies(typeParameterCount, "Object")) + ">"
+					: "";
+
+			boolean isVoid = samType.returnsVoid();
+			String returnValue = valueForType(samType.getReturnTypeName());
+			List<String> argValues = samType.getParameterTypeNames().stream()
+					.map(BenchmarkGenerator::valueForType)
+					.collect(Collectors.toList());
+			String joinedArgValues = String.join(", ", argValues);
+			String lambdaParams = IntStream.range(0, argValues.size())
+					.mapToObj(i -> "a" + i)
+					.collect(Collectors.joining(", "));
+
+			String checkedInterfaceName =
+					configuration.samTypeNameToCheckedInterfaceName.apply(samTypeSimpleName);
+			String checkedFieldName = "checked" + samTypeSimpleName;
+			String plainFieldName = "plain" + samTypeSimpleName;
+			String uncheckedFieldName = "unchecked" + samTypeSimpleName;
+			String uncheckCall = String.format("%s.%s(%s)",
+					configuration.uncheckersEnclosingClassName,
+					configuration.samTypeNameToUncheckMethodName.apply(samTypeSimpleName),
+					checkedFieldName);
+
+			fields.append(String.format(
+					"\n\tprivate %s%s %s;"
+					+ "\n\tprivate %s.%s%s %s;"
+					+ "\n\tprivate %s%s %s;",
+					samTypeSimpleName, typeArgs, plainFieldName,
+					configuration.uncheckersEnclosingClassName, checkedInterfaceName, typeArgs,
+					checkedFieldName,
+					samTypeSimpleName, typeArgs, uncheckedFieldName));
+
+			setUp.append(String.format(
+					"\n"
+					+ "\n\t\t%s = (%s) -> {"
+					+ "\n\t\t\tif (failing) {"
+					+ "\n\t\t\t\tthrow uncheckedException;"
+					+ "\n\t\t\t}%s"
+					+ "\n\t\t};"
+					+ "\n\t\t%s = (%s) -> {"
+					+ "\n\t\t\tif (failing) {"
+					+ "\n\t\t\t\tthrow checkedException;"
+					+ "\n\t\t\t}%s"
+					+ "\n\t\t};"
+					+ "\n\t\t%s = %s;",
+					plainFieldName,
+					lambdaParams,
+					isVoid ? "" : "\n\t\t\treturn " + returnValue + ";",
+					checkedFieldName,
+					lambdaParams,
+					isVoid ? "" : "\n\t\t\treturn " + returnValue + ";",
+					uncheckedFieldName,
+					uncheckCall));
+
+			String callCheckedStatement = consume(isVoid, String.format("%s.%s(%s)",
+					checkedFieldName,
+					Generator.checkedMethodName(
+							samType.getMethodName(),
+							configuration.checkedInterfacesExtendSamTypes),
+					joinedArgValues));
+
+			benchmarks.append(generateBenchmarkMethod(
+					samTypeSimpleName + "_lambda",
+					consume(isVoid, String.format("%s.%s(%s)",
+							plainFieldName, samType.getMethodName(), joinedArgValues))));
+
+			benchmarks.append(generateBenchmarkMethod(
+					samTypeSimpleName + "_tryCatch",
+					String.format(
+							"try {"
+							+ "\n\t\t\t\t%s"
+							+ "\n\t\t\t} catch (%s e) {"
+							+ "\n\t\t\t\tthrow new %s(e);"
+							+ "\n\t\t\t}",
+							callCheckedStatement,
+							checkedExceptionName,
+							uncheckedExceptionName)));
+
+			benchmarks.append(generateBenchmarkMethod(
+					samTypeSimpleName + "_uncheck",
+					consume(isVoid, String.format("%s.%s(%s)",
+							uncheckedFieldName, samType.getMethodName(), joinedArgValues))));
+
+			benchmarks.append(generateBenchmarkMethod(
+					samTypeSimpleName + "_uncheckPerCall",
+					consume(isVoid, String.format("%s.%s(%s)",
+							uncheckCall, samType.getMethodName(), joinedArgValues))));
+
+			benchmarks.append(generateBenchmarkMethod(
+					samTypeSimpleName + "_callUnchecked",
+					consume(isVoid, String.format("%s.%s(%s%s)",
+							configuration.uncheckersEnclosingClassName,
+							configuration.samTypeNameToCallUncheckedMethodName.apply(
+									samTypeSimpleName),
+							checkedFieldName,
+							(joinedArgValues.isEmpty() ? "" : ", ") + joinedArgValues))));
+		}
+
+		StringBuilder samTypeImports = new StringBuilder();
+		for (SamType samType : samTypes) {
+			samTypeImports.append(String.format("\nimport %s;", samType.getQualifiedName()));
+		}
+
+		return String.format(
+				"// generated by %s"
+				+ "\npackage %s;"
+				+ "\n"
+				+ "\nimport java.util.concurrent.TimeUnit;"
+				+ "\n"
+				+ "\nimport org.openjdk.jmh.annotations.Benchmark;"
+				+ "\nimport org.openjdk.jmh.annotations.BenchmarkMode;"
+				+ "\nimport org.openjdk.jmh.annotations.Fork;"
+				+ "\nimport org.openjdk.jmh.annotations.Measurement;"
+				+ "\nimport org.openjdk.jmh.annotations.Mode;"
+				+ "\nimport org.openjdk.jmh.annotations.OutputTimeUnit;"
+				+ "\nimport org.openjdk.jmh.annotations.Param;"
+				+ "\nimport org.openjdk.jmh.annotations.Scope;"
+				+ "\nimport org.openjdk.jmh.annotations.Setup;"
+				+ "\nimport org.openjdk.jmh.annotations.State;"
+				+ "\nimport org.openjdk.jmh.annotations.Warmup;"
+				+ "\nimport org.openjdk.jmh.infra.Blackhole;"
+				+ "\n"
+				+ "\n// uncheckers class under test"
+				+ "\nimport %s;"
+				+ "\n"
+				+ "\n// checked exception type"
+				+ "\nimport %s;"
+				+ "\n"
+				+ "\n// unchecked exception type"
+				+ "\nimport %s;"
+				+ "\n"
+				+ "\n// SAM types%s"
+				+ "\n"
+				+ "\n/**"
+				+ "\n * Measures the uncheckers of {@link %s %s}"
+				+ "\n * against plain lambdas and hand-written try/catch blocks,"
+				+ "\n * on the success path ({@code failing=false})"
+				+ "\n * and on the throwing path ({@code failing=true})."
+				+ "\n *"
+				+ "\n * <p>Exceptions thrown by the benchmarked lambdas are preallocated,"
+				+ "\n * so that the throwing path measures only the cost of unchecking."
+				+ "\n */"
+				+ "\n@BenchmarkMode(Mode.Throughput)"
+				+ "\n@OutputTimeUnit(TimeUnit.MICROSECONDS)"
+				+ "\n@Warmup(iterations = 3, time = 1)"
+				+ "\n@Measurement(iterations = 5, time = 1)"
+				+ "\n@Fork(1)"
+				+ "\n@State(Scope.Thread)"
+				+ "\npublic class %s {"
+				+ "\n\t@Param({\"false\", \"true\"})"
+				+ "\n\tpublic boolean failing;"
+				+ "\n"
+				+ "\n\tprivate boolean booleanValue = true;"
+				+ "\n\tprivate int intValue = 42;"
+				+ "\n\tprivate long longValue = 42L;"
+				+ "\n\tprivate double doubleValue = 42.0;"
+				+ "\n\tprivate Object objectValue = \"42\";"
+				+ "\n"
+				+ "\n\tprivate %s checkedException;"
+				+ "\n\tprivate %s uncheckedException;"
+				+ "\n%s"
+				+ "\n"
+				+ "\n\t@Setup"
+				+ "\n\tpublic void setUp() {"
+				+ "\n\t\tcheckedException = new %s(\"benchmark\");"
+				+ "\n\t\tuncheckedException = new %s(checkedException);%s"
+				+ "\n\t}"
+				+ "%s"
+				+ "\n}"
+				+ "\n",
+				Generator.UNCHECKERS_SITE_URL,
+				benchmarkPackageName,
+				configuration.getQualifiedEnclosingClassName(),
+				configuration.checkedExceptionClassName,
+				baselineUncheckedExceptionClass.getName(),
+				samTypeImports,
+				configuration.getQualifiedEnclosingClassName(),
+				configuration.uncheckersEnclosingClassName,
+				benchmarkClassName,
+				checkedExceptionName,
+				uncheckedExceptionName,
+				fields,
+				checkedExceptionName,
+				uncheckedExceptionName,
+				setUp,
+				benchmarks);
+	}
+
+	private static String generateBenchmarkMethod(
+			String benchmarkName, String statement) {
+		return String.format(
+				"\n"
+				+ "\n\t@Benchmark"
+				+ "\n\tpublic void %s(Blackhole bh) {"
+				+ "\n\t\ttry {"
+				+ "\n\t\t\t%s"
+				+ "\n\t\t} catch (Exception e) {"
+				+ "\n\t\t\tbh.consume(e);"
+				+ "\n\t\t}"
+				+ "\n\t}",
+				benchmarkName,
+				statement);
+	}
+
+	private static String consume(boolean isVoid, String expression) {
+		return isVoid
+				? expression + ";"
+				: "bh.consume(" + expression + ");";
+	}
+
+	private static String valueForType(String typeName) {
+		switch (typeName) {
+			case "boolean":
+			case "int":
+			case "long":
+			case "double":
+				return typeName + "Value";
+			default:
+				return "objectValue";
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.List;
+
+/**
+ * How the catch blocks generated by {@link Generator} dispose of a caught checked exception.
+ */
+public interface CatchStrategy {
+	/**
+	 * Fully-qualified names of classes referred to by the generated catch blocks.
+	 */
+	List<String> getImportedClassNames();
+
+	/**
+	 * Completes "Static helper methods which ..." in the Javadoc of the enclosing class.
+	 */
+	String describeForEnclosingClass(String checkedExceptionClassName);
+
+	/**
+	 * Completes "Decorates ... with a {@code SamType} that ..." in the Javadoc of an unchecker.
+	 */
+	String describeForUncheckMethod(String checkedExceptionClassName);
+
+	/**
+	 * Completes "Calls ... lambda or functional interface instance, ..."
+	 * in the Javadoc of a callUnchecked method.
+	 */
+	String describeForCallUncheckedMethod(String checkedExceptionClassName);
+
+	/**
+	 * The statements of a catch block, at the given indentation,
+	 * having caught a checked exception as the named variable.
+	 */
+	String generateCatchBody(String samTypeSimpleName, String exceptionName, String indentation);
+
+	/**
+	 * Statements preceding each try block whose catch block is generated by
+	 * {@link #generateCatchBody}, at the given indentation and each followed by
+	 * a line break, such as ones declaring variables for use by the catch block.
+	 */
+	default String generateTryPrologue(String indentation) {
+		return "";
+	}
+
+	/**
+	 * Members to be generated into the enclosing class for use by the generated catch blocks.
+	 */
+	default String generateEnclosingClassMembers() {
+		return "";
+	}
+}
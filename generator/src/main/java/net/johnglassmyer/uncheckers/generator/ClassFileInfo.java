@@ -0,0 +1,136 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.ModuleVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * What {@link ClassFileSamTypes} needs to know of a class, read from its class file
+ * without loading it, and skipping its code and debugging information.
+ */
+class ClassFileInfo {
+	static class MethodInfo {
+		final int access;
+		final String name;
+		final String descriptor;
+		final String signature;
+		final List<String> exceptions;
+
+		MethodInfo(
+				int access, String name, String descriptor, String signature, String[] exceptions) {
+			this.access = access;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.signature = signature;
+			this.exceptions = exceptions == null
+					? Collections.emptyList()
+					: Arrays.asList(exceptions);
+		}
+
+		boolean is(int accessFlag) {
+			return (access & accessFlag) != 0;
+		}
+	}
+
+	String internalName;
+	/** access flags, taken from the InnerClasses attribute for a member class */
+	int access;
+	String superName;
+	List<String> interfaces;
+	String signature;
+	/** internal name of the declaring class, for a member class */
+	String outerName;
+	/** simple name, for a member class */
+	String innerName;
+	boolean isLocalOrAnonymous;
+	final List<MethodInfo> methods = new ArrayList<>();
+
+	static ClassFileInfo read(byte[] classFile) {
+		ClassFileInfo info = new ClassFileInfo();
+
+		new ClassReader(classFile).accept(new ClassVisitor(Opcodes.ASM9) {
+			@Override
+			public void visit(
+					int version,
+					int access,
+					String name,
+					String signature,
+					String superName,
+					String[] interfaces) {
+				info.internalName = name;
+				info.access = access;
+				info.superName = superName;
+				info.interfaces = Arrays.asList(interfaces);
+				info.signature = signature;
+			}
+
+			@Override
+			public void visitOuterClass(String owner, String name, String descriptor) {
+				info.isLocalOrAnonymous = true;
+			}
+
+			@Override
+			public void visitInnerClass(
+					String name, String outerName, String innerName, int access) {
+				if (name.equals(info.internalName)) {
+					if (outerName == null || innerName == null) {
+						info.isLocalOrAnonymous = true;
+					} else {
+						info.outerName = outerName;
+						info.innerName = innerName;
+						info.access = access;
+					}
+				}
+			}
+
+			@Override
+			public MethodVisitor visitMethod(
+					int access,
+					String name,
+					String descriptor,
+					String signature,
+					String[] exceptions) {
+				info.methods.add(new MethodInfo(access, name, descriptor, signature, exceptions));
+				return null;
+			}
+		}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+		return info;
+	}
+
+	boolean is(int accessFlag) {
+		return (access & accessFlag) != 0;
+	}
+
+	/**
+	 * Reads the packages (as internal names) which a module exports to all other modules.
+	 */
+	static Set<String> readUnqualifiedExports(byte[] moduleInfoClassFile) {
+		Set<String> exportedPackages = new HashSet<>();
+
+		new ClassReader(moduleInfoClassFile).accept(new ClassVisitor(Opcodes.ASM9) {
+			@Override
+			public ModuleVisitor visitModule(String name, int access, String version) {
+				return new ModuleVisitor(Opcodes.ASM9) {
+					@Override
+					public void visitExport(String packaze, int access, String... modules) {
+						if (modules == null) {
+							exportedPackages.add(packaze);
+						}
+					}
+				};
+			}
+		}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+		return exportedPackages;
+	}
+}
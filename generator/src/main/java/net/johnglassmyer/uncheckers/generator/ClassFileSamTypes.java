@@ -0,0 +1,333 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.Opcodes;
+
+import com.google.common.io.ByteStreams;
+
+import net.johnglassmyer.uncheckers.generator.Signatures.ClassSignature;
+import net.johnglassmyer.uncheckers.generator.Signatures.ClassType;
+import net.johnglassmyer.uncheckers.generator.Signatures.MethodSignature;
+import net.johnglassmyer.uncheckers.generator.Signatures.TypeParameter;
+
+/**
+ * Discovers SAM types by reading class files, from directories, jars, or {@code jrt:/}
+ * modules, without loading them, following the same rules as {@link SamType#fromClass}.
+ *
+ * <p>Class files are read and examined in parallel on the common fork-join pool.
+ * Supertypes not found under the given roots are read from the system class loader's
+ * resources (which include the class files of the JDK) and, failing that, disqualify
+ * their subtypes.
+ */
+public class ClassFileSamTypes {
+	private static final String JRT_PREFIX = "jrt:/";
+
+	private static final Set<String> OBJECT_METHODS = new HashSet<>(Arrays.asList(
+			"equals(Ljava/lang/Object;)Z",
+			"hashCode()I",
+			"toString()Ljava/lang/String;"));
+
+	private final Map<String, Optional<ClassFileInfo>> infoByInternalName =
+			new ConcurrentHashMap<>();
+	/** packages of modules under the roots which their modules do not export */
+	private final Set<String> unexportedPackages = new HashSet<>();
+
+	private ClassFileSamTypes() {}
+
+	/**
+	 * Opens a directory of class files, a jar (as a zip file system),
+	 * or a module of the running JDK given as {@code jrt:/<module name>}.
+	 */
+	public static Path openClassFileRoot(String root) throws IOException {
+		if (root.startsWith(JRT_PREFIX)) {
+			return FileSystems.getFileSystem(URI.create(JRT_PREFIX))
+					.getPath("modules", root.substring(JRT_PREFIX.length()));
+		}
+
+		Path path = Paths.get(root);
+		return Files.isDirectory(path)
+				? path
+				: FileSystems.newFileSystem(path, (ClassLoader) null).getPath("/");
+	}
+
+	/**
+	 * Finds every SAM type declared public (along with any enclosing classes)
+	 * under the given roots, excluding those of packages not exported
+	 * by a root which is a module.
+	 *
+	 * @return SAM types by package name, each list sorted by qualified name
+	 */
+	public static SortedMap<String, List<SamType>> discover(List<Path> roots)
+			throws IOException {
+		ClassFileSamTypes discovery = new ClassFileSamTypes();
+
+		List<Path> classFiles = new ArrayList<>();
+		for (Path root : roots) {
+			List<Path> rootClassFiles;
+			try (Stream<Path> paths = Files.walk(root)) {
+				rootClassFiles = paths
+						.filter(path -> path.toString().endsWith(".class"))
+						.filter(path -> !path.getFileName().toString().contains("-info"))
+						.collect(Collectors.toList());
+			}
+
+			Path moduleInfo = root.resolve("module-info.class");
+			if (Files.exists(moduleInfo)) {
+				Set<String> exportedPackages =
+						ClassFileInfo.readUnqualifiedExports(Files.readAllBytes(moduleInfo));
+				for (Path classFile : rootClassFiles) {
+					String packageInternalName = root.relativize(classFile.getParent()).toString()
+							.replace(classFile.getFileSystem().getSeparator(), "/");
+					if (!exportedPackages.contains(packageInternalName)) {
+						discovery.unexportedPackages.add(packageInternalName.replace('/', '.'));
+					}
+				}
+			}
+
+			classFiles.addAll(rootClassFiles);
+		}
+
+		List<ClassFileInfo> infos;
+		try {
+			infos = classFiles.parallelStream()
+					.map(ClassFileSamTypes::readClassFile)
+					.collect(Collectors.toList());
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		for (ClassFileInfo info : infos) {
+			discovery.infoByInternalName.putIfAbsent(info.internalName, Optional.of(info));
+		}
+
+		List<Map.Entry<String, SamType>> packageNamesAndSamTypes = infos.parallelStream()
+				.filter(discovery::isCandidate)
+				.flatMap(info -> discovery.toSamType(info)
+						.map(samType -> Stream.<Map.Entry<String, SamType>>of(
+								new SimpleImmutableEntry<>(
+										packageNameOf(info.internalName), samType)))
+						.orElseGet(Stream::empty))
+				.collect(Collectors.toList());
+
+		SortedMap<String, List<SamType>> samTypesByPackage = new TreeMap<>();
+		for (Map.Entry<String, SamType> packageNameAndSamType : packageNamesAndSamTypes) {
+			samTypesByPackage
+					.computeIfAbsent(packageNameAndSamType.getKey(), p -> new ArrayList<>())
+					.add(packageNameAndSamType.getValue());
+		}
+
+		for (List<SamType> samTypes : samTypesByPackage.values()) {
+			samTypes.sort(Comparator.comparing(SamType::getQualifiedName));
+		}
+
+		return samTypesByPackage;
+	}
+
+	private static ClassFileInfo readClassFile(Path classFile) {
+		try {
+			return ClassFileInfo.read(Files.readAllBytes(classFile));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Optional<ClassFileInfo> readSystemResource(String internalName) {
+		try (InputStream inputStream =
+				ClassLoader.getSystemResourceAsStream(internalName + ".class")) {
+			return inputStream == null
+					? Optional.empty()
+					: Optional.of(ClassFileInfo.read(ByteStreams.toByteArray(inputStream)));
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static String packageNameOf(String internalName) {
+		int lastSlash = internalName.lastIndexOf('/');
+		return lastSlash < 0 ? "" : internalName.substring(0, lastSlash).replace('/', '.');
+	}
+
+	private Optional<ClassFileInfo> lookUp(String internalName) {
+		return infoByInternalName.computeIfAbsent(
+				internalName, ClassFileSamTypes::readSystemResource);
+	}
+
+	private boolean isCandidate(ClassFileInfo info) {
+		return info.is(Opcodes.ACC_INTERFACE)
+				&& !unexportedPackages.contains(packageNameOf(info.internalName))
+				&& !info.is(Opcodes.ACC_ANNOTATION)
+				&& !info.is(Opcodes.ACC_SYNTHETIC)
+				&& !info.isLocalOrAnonymous
+				&& isAccessible(info);
+	}
+
+	private boolean isAccessible(ClassFileInfo info) {
+		return info.is(Opcodes.ACC_PUBLIC)
+				&& (info.outerName == null
+						|| lookUp(info.outerName).map(this::isAccessible).orElse(false));
+	}
+
+	private String canonicalNameOf(ClassFileInfo info) {
+		return info.outerName == null
+				? info.internalName.replace('/', '.')
+				: canonicalNameOf(lookUp(info.outerName).get()) + "." + info.innerName;
+	}
+
+	private Optional<SamType> toSamType(ClassFileInfo info) {
+		List<String> abstractMethodNames = new ArrayList<>();
+		List<MethodSignature> abstractMethodSignatures = new ArrayList<>();
+		if (!collectAbstractMethods(
+				info,
+				Collections.emptyMap(),
+				new HashSet<>(),
+				abstractMethodNames,
+				abstractMethodSignatures)) {
+			return Optional.empty();
+		}
+
+		if (abstractMethodNames.size() != 1) {
+			return Optional.empty();
+		}
+
+		MethodSignature method = abstractMethodSignatures.get(0);
+
+		// a generic method cannot be implemented by a lambda
+		if (!method.typeParameters.isEmpty()) {
+			return Optional.empty();
+		}
+
+		for (String thrownType : method.thrownTypes) {
+			if (thrownType == null || !isUncheckedThrowable(thrownType)) {
+				return Optional.empty();
+			}
+		}
+
+		return Optional.of(new SamType(
+				canonicalNameOf(info),
+				classSignatureOf(info, Collections.emptyMap()).typeParameters.stream()
+						.map(TypeParameter::declaration)
+						.collect(Collectors.toList()),
+				abstractMethodNames.get(0),
+				method.returnType,
+				method.parameterTypes));
+	}
+
+	/**
+	 * Collects the abstract methods of an interface and its superinterfaces, in terms of
+	 * the interface's own type parameters, skipping those overridden by a subinterface.
+	 *
+	 * @return false if some superinterface could not be found
+	 */
+	private boolean collectAbstractMethods(
+			ClassFileInfo info,
+			Map<String, String> substitution,
+			Set<String> seenMethodKeys,
+			List<String> abstractMethodNames,
+			List<MethodSignature> abstractMethodSignatures) {
+		for (ClassFileInfo.MethodInfo method : info.methods) {
+			if (method.is(Opcodes.ACC_STATIC)
+					|| method.is(Opcodes.ACC_PRIVATE)
+					|| method.is(Opcodes.ACC_SYNTHETIC)
+					|| method.is(Opcodes.ACC_BRIDGE)) {
+				continue;
+			}
+
+			MethodSignature signature = Signatures.parseMethodSignature(
+					method.signature != null ? method.signature : method.descriptor,
+					method.exceptions,
+					substitution);
+
+			if (!seenMethodKeys.add(method.name + signature.parameterTypes)) {
+				continue;
+			}
+
+			if (method.is(Opcodes.ACC_ABSTRACT)
+					&& !OBJECT_METHODS.contains(method.name + method.descriptor)) {
+				abstractMethodNames.add(method.name);
+				abstractMethodSignatures.add(signature);
+			}
+		}
+
+		for (ClassType superinterface : classSignatureOf(info, substitution).superinterfaces) {
+			Optional<ClassFileInfo> superinterfaceInfo = lookUp(superinterface.internalName);
+			if (!superinterfaceInfo.isPresent()) {
+				return false;
+			}
+
+			List<TypeParameter> typeParameters = classSignatureOf(
+					superinterfaceInfo.get(), Collections.emptyMap()).typeParameters;
+			Map<String, String> superinterfaceSubstitution = new HashMap<>();
+			for (int i = 0; i < typeParameters.size(); i++) {
+				TypeParameter typeParameter = typeParameters.get(i);
+				// a raw superinterface is in terms of the erasures of its type parameters
+				superinterfaceSubstitution.put(typeParameter.name,
+						superinterface.typeArguments.isEmpty()
+								? typeParameter.erasure
+								: superinterface.typeArguments.get(i));
+			}
+
+			if (!collectAbstractMethods(
+					superinterfaceInfo.get(),
+					superinterfaceSubstitution,
+					seenMethodKeys,
+					abstractMethodNames,
+					abstractMethodSignatures)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private ClassSignature classSignatureOf(ClassFileInfo info, Map<String, String> substitution) {
+		return info.signature != null
+				? Signatures.parseClassSignature(info.signature, substitution)
+				: new ClassSignature(
+						Collections.emptyList(),
+						info.interfaces.stream()
+								.map(name -> new ClassType(name, Collections.emptyList()))
+								.collect(Collectors.toList()));
+	}
+
+	private boolean isUncheckedThrowable(String internalName) {
+		String name = internalName;
+		while (name != null) {
+			if (name.equals("java/lang/RuntimeException") || name.equals("java/lang/Error")) {
+				return true;
+			}
+
+			Optional<ClassFileInfo> info = lookUp(name);
+			if (!info.isPresent()) {
+				return false;
+			}
+
+			name = info.get().superName;
+		}
+
+		return false;
+	}
+}
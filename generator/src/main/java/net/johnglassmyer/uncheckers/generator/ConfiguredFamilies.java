@@ -0,0 +1,169 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Generates any number of classes of uncheckers, each wrapping one class of checked
+ * exceptions in another of unchecked exceptions, as configured by a properties file
+ * listing the families to generate and giving the settings of each under its prefix:
+ *
+ * <pre>
+ * families = sql, interruptible
+ *
+ * sql.checkedException = java.sql.SQLException
+ * sql.uncheckedException = com.example.UncheckedSqlException
+ * sql.package = com.example
+ * sql.class = SqlUncheckers
+ * sql.checkedInterfacePattern = CheckedSql%s
+ * sql.uncheckMethodPattern = uncheckSql%s
+ * sql.callUncheckedMethodPattern = callUncheckedSql%s
+ *
+ * interruptible.checkedException = java.lang.InterruptedException
+ * interruptible.uncheckedException = net.johnglassmyer.uncheckers.UncheckedInterruptedException
+ * interruptible.restoresInterrupt = true
+ * interruptible.samTypes = Runnable, Supplier, Consumer, Function
+ * ...
+ * </pre>
+ *
+ * <p>Names are {@link String#format} patterns applied to the simple name of each SAM type.
+ * Optional settings are {@code samTypes}, either {@code standard},
+ * {@code standardAndPrimitive} (the default), or a comma-separated list of the simple
+ * names of SAM types of those; {@code checkedInterfacesExtendSamTypes} ({@code true} by
+ * default); and {@code restoresInterrupt} ({@code false} by default), restoring the
+ * interrupt status of the current thread on catching an {@code InterruptedException}.
+ */
+public class ConfiguredFamilies {
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			throw new RuntimeException(
+					"must specify configuration filename and output directory as arguments");
+		}
+		Path configurationPath = Paths.get(args[0]);
+		Path outputDirectory = Paths.get(args[1]);
+
+		for (Map.Entry<String, String> source : generate(read(configurationPath)).entrySet()) {
+			Path outputPath = outputDirectory.resolve(source.getKey());
+			Files.createDirectories(outputPath.getParent());
+			Files.write(outputPath, source.getValue().getBytes(Charsets.UTF_8));
+		}
+	}
+
+	public static Properties read(Path configurationPath) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(configurationPath, Charsets.UTF_8)) {
+			properties.load(reader);
+		}
+		return properties;
+	}
+
+	/**
+	 * The sources of the configured families, by path relative to the source root,
+	 * generated in parallel.
+	 */
+	public static SortedMap<String, String> generate(Properties properties) {
+		List<String> prefixes = splitList(required(properties, "families"));
+
+		List<Supplier<SortedMap<String, String>>> generations = new ArrayList<>();
+		for (String prefix : prefixes) {
+			List<SamType> samTypes = samTypes(properties, prefix);
+			UncheckersConfiguration configuration = configuration(properties, prefix);
+			generations.add(() -> GeneratedSources.uncheckers(samTypes, configuration));
+		}
+
+		return generations.parallelStream()
+				.map(Supplier::get)
+				.collect(TreeMap::new, Map::putAll, Map::putAll);
+	}
+
+	private static UncheckersConfiguration configuration(Properties properties, String prefix) {
+		String checkedExceptionClassName = required(properties, prefix + ".checkedException");
+		CatchStrategy catchStrategy = WrappingCatchStrategy.wrappingIn(
+				required(properties, prefix + ".uncheckedException"));
+		if (optionalBoolean(properties, prefix + ".restoresInterrupt", false)) {
+			catchStrategy = InterruptRestoringCatchStrategy.restoringInterrupt(
+					checkedExceptionClassName, catchStrategy);
+		}
+
+		return new UncheckersConfiguration(
+				checkedExceptionClassName,
+				catchStrategy,
+				required(properties, prefix + ".package"),
+				required(properties, prefix + ".class"),
+				pattern(properties, prefix + ".checkedInterfacePattern"),
+				pattern(properties, prefix + ".uncheckMethodPattern"),
+				pattern(properties, prefix + ".callUncheckedMethodPattern"),
+				optionalBoolean(properties, prefix + ".checkedInterfacesExtendSamTypes", true));
+	}
+
+	private static List<SamType> samTypes(Properties properties, String prefix) {
+		String samTypesValue = properties.getProperty(prefix + ".samTypes", "standardAndPrimitive");
+		if (samTypesValue.trim().equals("standard")) {
+			return SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES);
+		}
+
+		List<SamType> standardAndPrimitiveSamTypes = SamTypes.standardAndPrimitiveSamTypes();
+		if (samTypesValue.trim().equals("standardAndPrimitive")) {
+			return standardAndPrimitiveSamTypes;
+		}
+
+		Map<String, SamType> samTypesBySimpleName = standardAndPrimitiveSamTypes.stream()
+				.collect(Collectors.toMap(SamType::getSimpleName, Function.identity()));
+		List<SamType> samTypes = new ArrayList<>();
+		for (String simpleName : splitList(samTypesValue)) {
+			SamType samType = samTypesBySimpleName.get(simpleName);
+			if (samType == null) {
+				throw new IllegalArgumentException(String.format(
+						"%s.samTypes names unknown SAM type %s", prefix, simpleName));
+			}
+			samTypes.add(samType);
+		}
+		return samTypes;
+	}
+
+	private static Function<String, String> pattern(Properties properties, String key) {
+		String pattern = required(properties, key);
+		if (!pattern.contains("%s")) {
+			throw new IllegalArgumentException(String.format(
+					"%s must contain %%s, for the simple name of each SAM type, but is %s",
+					key, pattern));
+		}
+		return name -> String.format(pattern, name);
+	}
+
+	private static String required(Properties properties, String key) {
+		String value = properties.getProperty(key);
+		if (value == null || value.trim().isEmpty()) {
+			throw new IllegalArgumentException(String.format("%s must be given", key));
+		}
+		return value.trim();
+	}
+
+	private static boolean optionalBoolean(
+			Properties properties, String key, boolean defaultValue) {
+		String value = properties.getProperty(key);
+		return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+	}
+
+	private static List<String> splitList(String value) {
+		return Arrays.stream(value.split(","))
+				.map(String::trim)
+				.filter(element -> !element.isEmpty())
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,125 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.common.base.Charsets;
+
+public class GenerateBenchmarks {
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output directory as argument");
+		}
+		Path outputDirectory = Paths.get(args[0]);
+
+		for (Map.Entry<String, String> source : generate().entrySet()) {
+			Path outputPath = outputDirectory.resolve(source.getKey());
+			Files.createDirectories(outputPath.getParent());
+			Files.write(outputPath, source.getValue().getBytes(Charsets.UTF_8));
+		}
+	}
+
+	/** The benchmark sources, by path relative to the source root. */
+	static SortedMap<String, String> generate() {
+		SortedMap<String, String> sources = new TreeMap<>();
+
+		String benchmarkPackageName = "net.johnglassmyer.uncheckers.benchmarks";
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"UncheckersBenchmark",
+				GenerateUncheckers.CONFIGURATION,
+				RuntimeException.class);
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"IoUncheckersBenchmark",
+				GenerateIoUncheckers.CONFIGURATION,
+				UncheckedIOException.class);
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"FastUncheckersBenchmark",
+				GenerateFastUncheckers.CONFIGURATION,
+				RuntimeException.class);
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"FastIoUncheckersBenchmark",
+				GenerateFastIoUncheckers.CONFIGURATION,
+				UncheckedIOException.class);
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"SneakyUncheckersBenchmark",
+				GenerateSneakyUncheckers.CONFIGURATION,
+				RuntimeException.class);
+
+		putBenchmark(
+				sources,
+				benchmarkPackageName,
+				"TranslatingUncheckersBenchmark",
+				GenerateTranslatingUncheckers.CONFIGURATION,
+				RuntimeException.class);
+
+		// uncheckers decorating with lambdas and with classes, for StartupBenchmark
+		putUncheckers(sources, decoratingConfiguration(
+				benchmarkPackageName, "LambdaDecoratingUncheckers", false));
+		putUncheckers(sources, decoratingConfiguration(
+				benchmarkPackageName, "ClassDecoratingUncheckers", true));
+
+		return sources;
+	}
+
+	private static UncheckersConfiguration decoratingConfiguration(
+			String packageName, String enclosingClassName, boolean decoratorsAreNestedClasses) {
+		return new UncheckersConfiguration(
+				Exception.class.getName(),
+				WrappingCatchStrategy.wrappingIn(RuntimeException.class),
+				packageName,
+				enclosingClassName,
+				name -> String.format("Checked%s", name),
+				name -> String.format("uncheck%s", name),
+				name -> String.format("callUnchecked%s", name),
+				false,
+				null,
+				null,
+				decoratorsAreNestedClasses);
+	}
+
+	private static void putUncheckers(
+			SortedMap<String, String> sources, UncheckersConfiguration configuration) {
+		sources.put(
+				configuration.getQualifiedEnclosingClassName().replace('.', '/') + ".java",
+				Generator.generate(SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), configuration));
+	}
+
+	private static void putBenchmark(
+			SortedMap<String, String> sources,
+			String benchmarkPackageName,
+			String benchmarkClassName,
+			UncheckersConfiguration configuration,
+			Class<? extends RuntimeException> baselineUncheckedExceptionClass) {
+		String generatedSource = BenchmarkGenerator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES),
+				configuration,
+				baselineUncheckedExceptionClass,
+				benchmarkPackageName,
+				benchmarkClassName);
+
+		sources.put(
+				benchmarkPackageName.replace('.', '/') + "/" + benchmarkClassName + ".java",
+				generatedSource);
+	}
+}
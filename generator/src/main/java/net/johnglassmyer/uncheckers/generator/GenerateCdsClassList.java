@@ -0,0 +1,63 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Lists the classes generated into the uncheckers module, in the internal form of a
+ * class list for {@code -XX:SharedClassListFile}, so that they can be added
+ * to an AppCDS archive without a training run:
+ *
+ * <pre>
+ * java -Xshare:dump -XX:SharedClassListFile=uncheckers.classlist \
+ *         -XX:SharedArchiveFile=app.jsa -cp uncheckers.jar:app.jar
+ * </pre>
+ *
+ * Classes spun at run time for lambdas cannot be listed, so uncheckers decorating
+ * with lambdas gain less from the archive than those decorating with nested classes.
+ */
+public class GenerateCdsClassList {
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		List<SamType> standardSamTypes = SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES);
+		List<SamType> standardAndPrimitiveSamTypes = SamTypes.standardAndPrimitiveSamTypes();
+
+		List<String> classNames = new ArrayList<>();
+		for (SamType samType : SamTypes.PRIMITIVE_SAM_TYPES) {
+			classNames.add(samType.getQualifiedName());
+		}
+		classNames.addAll(Generator.generatedClassNames(
+				standardAndPrimitiveSamTypes, GenerateUncheckers.CONFIGURATION));
+		classNames.addAll(Generator.generatedClassNames(
+				standardAndPrimitiveSamTypes, GenerateIoUncheckers.CONFIGURATION));
+		for (UncheckersConfiguration configuration : new UncheckersConfiguration[] {
+				GenerateFastUncheckers.CONFIGURATION,
+				GenerateFastIoUncheckers.CONFIGURATION,
+				GenerateSneakyUncheckers.CONFIGURATION,
+				GenerateTranslatingUncheckers.CONFIGURATION,
+				GenerateInterruptibleUncheckers.CONFIGURATION,
+				GenerateInstrumentedUncheckers.CONFIGURATION,
+				GenerateInstrumentedIoUncheckers.CONFIGURATION }) {
+			classNames.addAll(Generator.generatedClassNames(standardSamTypes, configuration));
+		}
+
+		StringBuilder classList = new StringBuilder(String.format(
+				"# generated by %s\n", Generator.UNCHECKERS_SITE_URL));
+		for (String className : classNames) {
+			classList.append(className.replace('.', '/')).append('\n');
+		}
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, classList.toString().getBytes(Charsets.UTF_8));
+	}
+}
@@ -0,0 +1,121 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Generates, for each package of SAM types found among the class files under the given
+ * roots, a class of uncheckers like {@code Uncheckers}, named after the package
+ * (for example {@code JavaUtilFunctionUncheckers} for {@code java.util.function}).
+ *
+ * <p>Classes are generated in parallel, each streamed directly to its file.
+ */
+public class GenerateDiscoveredUncheckers {
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3) {
+			throw new RuntimeException("must specify output directory, package name,"
+					+ " and one or more class file roots (directories, jars,"
+					+ " or jrt:/<module name>) as arguments");
+		}
+		Path outputDirectory = Paths.get(args[0]);
+		String uncheckersPackageName = args[1];
+
+		long startNanos = System.nanoTime();
+
+		List<Path> roots = new ArrayList<>();
+		for (int i = 2; i < args.length; i++) {
+			roots.add(ClassFileSamTypes.openClassFileRoot(args[i]));
+		}
+
+		SortedMap<String, List<SamType>> samTypesByPackage = ClassFileSamTypes.discover(roots);
+
+		Path packageDirectory = outputDirectory.resolve(uncheckersPackageName.replace('.', '/'));
+		Files.createDirectories(packageDirectory);
+
+		try {
+			samTypesByPackage.entrySet().parallelStream().forEach(packageAndSamTypes -> {
+				try {
+					writeUncheckers(
+							packageDirectory,
+							uncheckersPackageName,
+							packageAndSamTypes.getKey(),
+							packageAndSamTypes.getValue());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		System.out.format("generated uncheckers for %d SAM types in %d packages in %d ms%n",
+				samTypesByPackage.values().stream().mapToInt(List::size).sum(),
+				samTypesByPackage.size(),
+				(System.nanoTime() - startNanos) / 1_000_000);
+	}
+
+	private static void writeUncheckers(
+			Path packageDirectory,
+			String uncheckersPackageName,
+			String samTypesPackageName,
+			List<SamType> samTypes) throws IOException {
+		String uncheckersClassName = classNameForPackage(samTypesPackageName);
+
+		UncheckersConfiguration configuration = new UncheckersConfiguration(
+				Exception.class.getName(),
+				WrappingCatchStrategy.wrappingIn(RuntimeException.class),
+				uncheckersPackageName,
+				uncheckersClassName,
+				name -> String.format("Checked%s", name),
+				name -> String.format("uncheck%s", name),
+				name -> String.format("callUnchecked%s", name),
+				true);
+
+		try (Writer writer = Files.newBufferedWriter(
+				packageDirectory.resolve(uncheckersClassName + ".java"), Charsets.UTF_8)) {
+			Generator.generate(withDistinctSimpleNames(samTypes), configuration, writer);
+		}
+	}
+
+	/**
+	 * Drops any member types sharing the simple name of an earlier SAM type,
+	 * which could not be distinguished within a single class of uncheckers.
+	 */
+	private static List<SamType> withDistinctSimpleNames(List<SamType> samTypes) {
+		Set<String> simpleNames = new HashSet<>();
+		List<SamType> distinct = samTypes.stream()
+				.filter(samType -> simpleNames.add(samType.getSimpleName()))
+				.collect(Collectors.toList());
+
+		samTypes.stream()
+				.filter(samType -> !distinct.contains(samType))
+				.forEach(samType -> System.err.format(
+						"skipping %s, whose simple name is already taken%n", samType));
+
+		return distinct;
+	}
+
+	private static String classNameForPackage(String packageName) {
+		StringBuilder className = new StringBuilder();
+		for (String part : packageName.split("\\.")) {
+			if (!part.isEmpty()) {
+				className.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+			}
+		}
+
+		return className.append("Uncheckers").toString();
+	}
+}
@@ -0,0 +1,34 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateFastIoUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			IOException.class.getName(),
+			WrappingCatchStrategy.wrappingInSamTypeAware(
+					"net.johnglassmyer.uncheckers.StacklessUncheckedIOException"),
+			"net.johnglassmyer.uncheckers",
+			"FastIoUncheckers",
+			name -> String.format("CheckedFastIo%s", name),
+			name -> String.format("uncheckFastIo%s", name),
+			name -> String.format("callUncheckedFastIo%s", name),
+			true);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
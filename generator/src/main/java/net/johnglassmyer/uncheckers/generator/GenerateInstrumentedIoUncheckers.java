@@ -0,0 +1,39 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateInstrumentedIoUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			IOException.class.getName(),
+			WrappingCatchStrategy.wrappingIn(UncheckedIOException.class),
+			"net.johnglassmyer.uncheckers",
+			"InstrumentedIoUncheckers",
+			name -> String.format("CheckedInstrumentedIo%s", name),
+			name -> String.format("uncheckInstrumentedIo%s", name),
+			name -> String.format("callUncheckedInstrumentedIo%s", name),
+			false,
+			null,
+			"net.johnglassmyer.uncheckers.CallSiteMetrics",
+			true,
+			null,
+			GenerateIoUncheckers.CONFIGURATION);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
@@ -0,0 +1,38 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateInstrumentedUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			Exception.class.getName(),
+			WrappingCatchStrategy.wrappingIn(RuntimeException.class),
+			"net.johnglassmyer.uncheckers",
+			"InstrumentedUncheckers",
+			name -> String.format("CheckedInstrumented%s", name),
+			name -> String.format("uncheckInstrumented%s", name),
+			name -> String.format("callUncheckedInstrumented%s", name),
+			false,
+			null,
+			"net.johnglassmyer.uncheckers.CallSiteMetrics",
+			true,
+			null,
+			GenerateUncheckers.CONFIGURATION);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
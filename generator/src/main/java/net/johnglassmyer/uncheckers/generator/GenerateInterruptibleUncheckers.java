@@ -0,0 +1,36 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateInterruptibleUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			InterruptedException.class.getName(),
+			InterruptRestoringCatchStrategy.restoringInterrupt(
+					InterruptedException.class.getName(),
+					WrappingCatchStrategy.wrappingIn(
+							"net.johnglassmyer.uncheckers.UncheckedInterruptedException")),
+			"net.johnglassmyer.uncheckers",
+			"InterruptibleUncheckers",
+			name -> String.format("CheckedInterruptible%s", name),
+			name -> String.format("uncheckInterruptible%s", name),
+			name -> String.format("callUncheckedInterruptible%s", name),
+			true);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
@@ -0,0 +1,89 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Generates the source of each of {@link SamTypes#PRIMITIVE_SAM_TYPES},
+ * for which uncheckers are generated like those of the standard SAM types.
+ */
+public class GeneratePrimitiveSamTypes {
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output directory as argument");
+		}
+		Path outputDirectory = Paths.get(args[0]);
+
+		for (SamType samType : SamTypes.PRIMITIVE_SAM_TYPES) {
+			Path outputPath = outputDirectory
+					.resolve(SamTypes.PRIMITIVE_SAM_TYPES_PACKAGE_NAME.replace('.', '/'))
+					.resolve(samType.getSimpleName() + ".java");
+			Files.createDirectories(outputPath.getParent());
+			Files.write(outputPath, generate(samType).getBytes(Charsets.UTF_8));
+		}
+	}
+
+	static String generate(SamType samType) {
+		return String.format(
+				"// generated by %s"
+				+ "\npackage %s;"
+				+ "\n"
+				+ "\n/**"
+				+ "\n * %s,"
+				+ "\n * a shape for which {@code java.util.function} has no primitive specialization."
+				+ "\n */"
+				+ "\n@FunctionalInterface"
+				+ "\npublic interface %s%s {"
+				+ "\n\t/** %s */"
+				+ "\n\t%s %s(%s);"
+				+ "\n}"
+				+ "\n",
+				Generator.UNCHECKERS_SITE_URL,
+				SamTypes.PRIMITIVE_SAM_TYPES_PACKAGE_NAME,
+				describe(samType),
+				samType.getSimpleName(),
+				samType.getTypeParameterDeclarationsString(),
+				describeMethod(samType),
+				samType.getReturnTypeName(),
+				samType.getMethodName(),
+				Generator.toStringParamsAndArgNames(samType.getParameterTypeNames()).keySet().stream()
+						.collect(Collectors.joining(", ")));
+	}
+
+	private static String describe(SamType samType) {
+		String parameterTypes = String.join(", ", samType.getParameterTypeNames());
+
+		if (samType.getParameterTypeNames().isEmpty()) {
+			return String.format("A supplier of {@code %s}", samType.getReturnTypeName());
+		} else if (samType.returnsVoid()) {
+			return String.format("A consumer of {@code (%s)}", parameterTypes);
+		} else if (samType.getReturnTypeName().equals("boolean")) {
+			return String.format("A predicate of {@code (%s)}", parameterTypes);
+		} else {
+			return String.format("A function of {@code (%s)} returning {@code %s}",
+					parameterTypes, samType.getReturnTypeName());
+		}
+	}
+
+	/** A description of the SAM method, worded as in {@code java.util.function}. */
+	private static String describeMethod(SamType samType) {
+		String arguments = samType.getParameterTypeNames().size() == 1
+				? "the given argument"
+				: "the given arguments";
+
+		if (samType.getParameterTypeNames().isEmpty()) {
+			return "Gets a result.";
+		} else if (samType.returnsVoid()) {
+			return String.format("Performs this operation on %s.", arguments);
+		} else if (samType.getReturnTypeName().equals("boolean")) {
+			return String.format("Evaluates this predicate on %s.", arguments);
+		} else {
+			return String.format("Applies this function to %s.", arguments);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateRecordedIoUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			IOException.class.getName(),
+			RecordingCatchStrategy.recordingIn(
+					"net.johnglassmyer.uncheckers.jfr.ExceptionWrappingEvent",
+					WrappingCatchStrategy.wrappingIn(UncheckedIOException.class)),
+			"net.johnglassmyer.uncheckers.jfr",
+			"RecordedIoUncheckers",
+			name -> String.format("CheckedRecordedIo%s", name),
+			name -> String.format("uncheckRecordedIo%s", name),
+			name -> String.format("callUncheckedRecordedIo%s", name),
+			true);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
@@ -0,0 +1,35 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateRecordedUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			Exception.class.getName(),
+			RecordingCatchStrategy.recordingIn(
+					"net.johnglassmyer.uncheckers.jfr.ExceptionWrappingEvent",
+					WrappingCatchStrategy.wrappingIn(RuntimeException.class)),
+			"net.johnglassmyer.uncheckers.jfr",
+			"RecordedUncheckers",
+			name -> String.format("CheckedRecorded%s", name),
+			name -> String.format("uncheckRecorded%s", name),
+			name -> String.format("callUncheckedRecorded%s", name),
+			true);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
@@ -0,0 +1,35 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.google.common.base.Charsets;
+
+public class GenerateTranslatingUncheckers {
+	static final UncheckersConfiguration CONFIGURATION = new UncheckersConfiguration(
+			Exception.class.getName(),
+			TranslatingCatchStrategy.translatingWith(
+					"net.johnglassmyer.uncheckers.ExceptionTranslator",
+					"net.johnglassmyer.uncheckers.ExceptionTranslationTable.DEFAULT"),
+			"net.johnglassmyer.uncheckers",
+			"TranslatingUncheckers",
+			name -> String.format("CheckedTranslating%s", name),
+			name -> String.format("uncheckTranslating%s", name),
+			name -> String.format("callUncheckedTranslating%s", name),
+			true);
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new RuntimeException("must specify output filename as argument");
+		}
+		Path outputPath = Paths.get(args[0]);
+
+		String generatedSource = Generator.generate(
+				SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), CONFIGURATION);
+
+		Files.createDirectories(outputPath.getParent());
+		Files.write(outputPath, generatedSource.getBytes(Charsets.UTF_8));
+	}
+}
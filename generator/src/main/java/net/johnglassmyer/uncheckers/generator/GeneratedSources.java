@@ -0,0 +1,125 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * The sources generated by the {@code Generate} classes, without writing them, for build
+ * tools generating several in one JVM. Each is a map from the path of a source file,
+ * relative to the source root, to its content.
+ */
+public class GeneratedSources {
+	private static final Map<String, Supplier<SortedMap<String, String>>> BUILT_INS =
+			createBuiltIns();
+
+	private static Map<String, Supplier<SortedMap<String, String>>> createBuiltIns() {
+		Map<String, Supplier<SortedMap<String, String>>> builtIns = new LinkedHashMap<>();
+		builtIns.put("PrimitiveSamTypes", GeneratedSources::primitiveSamTypes);
+		builtIns.put("Uncheckers", () -> uncheckers(
+				SamTypes.standardAndPrimitiveSamTypes(), GenerateUncheckers.CONFIGURATION));
+		builtIns.put("IoUncheckers", () -> uncheckers(
+				SamTypes.standardAndPrimitiveSamTypes(), GenerateIoUncheckers.CONFIGURATION));
+		for (UncheckersConfiguration configuration : new UncheckersConfiguration[] {
+				GenerateFastUncheckers.CONFIGURATION,
+				GenerateFastIoUncheckers.CONFIGURATION,
+				GenerateSneakyUncheckers.CONFIGURATION,
+				GenerateTranslatingUncheckers.CONFIGURATION,
+				GenerateInterruptibleUncheckers.CONFIGURATION,
+				GenerateInstrumentedUncheckers.CONFIGURATION,
+				GenerateInstrumentedIoUncheckers.CONFIGURATION,
+				GenerateRecordedUncheckers.CONFIGURATION,
+				GenerateRecordedIoUncheckers.CONFIGURATION }) {
+			builtIns.put(configuration.uncheckersEnclosingClassName, () -> uncheckers(
+					SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES), configuration));
+		}
+		builtIns.put("Benchmarks", GenerateBenchmarks::generate);
+		return Collections.unmodifiableMap(builtIns);
+	}
+
+	/**
+	 * The names of the built-in sources: {@code PrimitiveSamTypes}, the simple name of each
+	 * class of uncheckers generated for the {@code uncheckers} and {@code jfr} artifacts,
+	 * and {@code Benchmarks}.
+	 */
+	public static Set<String> builtInNames() {
+		return BUILT_INS.keySet();
+	}
+
+	public static SortedMap<String, String> builtIn(String name) {
+		Supplier<SortedMap<String, String>> builtIn = BUILT_INS.get(name);
+		if (builtIn == null) {
+			throw new IllegalArgumentException(String.format(
+					"no built-in sources named %s; expected one of %s", name, BUILT_INS.keySet()));
+		}
+		return builtIn.get();
+	}
+
+	/**
+	 * A class of uncheckers wrapping checked exceptions in a new instance of an unchecked
+	 * exception class having a constructor taking the checked exception, named by formatting
+	 * the simple name of each SAM type with {@link String#format} patterns such as
+	 * {@code "CheckedSql%s"}, {@code "uncheckSql%s"}, and {@code "callUncheckedSql%s"}.
+	 *
+	 * @param primitiveSamTypes whether to cover {@link SamTypes#PRIMITIVE_SAM_TYPES} too
+	 * @param restoresInterrupt whether to restore the interrupt status of the current thread
+	 *     on catching an {@code InterruptedException}
+	 */
+	public static SortedMap<String, String> wrapping(
+			String checkedExceptionClassName,
+			String uncheckedExceptionClassName,
+			String packageName,
+			String className,
+			String checkedInterfacePattern,
+			String uncheckMethodPattern,
+			String callUncheckedMethodPattern,
+			boolean checkedInterfacesExtendSamTypes,
+			boolean primitiveSamTypes,
+			boolean restoresInterrupt) {
+		CatchStrategy catchStrategy = WrappingCatchStrategy.wrappingIn(uncheckedExceptionClassName);
+		if (restoresInterrupt) {
+			catchStrategy = InterruptRestoringCatchStrategy.restoringInterrupt(
+					checkedExceptionClassName, catchStrategy);
+		}
+
+		UncheckersConfiguration configuration = new UncheckersConfiguration(
+				checkedExceptionClassName,
+				catchStrategy,
+				packageName,
+				className,
+				name -> String.format(checkedInterfacePattern, name),
+				name -> String.format(uncheckMethodPattern, name),
+				name -> String.format(callUncheckedMethodPattern, name),
+				checkedInterfacesExtendSamTypes);
+
+		return uncheckers(
+				primitiveSamTypes
+						? SamTypes.standardAndPrimitiveSamTypes()
+						: SamType.fromClasses(SamTypes.STANDARD_SAM_TYPES),
+				configuration);
+	}
+
+	static SortedMap<String, String> uncheckers(
+			List<SamType> samTypes, UncheckersConfiguration configuration) {
+		SortedMap<String, String> sources = new TreeMap<>();
+		sources.put(
+				configuration.getQualifiedEnclosingClassName().replace('.', '/') + ".java",
+				Generator.generate(samTypes, configuration));
+		return sources;
+	}
+
+	private static SortedMap<String, String> primitiveSamTypes() {
+		SortedMap<String, String> sources = new TreeMap<>();
+		for (SamType samType : SamTypes.PRIMITIVE_SAM_TYPES) {
+			sources.put(
+					samType.getQualifiedName().replace('.', '/') + ".java",
+					GeneratePrimitiveSamTypes.generate(samType));
+		}
+		return sources;
+	}
+}
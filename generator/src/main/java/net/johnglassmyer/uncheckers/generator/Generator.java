@@ -1,66 +1,159 @@
 package net.johnglassmyer.uncheckers.generator;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.Type;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import com.google.common.base.Charsets;
-import com.google.common.base.Joiner;
-import com.google.common.reflect.TypeToken;
+public class Generator {
+	static final String UNCHECKERS_SITE_URL = "http://github.com/JohnGlassmyer/uncheckers";
 
-class Generator {
-	private static final String UNCHECKERS_SITE_URL = "http://github.com/JohnGlassmyer/uncheckers";
+	/** The SAM types for which memoizing or lazy methods are generated, if any are. */
+	private static final Set<String> MEMOIZED_SAM_TYPE_NAMES = new HashSet<>(Arrays.asList(
+			Function.class.getName(),
+			IntFunction.class.getName(),
+			LongFunction.class.getName(),
+			Supplier.class.getName()));
 
 	public static String generate(
-			List<Class<?>> samTypes,
-			Class<? extends Exception> checkedExceptionClass,
-			Class<? extends Throwable> uncheckedExceptionClass,
-			String uncheckersPackageName,
-			String uncheckersEnclosingClassName,
-			Function<String, String> samTypeNameToCheckedInterfaceName,
-			Function<String, String> samTypeNameToUncheckMethodName,
-			Function<String, String> samTypeNameToCallUncheckedMethodName) {
-		if (isCheckedException(uncheckedExceptionClass)) {
-			throw new IllegalArgumentException(String.format(
-					"%s is a checked exception type", uncheckedExceptionClass.getName()));
+			List<SamType> samTypes, UncheckersConfiguration configuration) {
+		StringWriter writer = new StringWriter();
+		try {
+			generate(samTypes, configuration, writer);
+		} catch (IOException e) {
+			// a StringWriter doesn't throw
+			throw new UncheckedIOException(e);
 		}
 
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-		PrintStream printStream = new PrintStream(baos);
+		return writer.toString();
+	}
 
-		printStream.println(generateHeader(
-				uncheckersPackageName,
-				checkedExceptionClass,
-				uncheckedExceptionClass,
+	/**
+	 * Generates the uncheckers class directly to the given writer. The members for each
+	 * SAM type are generated in parallel (on the common fork-join pool) and written
+	 * in order, generating ahead of writing by at most twice the pool's parallelism, so
+	 * that the members of only that many SAM types are held at once.
+	 */
+	public static void generate(
+			List<SamType> samTypes, UncheckersConfiguration configuration, Writer writer)
+			throws IOException {
+		String checkedExceptionClassName = configuration.checkedExceptionClassName;
+		CatchStrategy catchStrategy = configuration.catchStrategy;
+
+		checkForDuplicateSamTypes(samTypes);
+
+		writer.write(generateHeader(
+				configuration.uncheckersPackageName,
+				checkedExceptionClassName,
+				catchStrategy,
+				configuration.asyncCallsClassName,
+				configuration.metricsClassName,
+				configuration.memoizersClassName,
+				configuration.checkedInterfacesConfiguration,
 				samTypes));
+		writer.write("\n\n");
 
-		printStream.println();
+		writer.write(generateEnclosingClassJavadoc(checkedExceptionClassName, catchStrategy));
+		writer.write(String.format(
+				"\npublic class %s {\n", configuration.uncheckersEnclosingClassName));
 
-		String enclosingClassJavadoc = generateEnclosingClassJavadoc(
-				checkedExceptionClass, uncheckedExceptionClass);
-		printStream.println(enclosingClassJavadoc);
-		printStream.format("public class %s {\n", uncheckersEnclosingClassName);
+		String catchStrategyMembers = catchStrategy.generateEnclosingClassMembers();
+		if (!catchStrategyMembers.isEmpty()) {
+			writer.write(catchStrategyMembers);
+			writer.write("\n\n");
+		}
 
-		Set<Class<?>> processedSamTypes = new HashSet<>();
-		Set<String> processedSamTypeSimpleNames = new HashSet<>();
-		for (Class<?> samType : samTypes) {
-			if (!processedSamTypes.isEmpty()) {
-				printStream.println();
+		// members are generated ahead of writing by at most a window of SAM types, so that
+		// no more than the window's members are held at once, however slow the writer
+		Deque<CompletableFuture<String>> window = new ArrayDeque<>();
+		int windowSize = 2 * ForkJoinPool.getCommonPoolParallelism();
+		int writtenCount = 0;
+		for (SamType samType : samTypes) {
+			window.addLast(CompletableFuture.supplyAsync(
+					() -> generateSamTypeMembers(samType, configuration)));
+			if (window.size() > windowSize) {
+				writeMembers(window.removeFirst(), writtenCount++ == 0, writer);
+			}
+		}
+		while (!window.isEmpty()) {
+			writeMembers(window.removeFirst(), writtenCount++ == 0, writer);
+		}
+
+		writer.write("}\n");
+	}
+
+	private static void writeMembers(
+			CompletableFuture<String> members, boolean isFirst, Writer writer)
+			throws IOException {
+		String text;
+		try {
+			text = members.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+		if (!isFirst) {
+			writer.write("\n");
+		}
+		writer.write(text);
+	}
+
+	/**
+	 * The binary names of the classes compiled from the uncheckers class generated
+	 * for the given SAM types and configuration, such as for a CDS class list,
+	 * excepting those spun at run time for lambdas.
+	 */
+	public static List<String> generatedClassNames(
+			List<SamType> samTypes, UncheckersConfiguration configuration) {
+		String enclosingClassName = configuration.getQualifiedEnclosingClassName();
+
+		List<String> classNames = new ArrayList<>();
+		classNames.add(enclosingClassName);
+		for (SamType samType : samTypes) {
+			String checkedInterfaceName = checkedInterfacesConfiguration(configuration)
+					.samTypeNameToCheckedInterfaceName.apply(samType.getSimpleName());
+			if (configuration.checkedInterfacesConfiguration == null) {
+				classNames.add(enclosingClassName + "$" + checkedInterfaceName);
+			}
+
+			String decoratorClassName = decoratorClassName(checkedInterfaceName, configuration);
+			if (decoratorClassName != null) {
+				classNames.add(enclosingClassName + "$" + decoratorClassName);
 			}
+		}
 
+		return classNames;
+	}
+
+	private static void checkForDuplicateSamTypes(List<SamType> samTypes) {
+		Set<String> processedSamTypes = new HashSet<>();
+		Set<String> processedSamTypeSimpleNames = new HashSet<>();
+		for (SamType samType : samTypes) {
 			String samTypeSimpleName = samType.getSimpleName();
 
 			if (processedSamTypeSimpleNames.contains(samTypeSimpleName)) {
@@ -71,136 +164,313 @@ class Generator {
 
 			processedSamTypeSimpleNames.add(samTypeSimpleName);
 
-			if (processedSamTypes.contains(samType)) {
+			if (processedSamTypes.contains(samType.getQualifiedName())) {
 				throw new IllegalArgumentException(String.format(
 						"the list of SAM types includes %s more than once",
-						samType.getName()));
+						samType.getQualifiedName()));
 			}
 
-			processedSamTypes.add(samType);
+			processedSamTypes.add(samType.getQualifiedName());
+		}
+	}
+
+	/**
+	 * The checked interface, {@code uncheck} method, and {@code callUnchecked} method
+	 * for one SAM type, each followed by a line break and separated by a blank line.
+	 */
+	private static String generateSamTypeMembers(
+			SamType samType, UncheckersConfiguration configuration) {
+		String checkedExceptionClassName = configuration.checkedExceptionClassName;
+		CatchStrategy catchStrategy = configuration.catchStrategy;
+		UncheckersConfiguration checkedInterfacesConfiguration =
+				checkedInterfacesConfiguration(configuration);
+		Function<String, String> samTypeNameToUncheckMethodName =
+				configuration.samTypeNameToUncheckMethodName;
+		Function<String, String> samTypeNameToCallUncheckedMethodName =
+				configuration.samTypeNameToCallUncheckedMethodName;
+		boolean checkedInterfacesExtendSamTypes = configuration.checkedInterfacesExtendSamTypes;
 
-			String samTypeTypeParams =
-					samType.getTypeParameters().length > 0
-					? "<" + Joiner.on(", ").join(samType.getTypeParameters()) + ">"
-					: "";
+		String samTypeSimpleName = samType.getSimpleName();
 
-			TypeToken<?> typeToken = TypeToken.of(samType);
+		String samTypeTypeParams = samType.getTypeParameterDeclarationsString();
+		String samTypeTypeArgs = samType.getTypeArgumentsString();
 
-			Method method = extractSingleAbstractMethod(samType);
+		String methodReturnType = samType.getReturnTypeName();
 
-			findThrownCheckedException(typeToken, method).ifPresent(exceptionClass -> {
-					throw new IllegalArgumentException(String.format(
-							samType.getName(), method.getName(), exceptionClass.getName()));
-			});
+		Map<String, String> paramsAndArgNames =
+				toStringParamsAndArgNames(samType.getParameterTypeNames());
 
-			Type methodReturnType = typeToken.resolveType(method.getGenericReturnType()).getType();
+		String joinedMethodParams = paramsAndArgNames.keySet().stream()
+				.collect(Collectors.joining(", "));
 
-			Map<String, String> paramsAndArgNames = toStringParamsAndArgNames(
-					Arrays.stream(method.getGenericParameterTypes())
-							.map(typeToken::resolveType)
-							.collect(Collectors.toList()));
+		String joinedMethodArgs = paramsAndArgNames.values().stream()
+				.collect(Collectors.joining(", "));
 
-			String joinedMethodParams = paramsAndArgNames.keySet().stream()
-					.collect(Collectors.joining(", "));
+		String checkedInterfaceName = checkedInterfacesConfiguration
+				.samTypeNameToCheckedInterfaceName.apply(samTypeSimpleName);
+		String checkedInterfaceDeclaration = checkedInterfaceName + samTypeTypeParams;
+		String checkedInterfaceNameWithTypeParams =
+				(checkedInterfacesConfiguration == configuration
+						? ""
+						: checkedInterfacesConfiguration.uncheckersEnclosingClassName + ".")
+				+ checkedInterfaceName + samTypeTypeArgs;
+		String checkedInterfaceInstanceName =
+				Character.toLowerCase(checkedInterfaceName.charAt(0))
+				+ checkedInterfaceName.substring(1);
+		String checkedMethodName = checkedMethodName(
+				samType.getMethodName(),
+				checkedInterfacesConfiguration.checkedInterfacesExtendSamTypes);
 
-			String joinedMethodArgs = paramsAndArgNames.values().stream()
-					.collect(Collectors.joining(", "));
+		String checkedInterface = checkedInterfacesConfiguration != configuration
+				? null
+				: checkedInterfacesExtendSamTypes
+				? generateExtendingCheckedInterface(
+						checkedExceptionClassName,
+						catchStrategy,
+						samTypeSimpleName,
+						samTypeTypeArgs,
+						samType.getMethodName(),
+						methodReturnType,
+						joinedMethodParams,
+						joinedMethodArgs,
+						checkedInterfaceDeclaration,
+						checkedMethodName)
+				: generateCheckedInterface(
+						checkedExceptionClassName,
+						samTypeSimpleName,
+						samType.getMethodName(),
+						methodReturnType,
+						joinedMethodParams,
+						checkedInterfaceDeclaration);
 
-			String checkedInterfaceName =
-					samTypeNameToCheckedInterfaceName.apply(samTypeSimpleName);
-			String checkedInterfaceNameWithTypeParams = checkedInterfaceName + samTypeTypeParams;
-			String checkedInterfaceInstanceName =
-					Character.toLowerCase(checkedInterfaceName.charAt(0))
-					+ checkedInterfaceName.substring(1);
+		String uncheckerMethod = checkedInterfacesExtendSamTypes
+				? generateIdentityUncheckerMethod(
+						checkedExceptionClassName,
+						catchStrategy,
+						samTypeNameToUncheckMethodName,
+						samType,
+						samTypeSimpleName,
+						samTypeTypeParams,
+						samTypeTypeArgs,
+						checkedInterfaceNameWithTypeParams,
+						checkedInterfaceInstanceName)
+				: generateUncheckerMethod(
+						checkedExceptionClassName,
+						catchStrategy,
+						samTypeNameToUncheckMethodName,
+						samType,
+						samTypeSimpleName,
+						samTypeTypeParams,
+						samTypeTypeArgs,
+						samType.getMethodName(),
+						checkedMethodName,
+						methodReturnType,
+						joinedMethodParams,
+						joinedMethodArgs,
+						checkedInterfaceNameWithTypeParams,
+						checkedInterfaceInstanceName,
+						decoratorClassName(checkedInterfaceName, configuration));
 
-			printStream.println(generateCheckedInterface(
-					checkedExceptionClass,
+		String callUncheckedMethod = generateCallUncheckedMethod(
+				checkedExceptionClassName,
+				catchStrategy,
+				samTypeNameToCallUncheckedMethodName,
+				samType,
+				samTypeSimpleName,
+				samTypeTypeParams,
+				samType.getMethodName(),
+				methodReturnType,
+				joinedMethodParams,
+				joinedMethodArgs,
+				checkedInterfaceNameWithTypeParams,
+				checkedInterfaceInstanceName,
+				checkedMethodName);
+
+		if (configuration.metricsClassName != null) {
+			uncheckerMethod = generateInstrumentedUncheckerMethod(
+					checkedExceptionClassName,
+					catchStrategy,
+					configuration.metricsClassName,
+					samTypeNameToUncheckMethodName,
+					samType,
 					samTypeSimpleName,
-					method,
+					samTypeTypeParams,
+					samTypeTypeArgs,
 					methodReturnType,
 					joinedMethodParams,
-					checkedInterfaceNameWithTypeParams));
-
-			printStream.println();
+					joinedMethodArgs,
+					checkedInterfaceNameWithTypeParams,
+					checkedInterfaceInstanceName,
+					checkedMethodName,
+					decoratorClassName(checkedInterfaceName, configuration));
 
-			printStream.println(generateUncheckerMethod(
-					checkedExceptionClass,
-					uncheckedExceptionClass,
-					samTypeNameToUncheckMethodName,
+			callUncheckedMethod = generateInstrumentedCallUncheckedMethod(
+					checkedExceptionClassName,
+					catchStrategy,
+					configuration.metricsClassName,
+					samTypeNameToCallUncheckedMethodName,
 					samType,
 					samTypeSimpleName,
 					samTypeTypeParams,
-					method,
 					methodReturnType,
+					joinedMethodParams,
 					joinedMethodArgs,
 					checkedInterfaceNameWithTypeParams,
-					checkedInterfaceInstanceName));
+					checkedInterfaceInstanceName,
+					checkedMethodName);
+		}
 
-			printStream.println();
+		String members = (checkedInterface == null ? "" : checkedInterface + "\n\n")
+				+ uncheckerMethod + "\n\n" + callUncheckedMethod + "\n";
 
-			printStream.println(generateCallUncheckedMethod(
-					checkedExceptionClass,
-					uncheckedExceptionClass,
+		if (configuration.asyncCallsClassName != null) {
+			members += "\n" + generateAsyncCallUncheckedMethods(
+					configuration.asyncCallsClassName,
 					samTypeNameToCallUncheckedMethodName,
 					samType,
 					samTypeSimpleName,
 					samTypeTypeParams,
-					method,
 					methodReturnType,
 					joinedMethodParams,
 					joinedMethodArgs,
 					checkedInterfaceNameWithTypeParams,
-					checkedInterfaceInstanceName));
-		}
+					checkedInterfaceInstanceName,
+					checkedMethodName) + "\n";
 
-		printStream.println("}");
+			if (hasAsyncUncheckerMethods(samType)) {
+				members += "\n" + generateAsyncUncheckerMethods(
+						configuration.asyncCallsClassName,
+						samTypeNameToUncheckMethodName,
+						samTypeNameToCallUncheckedMethodName,
+						samType,
+						samTypeSimpleName,
+						samTypeTypeParams,
+						samTypeTypeArgs,
+						methodReturnType,
+						joinedMethodArgs,
+						checkedInterfaceNameWithTypeParams,
+						checkedInterfaceInstanceName) + "\n";
+			}
 
-		try {
-			return baos.toString(Charsets.UTF_8.name());
-		} catch (UnsupportedEncodingException e) {
-			// you got me this time..
-			throw new RuntimeException(e);
+			if (hasAsyncUncheckerMethods(samType) && samType.getParameterTypeNames().isEmpty()) {
+				members += "\n" + generateHedgingMethods(
+						catchStrategy,
+						checkedExceptionClassName,
+						samTypeNameToUncheckMethodName,
+						samType,
+						samTypeSimpleName,
+						samTypeTypeParams,
+						samTypeTypeArgs,
+						checkedInterfaceNameWithTypeParams,
+						checkedInterfaceInstanceName,
+						checkedMethodName) + "\n";
+			}
 		}
+
+		if (configuration.memoizersClassName != null
+				&& MEMOIZED_SAM_TYPE_NAMES.contains(samType.getQualifiedName())) {
+			members += "\n" + generateMemoizingMethods(
+					configuration.memoizersClassName,
+					catchStrategy,
+					checkedExceptionClassName,
+					samTypeNameToUncheckMethodName,
+					samType,
+					samTypeSimpleName,
+					samTypeTypeParams,
+					samTypeTypeArgs,
+					checkedInterfaceNameWithTypeParams,
+					checkedInterfaceInstanceName) + "\n";
+		}
+
+		return members;
 	}
 
 	private static String generateHeader(
 			String uncheckersPackageName,
-			Class<? extends Exception> checkedExceptionClass,
-			Class<? extends Throwable> uncheckedExceptionClass,
-			List<Class<?>> samTypes) {
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String asyncCallsClassName,
+			String metricsClassName,
+			String memoizersClassName,
+			UncheckersConfiguration checkedInterfacesConfiguration,
+			List<SamType> samTypes) {
 		StringBuilder builder = new StringBuilder();
 		builder.append(String.format(
 				"// generated by %s"
 				+ "\npackage %s;"
 				+ "\n"
 				+ "\n// checked exception type"
-				+ "\nimport %s;"
-				+ "\n"
-				+ "\n// unchecked exception type"
 				+ "\nimport %s;",
 				UNCHECKERS_SITE_URL,
 				uncheckersPackageName,
-				checkedExceptionClass.getName(),
-				uncheckedExceptionClass.getName()));
+				checkedExceptionClassName));
 
 		builder.append("\n");
 
+		List<String> catchStrategyImports = catchStrategy.getImportedClassNames();
+		if (!catchStrategyImports.isEmpty()) {
+			builder.append("\n// unchecked exception type");
+			for (String className : catchStrategyImports) {
+				builder.append(String.format("\nimport %s;", className));
+			}
+
+			builder.append("\n");
+		}
+
+		if (asyncCallsClassName != null) {
+			builder.append(String.format(
+					"\n// asynchronous calls"
+					+ "\nimport java.time.Duration;"
+					+ "\nimport java.util.concurrent.CompletableFuture;"
+					+ "\nimport java.util.concurrent.Executor;"
+					+ "\nimport %s;"
+					+ "\nimport %s;"
+					+ "\n",
+					asyncCallsClassName,
+					hedgerClassName(asyncCallsClassName)));
+		}
+
+		if (memoizersClassName != null) {
+			builder.append("\n// memoization");
+			if (asyncCallsClassName == null) {
+				builder.append("\nimport java.time.Duration;");
+			}
+			builder.append(String.format(
+					"\nimport %s;"
+					+ "\n",
+					memoizersClassName));
+		}
+
+		if (checkedInterfacesConfiguration != null) {
+			builder.append(String.format(
+					"\n// checked interfaces"
+					+ "\nimport %s;"
+					+ "\n",
+					checkedInterfacesConfiguration.getQualifiedEnclosingClassName()));
+		}
+
+		if (metricsClassName != null) {
+			builder.append(String.format(
+					"\n// metrics"
+					+ "\nimport %s;"
+					+ "\n",
+					metricsClassName));
+		}
+
 		builder.append("\n// SAM types");
-		for (Class<?> clazz : samTypes) {
-			builder.append(String.format("\nimport %s;", clazz.getName()));
+		for (SamType samType : samTypes) {
+			builder.append(String.format("\nimport %s;", samType.getQualifiedName()));
 		}
 
 		return builder.toString();
 	}
 
 	private static String generateEnclosingClassJavadoc(
-			Class<? extends Exception> checkedExceptionClass,
-			Class<? extends Throwable> uncheckedExceptionClass) {
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy) {
 		return String.format(
 				"/**"
-				+ "\n * Static helper methods which wrap and re-throw"
-				+ "\n * {@link %s %s}"
-				+ "\n * in {@link %s %s}"
+				+ "\n * Static helper methods which %s"
 				+ "\n * so that methods known to throw {@code %s}"
 				+ "\n * can be more easily called in functional contexts,"
 				+ "\n * for example with {@link java.util.stream.Stream Streams}."
@@ -208,66 +478,26 @@ class Generator {
 				+ "\n * @see <a href=\"%s\""
 				+ "\n * >%s</a>"
 				+ "\n */",
-				checkedExceptionClass.getName(),
-				checkedExceptionClass.getSimpleName(),
-				uncheckedExceptionClass.getName(),
-				uncheckedExceptionClass.getSimpleName(),
-				checkedExceptionClass.getSimpleName(),
+				catchStrategy.describeForEnclosingClass(checkedExceptionClassName),
+				simpleNameOf(checkedExceptionClassName),
 				UNCHECKERS_SITE_URL,
 				UNCHECKERS_SITE_URL);
 	}
 
-	private static Method extractSingleAbstractMethod(Class<?> samType) {
-		List<Method> methods = Arrays.asList(samType.getMethods()).stream()
-				.filter(m -> Modifier.isAbstract(m.getModifiers()))
-				.filter(m -> !isMethodOfObject(m))
-				.collect(Collectors.toList());
-
-		if (methods.size() != 1) {
-			throw new RuntimeException(String.format(
-					"%s has %d abstract methods: %s",
-					samType.getName(),
-					methods.size(),
-					methods.stream().map(m -> m.getName()).collect(Collectors.toList())));
-		}
-
-		return methods.get(0);
-	}
-
-	private static boolean isMethodOfObject(Method m) {
-		for (Method objectMethod : Object.class.getDeclaredMethods()) {
-			if (m.getName().equals(objectMethod.getName())
-					&& Arrays.equals(m.getParameterTypes(), objectMethod.getParameterTypes())) {
-				return true;
-			}
-		}
-
-		return false;
-	}
-
-	private static Optional<? extends Class<?>> findThrownCheckedException(
-			TypeToken<?> typeToken, Method method) {
-		return Arrays.stream(method.getGenericExceptionTypes())
-				.map(typeToken::resolveType)
-				.map(TypeToken::getRawType)
-				.filter(Generator::isCheckedException)
-				.findFirst();
-	}
-
-	private static Map<String, String> toStringParamsAndArgNames(
-			List<TypeToken<?>> methodParameterTypes) {
+	static Map<String, String> toStringParamsAndArgNames(
+			List<String> methodParameterTypeNames) {
 		Map<String, String> paramsAndArgNames = new LinkedHashMap<>();
 
-		Map<TypeToken<?>, Long> methodParamTypeCounts = methodParameterTypes.stream()
+		Map<String, Long> paramNameCounts = methodParameterTypeNames.stream()
+				.map(Generator::paramNameForTypeName)
 				.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
 
 		Map<String, Integer> countByName = new HashMap<>();
-		methodParameterTypes.stream()
-				.forEachOrdered(t -> {
-					String typeName = t.getType().getTypeName();
+		methodParameterTypeNames.stream()
+				.forEachOrdered(typeName -> {
 					String paramName = paramNameForTypeName(typeName);
 					String dedupedParamName;
-					if (methodParamTypeCounts.get(t) == 1) {
+					if (paramNameCounts.get(paramName) == 1) {
 						dedupedParamName = paramName;
 					} else {
 						int count = countByName.compute(
@@ -282,19 +512,19 @@ class Generator {
 	}
 
 	private static String generateCheckedInterface(
-			Class<? extends Exception> checkedExceptionClass,
+			String checkedExceptionClassName,
 			String samTypeSimpleName,
-			Method method,
-			Type methodReturnType,
+			String methodName,
+			String methodReturnType,
 			String joinedMethodParams,
-			String checkedInterfaceNameWithTypeParams) {
+			String checkedInterfaceDeclaration) {
 		String checkedInterfaceJavadoc = String.format(
 				"\t/**"
 				+ "\n\t * A lambda or functional interface"
 				+ "\n\t * known to throw {@code %s}"
 				+ "\n\t * but otherwise convertible to {@code %s}."
 				+ "\n\t */",
-				checkedExceptionClass.getSimpleName(),
+				simpleNameOf(checkedExceptionClassName),
 				samTypeSimpleName);
 
 		return String.format(
@@ -304,23 +534,77 @@ class Generator {
 						+ "\n\t\tpublic %s %s(%s) throws %s;"
 						+ "\n\t}",
 				checkedInterfaceJavadoc,
-				checkedInterfaceNameWithTypeParams,
+				checkedInterfaceDeclaration,
 				methodReturnType,
-				method.getName(),
+				methodName,
 				joinedMethodParams,
-				checkedExceptionClass.getSimpleName());
+				simpleNameOf(checkedExceptionClassName));
 	}
 
-	private static String generateUncheckerMethod(
-			Class<? extends Exception> checkedExceptionClass,
-			Class<? extends Throwable> uncheckedExceptionClass,
+	private static String generateExtendingCheckedInterface(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String samTypeSimpleName,
+			String samTypeTypeArgs,
+			String methodName,
+			String methodReturnType,
+			String joinedMethodParams,
+			String joinedMethodArgs,
+			String checkedInterfaceDeclaration,
+			String checkedMethodName) {
+		String checkedInterfaceJavadoc = String.format(
+				"\t/**"
+				+ "\n\t * A lambda or functional interface"
+				+ "\n\t * known to throw {@code %s}"
+				+ "\n\t * but otherwise convertible to {@code %s},"
+				+ "\n\t * which as a {@code %s} %s."
+				+ "\n\t */",
+				simpleNameOf(checkedExceptionClassName),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName));
+
+		return String.format(
+				"%s"
+						+ "\n\t@FunctionalInterface"
+						+ "\n\tpublic interface %s extends %s {"
+						+ "\n\t\tpublic %s %s(%s) throws %s;"
+						+ "\n"
+						+ "\n\t\t@Override"
+						+ "\n\t\tpublic default %s %s(%s) {"
+						+ "\n%s\t\t\ttry {"
+						+ "\n\t\t\t\t%s%s(%s);"
+						+ "\n\t\t\t} catch (%s e) {"
+						+ "\n%s"
+						+ "\n\t\t\t}"
+						+ "\n\t\t}"
+						+ "\n\t}",
+				checkedInterfaceJavadoc,
+				checkedInterfaceDeclaration,
+				samTypeSimpleName + samTypeTypeArgs,
+				methodReturnType,
+				checkedMethodName,
+				joinedMethodParams,
+				simpleNameOf(checkedExceptionClassName),
+				methodReturnType,
+				methodName,
+				joinedMethodParams,
+				catchStrategy.generateTryPrologue("\t\t\t"),
+				methodReturnType.equals("void") ? "" : "return ",
+				checkedMethodName,
+				joinedMethodArgs,
+				simpleNameOf(checkedExceptionClassName),
+				catchStrategy.generateCatchBody(samTypeSimpleName, "e", "\t\t\t\t"));
+	}
+
+	private static String generateIdentityUncheckerMethod(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
 			Function<String, String> samTypeNameToUncheckMethodName,
-			Class<?> samType,
+			SamType samType,
 			String samTypeSimpleName,
 			String samTypeTypeParams,
-			Method method,
-			Type methodReturnType,
-			String joinedMethodArgs,
+			String samTypeTypeArgs,
 			String checkedInterfaceNameWithTypeParams,
 			String checkedInterfaceInstanceName) {
 		String uncheckMethodName =
@@ -328,57 +612,201 @@ class Generator {
 
 		String uncheckMethodJavadoc = String.format(
 				"\t/**"
-				+ "\n\t * Decorates the given {@link %s %s}-like"
+				+ "\n\t * Returns the given {@link %s %s}-like"
 				+ "\n\t * lambda or functional interface instance"
-				+ "\n\t * with a {@code %s} that wraps and re-throws"
-				+ "\n\t * any thrown {@code %s}"
-				+ "\n\t * in a new {@code %s}."
+				+ "\n\t * as the {@code %s} that it already is, one that %s."
 				+ "\n\t */",
-				samType.getName(),
+				samType.getQualifiedName(),
 				samTypeSimpleName,
 				samTypeSimpleName,
-				checkedExceptionClass.getSimpleName(),
-				uncheckedExceptionClass.getSimpleName());
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName));
 
 		return String.format(
 				"%s"
 						+ "\n\tpublic static %s%s %s(%s %s) {"
-						+ "\n\t\treturn (%s) -> {"
-						+ "\n\t\t\ttry {"
-						+ "\n\t\t\t\t%s%s.%s(%s);"
-						+ "\n\t\t\t} catch (%s e) {"
-						+ "\n\t\t\t\tthrow new %s(e);"
-						+ "\n\t\t\t}"
-						+ "\n\t\t};"
+						+ "\n\t\treturn %s;"
 						+ "\n\t}",
 				uncheckMethodJavadoc,
 				samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " "),
-				samTypeSimpleName + samTypeTypeParams,
+				samTypeSimpleName + samTypeTypeArgs,
 				uncheckMethodName,
 				checkedInterfaceNameWithTypeParams,
 				checkedInterfaceInstanceName,
-				joinedMethodArgs,
-				methodReturnType.equals(Void.TYPE) ? "" : "return ",
+				checkedInterfaceInstanceName);
+	}
+
+	private static String generateUncheckerMethod(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String samTypeTypeArgs,
+			String methodName,
+			String checkedMethodName,
+			String methodReturnType,
+			String joinedMethodParams,
+			String joinedMethodArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName,
+			String decoratorClassName) {
+		String uncheckMethodName =
+				samTypeNameToUncheckMethodName.apply(samTypeSimpleName);
+
+		String uncheckMethodJavadoc = String.format(
+				"\t/**"
+				+ "\n\t * Decorates the given {@link %s %s}-like"
+				+ "\n\t * lambda or functional interface instance"
+				+ "\n\t * with a {@code %s} that %s."
+				+ "\n\t */",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName));
+
+		String call = String.format(
+				"%s\t\t\ttry {"
+						+ "\n\t\t\t\t%s%s.%s(%s);"
+						+ "\n\t\t\t} catch (%s e) {"
+						+ "\n%s"
+						+ "\n\t\t\t}",
+				catchStrategy.generateTryPrologue("\t\t\t"),
+				methodReturnType.equals("void") ? "" : "return ",
 				checkedInterfaceInstanceName,
-				method.getName(),
+				checkedMethodName,
 				joinedMethodArgs,
-				checkedExceptionClass.getSimpleName(),
-				uncheckedExceptionClass.getSimpleName());
+				simpleNameOf(checkedExceptionClassName),
+				catchStrategy.generateCatchBody(samTypeSimpleName, "e", "\t\t\t\t"));
+
+		String uncheckMethodDeclaration = String.format(
+				"%s"
+						+ "\n\tpublic static %s%s %s(%s %s) {",
+				uncheckMethodJavadoc,
+				samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " "),
+				samTypeSimpleName + samTypeTypeArgs,
+				uncheckMethodName,
+				checkedInterfaceNameWithTypeParams,
+				checkedInterfaceInstanceName);
+
+		if (decoratorClassName == null) {
+			return String.format(
+					"%s"
+							+ "\n\t\treturn (%s) -> {"
+							+ "\n%s"
+							+ "\n\t\t};"
+							+ "\n\t}",
+					uncheckMethodDeclaration,
+					joinedMethodArgs,
+					call);
+		}
+
+		return String.format(
+				"%s"
+						+ "\n\t\treturn new %s%s(%s);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n%s",
+				uncheckMethodDeclaration,
+				decoratorClassName,
+				samTypeTypeArgs.isEmpty() ? "" : "<>",
+				checkedInterfaceInstanceName,
+				generateDecoratorClass(
+						decoratorClassName,
+						samTypeTypeParams,
+						samTypeSimpleName + samTypeTypeArgs,
+						Collections.singletonList(
+								checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName),
+						methodReturnType,
+						methodName,
+						joinedMethodParams,
+						call));
+	}
+
+	/**
+	 * A private nested class implementing a SAM type, having a final field and constructor
+	 * parameter for each of the given declarations, and implementing the SAM type's method
+	 * by the given statements, which may refer to the fields.
+	 */
+	private static String generateDecoratorClass(
+			String decoratorClassName,
+			String samTypeTypeParams,
+			String samTypeNameWithTypeArgs,
+			List<String> fieldDeclarations,
+			String methodReturnType,
+			String methodName,
+			String joinedMethodParams,
+			String methodBody) {
+		String fields = fieldDeclarations.stream()
+				.map(declaration -> String.format("\n\t\tprivate final %s;", declaration))
+				.collect(Collectors.joining());
+
+		String assignments = fieldDeclarations.stream()
+				.map(declaration -> declaration.substring(declaration.lastIndexOf(' ') + 1))
+				.map(name -> String.format("\n\t\t\tthis.%s = %s;", name, name))
+				.collect(Collectors.joining());
+
+		// a constructor that isn't private needs no synthetic accessor
+		return String.format(
+				"\tprivate static final class %s%s implements %s {"
+						+ "%s"
+						+ "\n"
+						+ "\n\t\t%s(%s) {"
+						+ "%s"
+						+ "\n\t\t}"
+						+ "\n"
+						+ "\n\t\t@Override"
+						+ "\n\t\tpublic %s %s(%s) {"
+						+ "\n%s"
+						+ "\n\t\t}"
+						+ "\n\t}",
+				decoratorClassName,
+				samTypeTypeParams,
+				samTypeNameWithTypeArgs,
+				fields,
+				decoratorClassName,
+				String.join(", ", fieldDeclarations),
+				assignments,
+				methodReturnType,
+				methodName,
+				joinedMethodParams,
+				methodBody);
+	}
+
+	/**
+	 * The name of the nested class generated to decorate a checked interface instance,
+	 * if decorators are to be classes rather than lambdas, and otherwise {@code null}.
+	 */
+	static String decoratorClassName(
+			String checkedInterfaceName, UncheckersConfiguration configuration) {
+		return configuration.decoratorsAreNestedClasses
+				&& !configuration.checkedInterfacesExtendSamTypes
+				? checkedInterfaceName + "Decorator"
+				: null;
+	}
+
+	/** The configuration whose checked interfaces the given configuration's methods accept. */
+	private static UncheckersConfiguration checkedInterfacesConfiguration(
+			UncheckersConfiguration configuration) {
+		return configuration.checkedInterfacesConfiguration != null
+				? configuration.checkedInterfacesConfiguration
+				: configuration;
 	}
 
 	private static String generateCallUncheckedMethod(
-			Class<? extends Exception> checkedExceptionClass,
-			Class<? extends Throwable> uncheckedExceptionClass,
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
 			Function<String, String> samTypeNameToCallUncheckedMethodName,
-			Class<?> samType,
+			SamType samType,
 			String samTypeSimpleName,
 			String samTypeTypeParams,
-			Method method,
-			Type methodReturnType,
+			String methodName,
+			String methodReturnType,
 			String joinedMethodParams,
 			String joinedMethodArgs,
 			String checkedInterfaceNameWithTypeParams,
-			String checkedInterfaceInstanceName) {
+			String checkedInterfaceInstanceName,
+			String checkedMethodName) {
 		String callUncheckedMethodName =
 				samTypeNameToCallUncheckedMethodName.apply(samTypeSimpleName);
 
@@ -386,21 +814,19 @@ class Generator {
 				"\t/**"
 				+ "\n\t * Calls the given {@link %s %s}-like"
 				+ "\n\t * lambda or functional interface instance,"
-				+ "\n\t * wrapping and re-throwing any thrown {@code %s}"
-				+ "\n\t * in a new {@code %s}."
+				+ "\n\t * %s."
 				+ "\n\t */",
-				samType.getName(),
+				samType.getQualifiedName(),
 				samTypeSimpleName,
-				checkedExceptionClass.getSimpleName(),
-				uncheckedExceptionClass.getSimpleName());
+				catchStrategy.describeForCallUncheckedMethod(checkedExceptionClassName));
 
 		return String.format(
 				"%s"
 						+ "\n\tpublic static %s%s %s(%s %s%s) {"
-						+ "\n\t\ttry {"
+						+ "\n%s\t\ttry {"
 						+ "\n\t\t\t%s%s.%s(%s);"
 						+ "\n\t\t} catch (%s e) {"
-						+ "\n\t\t\tthrow new %s(e);"
+						+ "\n%s"
 						+ "\n\t\t}"
 						+ "\n\t}",
 				callUncheckedMethodJavadoc,
@@ -410,22 +836,667 @@ class Generator {
 				checkedInterfaceNameWithTypeParams,
 				checkedInterfaceInstanceName,
 				(joinedMethodParams.isEmpty() ? "" : ", ") + joinedMethodParams,
-				methodReturnType.equals(Void.TYPE) ? "" : "return ",
+				catchStrategy.generateTryPrologue("\t\t"),
+				methodReturnType.equals("void") ? "" : "return ",
+				checkedInterfaceInstanceName,
+				checkedMethodName,
+				joinedMethodArgs,
+				simpleNameOf(checkedExceptionClassName),
+				catchStrategy.generateCatchBody(samTypeSimpleName, "e", "\t\t\t"));
+	}
+
+	/**
+	 * Like {@link #generateUncheckerMethod}, but taking a call-site tag, whose metrics
+	 * are looked up once, and recording each call's latency and any failure.
+	 */
+	private static String generateInstrumentedUncheckerMethod(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String metricsClassName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String samTypeTypeArgs,
+			String methodReturnType,
+			String joinedMethodParams,
+			String joinedMethodArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName,
+			String checkedMethodName,
+			String decoratorClassName) {
+		String uncheckMethodName =
+				samTypeNameToUncheckMethodName.apply(samTypeSimpleName);
+		String metricsSimpleName = simpleNameOf(metricsClassName);
+
+		String uncheckMethodJavadoc = String.format(
+				"\t/**"
+				+ "\n\t * Decorates the given {@link %s %s}-like"
+				+ "\n\t * lambda or functional interface instance"
+				+ "\n\t * with a {@code %s} that records the latency and any failure"
+				+ "\n\t * of each call in the metrics of the call site {@code callSiteTag},"
+				+ "\n\t * and that %s."
+				+ "\n\t */",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName));
+
+		String call = generateInstrumentedCall(
+				checkedExceptionClassName,
+				catchStrategy,
+				samTypeSimpleName,
+				methodReturnType,
+				String.format("%s.%s(%s)",
+						checkedInterfaceInstanceName,
+						checkedMethodName,
+						joinedMethodArgs),
+				"\t\t\t");
+
+		String uncheckMethodDeclaration = String.format(
+				"%s"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\tString callSiteTag, %s %s) {"
+						+ "\n\t\t%s metrics = %s.forCallSite(callSiteTag);",
+				uncheckMethodJavadoc,
+				samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " "),
+				samTypeSimpleName + samTypeTypeArgs,
+				uncheckMethodName,
+				checkedInterfaceNameWithTypeParams,
+				checkedInterfaceInstanceName,
+				metricsSimpleName,
+				metricsSimpleName);
+
+		if (decoratorClassName == null) {
+			return String.format(
+					"%s"
+							+ "\n\t\treturn (%s) -> {"
+							+ "\n%s"
+							+ "\n\t\t};"
+							+ "\n\t}",
+					uncheckMethodDeclaration,
+					joinedMethodArgs,
+					call);
+		}
+
+		return String.format(
+				"%s"
+						+ "\n\t\treturn new %s%s(metrics, %s);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n%s",
+				uncheckMethodDeclaration,
+				decoratorClassName,
+				samTypeTypeArgs.isEmpty() ? "" : "<>",
+				checkedInterfaceInstanceName,
+				generateDecoratorClass(
+						decoratorClassName,
+						samTypeTypeParams,
+						samTypeSimpleName + samTypeTypeArgs,
+						Arrays.asList(
+								metricsSimpleName + " metrics",
+								checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName),
+						methodReturnType,
+						samType.getMethodName(),
+						joinedMethodParams,
+						call));
+	}
+
+	/**
+	 * Like {@link #generateCallUncheckedMethod}, but taking a call-site tag, whose metrics
+	 * are looked up for each call, and recording the call's latency and any failure.
+	 */
+	private static String generateInstrumentedCallUncheckedMethod(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String metricsClassName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String methodReturnType,
+			String joinedMethodParams,
+			String joinedMethodArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName,
+			String checkedMethodName) {
+		String callUncheckedMethodName =
+				samTypeNameToCallUncheckedMethodName.apply(samTypeSimpleName);
+		String metricsSimpleName = simpleNameOf(metricsClassName);
+
+		String callUncheckedMethodJavadoc = String.format(
+				"\t/**"
+				+ "\n\t * Calls the given {@link %s %s}-like"
+				+ "\n\t * lambda or functional interface instance,"
+				+ "\n\t * recording the latency and any failure of the call"
+				+ "\n\t * in the metrics of the call site {@code callSiteTag},"
+				+ "\n\t * %s."
+				+ "\n\t */",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				catchStrategy.describeForCallUncheckedMethod(checkedExceptionClassName));
+
+		return String.format(
+				"%s"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\tString callSiteTag, %s %s%s) {"
+						+ "\n\t\t%s metrics = %s.forCallSite(callSiteTag);"
+						+ "\n%s"
+						+ "\n\t}",
+				callUncheckedMethodJavadoc,
+				samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " "),
+				methodReturnType,
+				callUncheckedMethodName,
+				checkedInterfaceNameWithTypeParams,
+				checkedInterfaceInstanceName,
+				(joinedMethodParams.isEmpty() ? "" : ", ") + joinedMethodParams,
+				metricsSimpleName,
+				metricsSimpleName,
+				generateInstrumentedCall(
+						checkedExceptionClassName,
+						catchStrategy,
+						samTypeSimpleName,
+						methodReturnType,
+						String.format("%s.%s(%s)",
+								checkedInterfaceInstanceName,
+								checkedMethodName,
+								joinedMethodArgs),
+						"\t\t"));
+	}
+
+	/**
+	 * Statements timing a call and recording its success or failure in {@code metrics},
+	 * re-throwing unchecked exceptions unchanged (precisely, as only they can reach
+	 * the last catch block) and disposing of checked ones by the catch strategy.
+	 */
+	private static String generateInstrumentedCall(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String samTypeSimpleName,
+			String methodReturnType,
+			String call,
+			String indentation) {
+		boolean returnsVoid = methodReturnType.equals("void");
+
+		return String.format(
+				"%6$s%1$slong startNanos = System.nanoTime();"
+						+ "\n%1$stry {"
+						+ "\n%1$s\t%2$s;"
+						+ "\n%1$s\tmetrics.recordSuccess(System.nanoTime() - startNanos);"
+						+ "%3$s"
+						+ "\n%1$s} catch (%4$s e) {"
+						+ "\n%1$s\tmetrics.recordFailure(e, System.nanoTime() - startNanos);"
+						+ "\n%5$s"
+						+ "\n%1$s} catch (Throwable throwable) {"
+						+ "\n%1$s\tmetrics.recordFailure(throwable, System.nanoTime() - startNanos);"
+						+ "\n%1$s\tthrow throwable;"
+						+ "\n%1$s}",
+				indentation,
+				returnsVoid ? call : String.format("%s result = %s", methodReturnType, call),
+				returnsVoid ? "" : String.format("\n%s\treturn result;", indentation),
+				simpleNameOf(checkedExceptionClassName),
+				catchStrategy.generateCatchBody(samTypeSimpleName, "e", indentation + "\t"),
+				catchStrategy.generateTryPrologue(indentation));
+	}
+
+	/**
+	 * Overloads of an asynchronous {@code callUnchecked} method, calling on the default
+	 * executor, on a given executor, and on a given executor with a deadline.
+	 */
+	private static String generateAsyncCallUncheckedMethods(
+			String asyncCallsClassName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String methodReturnType,
+			String joinedMethodParams,
+			String joinedMethodArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName,
+			String checkedMethodName) {
+		String asyncCallsSimpleName = simpleNameOf(asyncCallsClassName);
+		String asyncMethodName =
+				samTypeNameToCallUncheckedMethodName.apply(samTypeSimpleName) + "Async";
+		String futureType = String.format("CompletableFuture<%s>", boxedTypeName(methodReturnType));
+		String methodTypeParams = samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " ");
+		String leadingParams = checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName
+				+ (joinedMethodParams.isEmpty() ? "" : ", ") + joinedMethodParams;
+		String leadingArgs = checkedInterfaceInstanceName
+				+ (joinedMethodArgs.isEmpty() ? "" : ", ") + joinedMethodArgs;
+		String callable = methodReturnType.equals("void")
+				? String.format("() -> {"
+						+ "\n\t\t\t\t\t%s.%s(%s);"
+						+ "\n\t\t\t\t\treturn null;"
+						+ "\n\t\t\t\t}",
+						checkedInterfaceInstanceName, checkedMethodName, joinedMethodArgs)
+				: String.format("() -> %s.%s(%s)",
+						checkedInterfaceInstanceName, checkedMethodName, joinedMethodArgs);
+
+		return String.format(
+				"\t/**"
+						+ "\n\t * Calls the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * on the default executor of {@link %s},"
+						+ "\n\t * completing the returned future with its result or,"
+						+ "\n\t * exceptionally, with whatever it throws, unwrapped."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s) {"
+						+ "\n\t\treturn %s(%s, %s.defaultExecutor(), null);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Calls the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * on the given executor,"
+						+ "\n\t * completing the returned future with its result or,"
+						+ "\n\t * exceptionally, with whatever it throws, unwrapped."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s, Executor executor) {"
+						+ "\n\t\treturn %s(%s, executor, null);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Calls the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * on the given executor,"
+						+ "\n\t * completing the returned future with its result or,"
+						+ "\n\t * exceptionally, with whatever it throws, unwrapped,"
+						+ "\n\t * or with a {@code TimeoutException} if the deadline"
+						+ "\n\t * (unless {@code null}) passes first."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\t%s, Executor executor, Duration deadline) {"
+						+ "\n\t\treturn %s.callAsync("
+						+ "\n\t\t\t\t%s,"
+						+ "\n\t\t\t\texecutor,"
+						+ "\n\t\t\t\tdeadline);"
+						+ "\n\t}",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				asyncCallsSimpleName,
+				methodTypeParams,
+				futureType,
+				asyncMethodName,
+				leadingParams,
+				asyncMethodName,
+				leadingArgs,
+				asyncCallsSimpleName,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				methodTypeParams,
+				futureType,
+				asyncMethodName,
+				leadingParams,
+				asyncMethodName,
+				leadingArgs,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				methodTypeParams,
+				futureType,
+				asyncMethodName,
+				leadingParams,
+				asyncCallsSimpleName,
+				callable);
+	}
+
+	/**
+	 * Whether the SAM type returns a type variable of its own that none of its method's
+	 * parameters mention, as {@code Function} and {@code Supplier} do, so that substituting
+	 * a {@code CompletableFuture} for that variable yields an asynchronous version
+	 * of the SAM type, such as for {@link java.util.concurrent.CompletableFuture#thenCompose}.
+	 */
+	static boolean hasAsyncUncheckerMethods(SamType samType) {
+		String returnTypeName = samType.getReturnTypeName();
+
+		return samType.getTypeParameterNames().contains(returnTypeName)
+				&& samType.getParameterTypeNames().stream().noneMatch(parameterTypeName ->
+						parameterTypeName.matches(String.format(".*\\b%s\\b.*", returnTypeName)));
+	}
+
+	/**
+	 * Overloads of an asynchronous {@code uncheck} method, returning the SAM type with its
+	 * return type variable substituted by a {@code CompletableFuture} of that variable.
+	 */
+	private static String generateAsyncUncheckerMethods(
+			String asyncCallsClassName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String samTypeTypeArgs,
+			String methodReturnType,
+			String joinedMethodArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName) {
+		String asyncCallsSimpleName = simpleNameOf(asyncCallsClassName);
+		String asyncMethodName =
+				samTypeNameToUncheckMethodName.apply(samTypeSimpleName) + "Async";
+		String asyncCallUncheckedMethodName =
+				samTypeNameToCallUncheckedMethodName.apply(samTypeSimpleName) + "Async";
+		String methodTypeParams = samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " ");
+		String asyncSamType = samTypeSimpleName + samType.getTypeParameterNames().stream()
+				.map(name -> name.equals(methodReturnType)
+						? String.format("CompletableFuture<%s>", name)
+						: name)
+				.collect(Collectors.joining(", ", "<", ">"));
+		String leadingParam = checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName;
+		String callArgs = checkedInterfaceInstanceName
+				+ (joinedMethodArgs.isEmpty() ? "" : ", ") + joinedMethodArgs;
+
+		return String.format(
+				"\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} returning a future of its result,"
+						+ "\n\t * called on the default executor of {@link %s}."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s) {"
+						+ "\n\t\treturn %s(%s, %s.defaultExecutor(), null);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} returning a future of its result,"
+						+ "\n\t * called on the given executor."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s, Executor executor) {"
+						+ "\n\t\treturn %s(%s, executor, null);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} returning a future of its result,"
+						+ "\n\t * called on the given executor with the given deadline"
+						+ "\n\t * (unless {@code null}) for each call."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\t%s, Executor executor, Duration deadline) {"
+						+ "\n\t\treturn (%s) -> %s(%s, executor, deadline);"
+						+ "\n\t}",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				asyncCallsSimpleName,
+				methodTypeParams,
+				asyncSamType,
+				asyncMethodName,
+				leadingParam,
+				asyncMethodName,
 				checkedInterfaceInstanceName,
-				method.getName(),
+				asyncCallsSimpleName,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				methodTypeParams,
+				asyncSamType,
+				asyncMethodName,
+				leadingParam,
+				asyncMethodName,
+				checkedInterfaceInstanceName,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				methodTypeParams,
+				asyncSamType,
+				asyncMethodName,
+				leadingParam,
 				joinedMethodArgs,
-				checkedExceptionClass.getSimpleName(),
-				uncheckedExceptionClass.getSimpleName());
+				asyncCallUncheckedMethodName,
+				callArgs);
+	}
+
+	/**
+	 * Overloads of a method decorating a {@code Supplier}-like SAM type with hedging,
+	 * by a fixed threshold or by a given {@code Hedger}, whose calls are unchecked
+	 * by the enclosing class's own {@code uncheck} method.
+	 */
+	private static String generateHedgingMethods(
+			CatchStrategy catchStrategy,
+			String checkedExceptionClassName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String samTypeTypeArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName,
+			String checkedMethodName) {
+		String uncheckMethodName = samTypeNameToUncheckMethodName.apply(samTypeSimpleName);
+		String hedgeMethodName = renamedUncheckMethodName(uncheckMethodName, "hedge", "hedged");
+		String methodTypeParams = samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " ");
+		String leadingParam = checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName;
+
+		return String.format(
+				"\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} that, whenever an attempt hasn't returned"
+						+ "\n\t * within {@code hedgeAfter}, starts another, up to {@code maxAttempts},"
+						+ "\n\t * returning the first result and interrupting the other attempts,"
+						+ "\n\t * and that %s."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\t%s, Duration hedgeAfter, int maxAttempts) {"
+						+ "\n\t\treturn %s(%s, Hedger.fixed(hedgeAfter, maxAttempts));"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} whose calls are hedged by the given {@code Hedger},"
+						+ "\n\t * and that %s."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s, Hedger hedger) {"
+						+ "\n\t\treturn %s(() -> hedger.call(%s::%s));"
+						+ "\n\t}",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				methodTypeParams,
+				samTypeSimpleName + samTypeTypeArgs,
+				hedgeMethodName,
+				leadingParam,
+				hedgeMethodName,
+				checkedInterfaceInstanceName,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				methodTypeParams,
+				samTypeSimpleName + samTypeTypeArgs,
+				hedgeMethodName,
+				leadingParam,
+				uncheckMethodName,
+				checkedInterfaceInstanceName,
+				checkedMethodName);
+	}
+
+	/**
+	 * Overloads of a method decorating a {@code Function}-like SAM type to remember its
+	 * results, or a {@code Supplier}-like SAM type to compute its result once, through
+	 * the memoizers class, whose calls are unchecked by the enclosing class's own
+	 * {@code uncheck} method.
+	 */
+	private static String generateMemoizingMethods(
+			String memoizersClassName,
+			CatchStrategy catchStrategy,
+			String checkedExceptionClassName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			SamType samType,
+			String samTypeSimpleName,
+			String samTypeTypeParams,
+			String samTypeTypeArgs,
+			String checkedInterfaceNameWithTypeParams,
+			String checkedInterfaceInstanceName) {
+		String memoizersSimpleName = simpleNameOf(memoizersClassName);
+		String uncheckMethodName = samTypeNameToUncheckMethodName.apply(samTypeSimpleName);
+		String methodTypeParams = samTypeTypeParams + (samTypeTypeParams.isEmpty() ? "" : " ");
+		String leadingParam = checkedInterfaceNameWithTypeParams + " " + checkedInterfaceInstanceName;
+		String unchecked = String.format("%s(%s)", uncheckMethodName, checkedInterfaceInstanceName);
+
+		if (samType.getQualifiedName().equals(Supplier.class.getName())) {
+			String lazyMethodName = renamedUncheckMethodName(uncheckMethodName, "lazy", "lazy");
+
+			return String.format(
+					"\t/**"
+							+ "\n\t * Decorates the given {@link %s %s}-like"
+							+ "\n\t * lambda or functional interface instance"
+							+ "\n\t * with a {@code %s} that calls it only once, on its first call,"
+							+ "\n\t * and returns its result to every later call, or rethrows its failure,"
+							+ "\n\t * and that %s."
+							+ "\n\t */"
+							+ "\n\tpublic static %s%s %s(%s) {"
+							+ "\n\t\treturn %s.lazySupplier(%s, false);"
+							+ "\n\t}"
+							+ "\n"
+							+ "\n\t/**"
+							+ "\n\t * Decorates the given {@link %s %s}-like"
+							+ "\n\t * lambda or functional interface instance"
+							+ "\n\t * with a {@code %s} that calls it on its first call, returning its result"
+							+ "\n\t * to every later call, or rethrowing its failure to every later call"
+							+ "\n\t * unless {@code retriesFailure}, in which case the next call calls it again,"
+							+ "\n\t * and that %s."
+							+ "\n\t */"
+							+ "\n\tpublic static %s%s %s(%s, boolean retriesFailure) {"
+							+ "\n\t\treturn %s.lazySupplier(%s, retriesFailure);"
+							+ "\n\t}",
+					samType.getQualifiedName(),
+					samTypeSimpleName,
+					samTypeSimpleName,
+					catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+					methodTypeParams,
+					samTypeSimpleName + samTypeTypeArgs,
+					lazyMethodName,
+					leadingParam,
+					memoizersSimpleName,
+					unchecked,
+					samType.getQualifiedName(),
+					samTypeSimpleName,
+					samTypeSimpleName,
+					catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+					methodTypeParams,
+					samTypeSimpleName + samTypeTypeArgs,
+					lazyMethodName,
+					leadingParam,
+					memoizersSimpleName,
+					unchecked);
+		}
+
+		String memoizeMethodName = renamedUncheckMethodName(uncheckMethodName, "memoize", "memoized");
+
+		return String.format(
+				"\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} that remembers its results for up to"
+						+ "\n\t * {@code maximumSize} recently used arguments, computing each once"
+						+ "\n\t * however many threads ask for it at the same time,"
+						+ "\n\t * and that %s."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s(%s, int maximumSize) {"
+						+ "\n\t\treturn %s.memoize%s(%s, maximumSize, null);"
+						+ "\n\t}"
+						+ "\n"
+						+ "\n\t/**"
+						+ "\n\t * Decorates the given {@link %s %s}-like"
+						+ "\n\t * lambda or functional interface instance"
+						+ "\n\t * with a {@code %s} that remembers its results for up to"
+						+ "\n\t * {@code maximumSize} recently used arguments, each for {@code timeToLive},"
+						+ "\n\t * computing each once however many threads ask for it at the same time,"
+						+ "\n\t * and that %s."
+						+ "\n\t */"
+						+ "\n\tpublic static %s%s %s("
+						+ "\n\t\t\t%s, int maximumSize, Duration timeToLive) {"
+						+ "\n\t\treturn %s.memoize%s(%s, maximumSize, timeToLive);"
+						+ "\n\t}",
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				methodTypeParams,
+				samTypeSimpleName + samTypeTypeArgs,
+				memoizeMethodName,
+				leadingParam,
+				memoizersSimpleName,
+				samTypeSimpleName,
+				unchecked,
+				samType.getQualifiedName(),
+				samTypeSimpleName,
+				samTypeSimpleName,
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				methodTypeParams,
+				samTypeSimpleName + samTypeTypeArgs,
+				memoizeMethodName,
+				leadingParam,
+				memoizersSimpleName,
+				samTypeSimpleName,
+				unchecked);
+	}
+
+	/**
+	 * The name of an {@code uncheck} method with {@code uncheck} replaced by the given verb,
+	 * such as {@code hedgeIoSupplier} for {@code uncheckIoSupplier}, or else with the given
+	 * prefix prepended, such as {@code hedgedSneakySupplier} for {@code sneakySupplier}.
+	 */
+	private static String renamedUncheckMethodName(
+			String uncheckMethodName, String verb, String prefix) {
+		return uncheckMethodName.startsWith("uncheck")
+				? verb + uncheckMethodName.substring("uncheck".length())
+				: prefix + Character.toUpperCase(uncheckMethodName.charAt(0))
+						+ uncheckMethodName.substring(1);
 	}
 
-	private static boolean isCheckedException(Class<?> clazz) {
+	/** The {@code Hedger} class, which lives alongside the async-calls class. */
+	private static String hedgerClassName(String asyncCallsClassName) {
+		return asyncCallsClassName.substring(0, asyncCallsClassName.lastIndexOf('.') + 1) + "Hedger";
+	}
+
+	private static String boxedTypeName(String typeName) {
+		switch (typeName) {
+		case "void": return "Void";
+		case "boolean": return "Boolean";
+		case "byte": return "Byte";
+		case "char": return "Character";
+		case "short": return "Short";
+		case "int": return "Integer";
+		case "long": return "Long";
+		case "float": return "Float";
+		case "double": return "Double";
+		default: return typeName;
+		}
+	}
+
+	/**
+	 * The name of the method throwing the checked exception, which must differ from
+	 * that of the SAM type's method when the checked interface extends the SAM type.
+	 */
+	static String checkedMethodName(String methodName, boolean checkedInterfaceExtendsSamType) {
+		return checkedInterfaceExtendsSamType
+				? methodName + "Checked"
+				: methodName;
+	}
+
+	static boolean isCheckedException(Class<?> clazz) {
 		return Exception.class.isAssignableFrom(clazz)
 				&& !RuntimeException.class.isAssignableFrom(clazz);
 	}
 
+	static String simpleNameOf(String qualifiedName) {
+		return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+	}
+
 	private static String paramNameForTypeName(String typeName) {
-		return typeName.equals(typeName.toUpperCase())
-				? typeName.toLowerCase()
-				: typeName.substring(0, 1);
+		String simpleTypeName = simpleNameOf(typeName.replaceAll("[<\\[].*", ""));
+		String paramName = simpleTypeName.equals(simpleTypeName.toUpperCase())
+				? simpleTypeName.toLowerCase()
+				: simpleTypeName.substring(0, 1).toLowerCase();
+
+		// don't shadow the caught exception
+		return paramName.equals("e") ? "element" : paramName;
 	}
 }
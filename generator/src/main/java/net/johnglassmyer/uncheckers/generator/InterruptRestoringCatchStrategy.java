@@ -0,0 +1,93 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.List;
+
+/**
+ * Disposes of caught checked exceptions as another strategy does, first restoring the
+ * interrupt status of the current thread if the exception is an
+ * {@link InterruptedException}, whose throwing cleared it, so that a thread interrupted to
+ * shut down or cancel its task still knows it was interrupted once the exception has been
+ * unchecked.
+ */
+public class InterruptRestoringCatchStrategy implements CatchStrategy {
+	private final CatchStrategy catchStrategy;
+	/** Whether the caught exception may be other than an {@code InterruptedException}. */
+	private final boolean checksInstance;
+
+	private InterruptRestoringCatchStrategy(CatchStrategy catchStrategy, boolean checksInstance) {
+		this.catchStrategy = catchStrategy;
+		this.checksInstance = checksInstance;
+	}
+
+	/**
+	 * Restores the interrupt status before disposing of exceptions by the given strategy,
+	 * unconditionally if the named checked exception class is {@code InterruptedException},
+	 * and otherwise if the exception is an instance of it, in which case the named class
+	 * must be a superclass of {@code InterruptedException}.
+	 */
+	public static InterruptRestoringCatchStrategy restoringInterrupt(
+			String checkedExceptionClassName, CatchStrategy catchStrategy) {
+		return new InterruptRestoringCatchStrategy(
+				catchStrategy,
+				!checkedExceptionClassName.equals(InterruptedException.class.getName()));
+	}
+
+	@Override
+	public List<String> getImportedClassNames() {
+		return catchStrategy.getImportedClassNames();
+	}
+
+	@Override
+	public String describeForEnclosingClass(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n * restoring the interrupt status of the current thread%s,",
+				catchStrategy.describeForEnclosingClass(checkedExceptionClassName),
+				checksInstance ? " on {@code InterruptedException}" : "");
+	}
+
+	@Override
+	public String describeForUncheckMethod(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n\t * restoring the interrupt status of the current thread%s",
+				catchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				checksInstance ? " on {@code InterruptedException}" : "");
+	}
+
+	@Override
+	public String describeForCallUncheckedMethod(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n\t * restoring the interrupt status of the current thread%s",
+				catchStrategy.describeForCallUncheckedMethod(checkedExceptionClassName),
+				checksInstance ? " on {@code InterruptedException}" : "");
+	}
+
+	@Override
+	public String generateTryPrologue(String indentation) {
+		return catchStrategy.generateTryPrologue(indentation);
+	}
+
+	@Override
+	public String generateCatchBody(
+			String samTypeSimpleName, String exceptionName, String indentation) {
+		String restoration = checksInstance
+				? String.format(
+						"%1$sif (%2$s instanceof InterruptedException) {"
+						+ "\n%1$s\tThread.currentThread().interrupt();"
+						+ "\n%1$s}"
+						+ "\n",
+						indentation,
+						exceptionName)
+				: String.format("%sThread.currentThread().interrupt();\n", indentation);
+
+		return restoration
+				+ catchStrategy.generateCatchBody(samTypeSimpleName, exceptionName, indentation);
+	}
+
+	@Override
+	public String generateEnclosingClassMembers() {
+		return catchStrategy.generateEnclosingClassMembers();
+	}
+}
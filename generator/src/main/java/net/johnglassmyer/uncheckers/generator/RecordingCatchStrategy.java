@@ -0,0 +1,101 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps and re-throws caught checked exceptions as a {@link WrappingCatchStrategy} does,
+ * first committing a JFR event recording the wrapping and the time spent in the call.
+ *
+ * <p>The named event class must have a static method {@code beginIfEnabled()}, returning
+ * a begun event or, cheaply, {@code null} if the event is disabled, and a static method
+ * {@code commit(event, String samTypeSimpleName, Throwable checkedException,
+ * Class<?> uncheckedExceptionClass)} ending and committing a non-null event.
+ */
+public class RecordingCatchStrategy implements CatchStrategy {
+	private static final String EVENT_VARIABLE_NAME = "exceptionWrappingEvent";
+
+	private final String eventClassName;
+	private final String eventSimpleName;
+	private final WrappingCatchStrategy wrappingCatchStrategy;
+
+	private RecordingCatchStrategy(
+			String eventClassName, WrappingCatchStrategy wrappingCatchStrategy) {
+		this.eventClassName = eventClassName;
+		this.eventSimpleName = Generator.simpleNameOf(eventClassName);
+		this.wrappingCatchStrategy = wrappingCatchStrategy;
+	}
+
+	/**
+	 * Records wrappings by the given strategy in events of the named class,
+	 * which need not be loadable by the generator.
+	 */
+	public static RecordingCatchStrategy recordingIn(
+			String eventClassName, WrappingCatchStrategy wrappingCatchStrategy) {
+		return new RecordingCatchStrategy(eventClassName, wrappingCatchStrategy);
+	}
+
+	@Override
+	public List<String> getImportedClassNames() {
+		List<String> classNames = new ArrayList<>(wrappingCatchStrategy.getImportedClassNames());
+		classNames.add(eventClassName);
+		return classNames;
+	}
+
+	@Override
+	public String describeForEnclosingClass(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n * recording each wrapping in a {@link %s %s} when enabled,",
+				wrappingCatchStrategy.describeForEnclosingClass(checkedExceptionClassName),
+				eventClassName,
+				eventSimpleName);
+	}
+
+	@Override
+	public String describeForUncheckMethod(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n\t * recording each wrapping in a {@code %s} when enabled",
+				wrappingCatchStrategy.describeForUncheckMethod(checkedExceptionClassName),
+				eventSimpleName);
+	}
+
+	@Override
+	public String describeForCallUncheckedMethod(String checkedExceptionClassName) {
+		return String.format(
+				"%s,"
+				+ "\n\t * recording the wrapping in a {@code %s} when enabled",
+				wrappingCatchStrategy.describeForCallUncheckedMethod(checkedExceptionClassName),
+				eventSimpleName);
+	}
+
+	@Override
+	public String generateTryPrologue(String indentation) {
+		return String.format("%s%s %s = %s.beginIfEnabled();\n",
+				indentation, eventSimpleName, EVENT_VARIABLE_NAME, eventSimpleName);
+	}
+
+	@Override
+	public String generateCatchBody(
+			String samTypeSimpleName, String exceptionName, String indentation) {
+		return String.format(
+				"%1$sif (%2$s != null) {"
+				+ "\n%1$s\t%3$s.commit(%2$s, \"%4$s\", %5$s, %6$s.class);"
+				+ "\n%1$s}"
+				+ "\n%7$s",
+				indentation,
+				EVENT_VARIABLE_NAME,
+				eventSimpleName,
+				samTypeSimpleName,
+				exceptionName,
+				Generator.simpleNameOf(wrappingCatchStrategy.getUncheckedExceptionClassName()),
+				wrappingCatchStrategy.generateCatchBody(
+						samTypeSimpleName, exceptionName, indentation));
+	}
+
+	@Override
+	public String generateEnclosingClassMembers() {
+		return wrappingCatchStrategy.generateEnclosingClassMembers();
+	}
+}
@@ -0,0 +1,190 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * A single-abstract-method type, described by the names of its types as they would
+ * appear in source code, so that SAM types need not be loaded in order to be generated for.
+ */
+public final class SamType {
+	private final String qualifiedName;
+	private final String simpleName;
+	private final List<String> typeParameterDeclarations;
+	private final List<String> typeParameterNames;
+	private final String methodName;
+	private final String returnTypeName;
+	private final List<String> parameterTypeNames;
+
+	/**
+	 * @param qualifiedName the canonical name by which the SAM type can be imported
+	 * @param typeParameterDeclarations type parameters as declared,
+	 * for example {@code T extends Comparable<T>}
+	 * @param returnTypeName the return type of the abstract method, in terms of the
+	 * SAM type's type parameters, or {@code void}
+	 * @param parameterTypeNames parameter types of the abstract method, in terms of the
+	 * SAM type's type parameters
+	 */
+	public SamType(
+			String qualifiedName,
+			List<String> typeParameterDeclarations,
+			String methodName,
+			String returnTypeName,
+			List<String> parameterTypeNames) {
+		this.qualifiedName = qualifiedName;
+		this.simpleName = Generator.simpleNameOf(qualifiedName);
+		this.typeParameterDeclarations = ImmutableList.copyOf(typeParameterDeclarations);
+		this.typeParameterNames = typeParameterDeclarations.stream()
+				.map(declaration -> declaration.split(" ", 2)[0])
+				.collect(ImmutableList.toImmutableList());
+		this.methodName = methodName;
+		this.returnTypeName = returnTypeName;
+		this.parameterTypeNames = ImmutableList.copyOf(parameterTypeNames);
+	}
+
+	/**
+	 * Describes a loaded SAM type, resolving the types of its single abstract method
+	 * in terms of its own type parameters.
+	 *
+	 * @throws IllegalArgumentException if the type does not have exactly one abstract method
+	 * or if that method is declared to throw a checked exception
+	 */
+	public static SamType fromClass(Class<?> samType) {
+		TypeToken<?> typeToken = TypeToken.of(samType);
+
+		Method method = extractSingleAbstractMethod(samType);
+
+		findThrownCheckedException(typeToken, method).ifPresent(exceptionClass -> {
+			throw new IllegalArgumentException(String.format(
+					"%s.%s throws checked exception %s",
+					samType.getName(), method.getName(), exceptionClass.getName()));
+		});
+
+		return new SamType(
+				samType.getCanonicalName(),
+				Arrays.stream(samType.getTypeParameters())
+						.map(SamType::declareTypeVariable)
+						.collect(Collectors.toList()),
+				method.getName(),
+				typeToken.resolveType(method.getGenericReturnType()).getType().getTypeName(),
+				Arrays.stream(method.getGenericParameterTypes())
+						.map(typeToken::resolveType)
+						.map(t -> t.getType().getTypeName())
+						.collect(Collectors.toList()));
+	}
+
+	public static List<SamType> fromClasses(List<Class<?>> samTypes) {
+		return samTypes.stream()
+				.map(SamType::fromClass)
+				.collect(ImmutableList.toImmutableList());
+	}
+
+	public String getQualifiedName() {
+		return qualifiedName;
+	}
+
+	public String getSimpleName() {
+		return simpleName;
+	}
+
+	public List<String> getTypeParameterNames() {
+		return typeParameterNames;
+	}
+
+	public String getMethodName() {
+		return methodName;
+	}
+
+	public String getReturnTypeName() {
+		return returnTypeName;
+	}
+
+	public List<String> getParameterTypeNames() {
+		return parameterTypeNames;
+	}
+
+	public boolean returnsVoid() {
+		return returnTypeName.equals("void");
+	}
+
+	/**
+	 * Type parameters as declared, for example {@code <T extends Number, R>},
+	 * or an empty string.
+	 */
+	String getTypeParameterDeclarationsString() {
+		return typeParameterDeclarations.isEmpty()
+				? ""
+				: "<" + String.join(", ", typeParameterDeclarations) + ">";
+	}
+
+	/**
+	 * Type parameters as type arguments, for example {@code <T, R>}, or an empty string.
+	 */
+	String getTypeArgumentsString() {
+		return typeParameterNames.isEmpty()
+				? ""
+				: "<" + String.join(", ", typeParameterNames) + ">";
+	}
+
+	@Override
+	public String toString() {
+		return qualifiedName;
+	}
+
+	static Method extractSingleAbstractMethod(Class<?> samType) {
+		List<Method> methods = Arrays.asList(samType.getMethods()).stream()
+				.filter(m -> Modifier.isAbstract(m.getModifiers()))
+				.filter(m -> !isMethodOfObject(m))
+				.collect(Collectors.toList());
+
+		if (methods.size() != 1) {
+			throw new IllegalArgumentException(String.format(
+					"%s has %d abstract methods: %s",
+					samType.getName(),
+					methods.size(),
+					methods.stream().map(m -> m.getName()).collect(Collectors.toList())));
+		}
+
+		return methods.get(0);
+	}
+
+	private static boolean isMethodOfObject(Method m) {
+		for (Method objectMethod : Object.class.getDeclaredMethods()) {
+			if (m.getName().equals(objectMethod.getName())
+					&& Arrays.equals(m.getParameterTypes(), objectMethod.getParameterTypes())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Optional<? extends Class<?>> findThrownCheckedException(
+			TypeToken<?> typeToken, Method method) {
+		return Arrays.stream(method.getGenericExceptionTypes())
+				.map(typeToken::resolveType)
+				.map(TypeToken::getRawType)
+				.filter(Generator::isCheckedException)
+				.findFirst();
+	}
+
+	private static String declareTypeVariable(TypeVariable<?> typeVariable) {
+		List<String> bounds = Arrays.stream(typeVariable.getBounds())
+				.filter(bound -> !bound.equals(Object.class))
+				.map(Type::getTypeName)
+				.collect(Collectors.toList());
+
+		return bounds.isEmpty()
+				? typeVariable.getName()
+				: typeVariable.getName() + " extends " + String.join(" & ", bounds);
+	}
+}
@@ -1,5 +1,6 @@
 package net.johnglassmyer.uncheckers.generator;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -49,6 +50,8 @@ import java.util.function.LongPredicate;
 import com.google.common.collect.ImmutableList;
 
 class SamTypes {
+	static final String PRIMITIVE_SAM_TYPES_PACKAGE_NAME = "net.johnglassmyer.uncheckers.function";
+
 	static final List<Class<?>> STANDARD_SAM_TYPES = ImmutableList.<Class<?>>builder()
 			.add(Runnable.class)
 			.add(Comparator.class)
@@ -97,4 +100,61 @@ class SamTypes {
 					ToLongFunction.class,
 					UnaryOperator.class)
 			.build();
+
+	/**
+	 * SAM types of shapes for which {@code java.util.function} has no primitive
+	 * specialization, so that calls of such shapes need not box their primitives.
+	 * They are generated, by {@link GeneratePrimitiveSamTypes}, rather than loaded.
+	 */
+	static final List<SamType> PRIMITIVE_SAM_TYPES = ImmutableList.of(
+			primitiveSamType("IntBiFunction", "R", "apply", "R", "int", "int"),
+			primitiveSamType("LongBiFunction", "R", "apply", "R", "long", "long"),
+			primitiveSamType("DoubleBiFunction", "R", "apply", "R", "double", "double"),
+			primitiveSamType("ObjIntFunction", "T, R", "apply", "R", "T", "int"),
+			primitiveSamType("ObjLongFunction", "T, R", "apply", "R", "T", "long"),
+			primitiveSamType("ObjDoubleFunction", "T, R", "apply", "R", "T", "double"),
+			primitiveSamType("ObjIntPredicate", "T", "test", "boolean", "T", "int"),
+			primitiveSamType("IntBiPredicate", "", "test", "boolean", "int", "int"),
+			primitiveSamType("IntIntConsumer", "", "accept", "void", "int", "int"),
+			primitiveSamType("LongLongConsumer", "", "accept", "void", "long", "long"),
+			primitiveSamType("DoubleDoubleConsumer", "", "accept", "void", "double", "double"),
+			primitiveSamType("FloatUnaryOperator", "", "applyAsFloat", "float", "float"),
+			primitiveSamType("FloatBinaryOperator", "", "applyAsFloat", "float", "float", "float"),
+			primitiveSamType("FloatPredicate", "", "test", "boolean", "float"),
+			primitiveSamType("FloatFunction", "R", "apply", "R", "float"),
+			primitiveSamType("FloatConsumer", "", "accept", "void", "float"),
+			primitiveSamType("FloatSupplier", "", "getAsFloat", "float"),
+			primitiveSamType("ToFloatFunction", "T", "applyAsFloat", "float", "T"),
+			primitiveSamType("CharPredicate", "", "test", "boolean", "char"),
+			primitiveSamType("CharFunction", "R", "apply", "R", "char"),
+			primitiveSamType("CharUnaryOperator", "", "applyAsChar", "char", "char"),
+			primitiveSamType("ToCharFunction", "T", "applyAsChar", "char", "T"),
+			primitiveSamType("ShortFunction", "R", "apply", "R", "short"),
+			primitiveSamType("ToShortFunction", "T", "applyAsShort", "short", "T"),
+			primitiveSamType("ByteFunction", "R", "apply", "R", "byte"),
+			primitiveSamType("ToByteFunction", "T", "applyAsByte", "byte", "T"));
+
+	/** The standard SAM types followed by the primitive ones. */
+	static List<SamType> standardAndPrimitiveSamTypes() {
+		return ImmutableList.<SamType>builder()
+				.addAll(SamType.fromClasses(STANDARD_SAM_TYPES))
+				.addAll(PRIMITIVE_SAM_TYPES)
+				.build();
+	}
+
+	private static SamType primitiveSamType(
+			String simpleName,
+			String typeParameters,
+			String methodName,
+			String returnTypeName,
+			String... parameterTypeNames) {
+		return new SamType(
+				PRIMITIVE_SAM_TYPES_PACKAGE_NAME + "." + simpleName,
+				typeParameters.isEmpty()
+						? ImmutableList.of()
+						: Arrays.asList(typeParameters.split(", ")),
+				methodName,
+				returnTypeName,
+				Arrays.asList(parameterTypeNames));
+	}
 }
@@ -0,0 +1,280 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the generic signatures (JVMS 4.7.9.1) and descriptors (JVMS 4.3) of class files
+ * into type names as they would appear in source code, replacing type variables
+ * according to a substitution so that the members of a supertype can be described
+ * in terms of a subtype's type parameters.
+ */
+class Signatures {
+	static class TypeParameter {
+		final String name;
+		final List<String> bounds;
+		final String erasure;
+
+		TypeParameter(String name, List<String> bounds, String erasure) {
+			this.name = name;
+			this.bounds = bounds;
+			this.erasure = erasure;
+		}
+
+		/**
+		 * The declaration as in source code, omitting a bound of {@code Object}.
+		 */
+		String declaration() {
+			List<String> explicitBounds = new ArrayList<>(bounds);
+			explicitBounds.remove("java.lang.Object");
+			return explicitBounds.isEmpty()
+					? name
+					: name + " extends " + String.join(" & ", explicitBounds);
+		}
+	}
+
+	static class ClassType {
+		final String internalName;
+		final List<String> typeArguments;
+
+		ClassType(String internalName, List<String> typeArguments) {
+			this.internalName = internalName;
+			this.typeArguments = typeArguments;
+		}
+	}
+
+	static class ClassSignature {
+		final List<TypeParameter> typeParameters;
+		final List<ClassType> superinterfaces;
+
+		ClassSignature(List<TypeParameter> typeParameters, List<ClassType> superinterfaces) {
+			this.typeParameters = typeParameters;
+			this.superinterfaces = superinterfaces;
+		}
+	}
+
+	static class MethodSignature {
+		final List<TypeParameter> typeParameters;
+		final List<String> parameterTypes;
+		final String returnType;
+		/** internal names of thrown class types, or null for a thrown type variable */
+		final List<String> thrownTypes;
+
+		MethodSignature(
+				List<TypeParameter> typeParameters,
+				List<String> parameterTypes,
+				String returnType,
+				List<String> thrownTypes) {
+			this.typeParameters = typeParameters;
+			this.parameterTypes = parameterTypes;
+			this.returnType = returnType;
+			this.thrownTypes = thrownTypes;
+		}
+	}
+
+	private final String signature;
+	private final Map<String, String> substitution;
+	private int position;
+
+	private Signatures(String signature, Map<String, String> substitution) {
+		this.signature = signature;
+		this.substitution = substitution;
+	}
+
+	static ClassSignature parseClassSignature(String signature, Map<String, String> substitution) {
+		Signatures parser = new Signatures(signature, substitution);
+
+		List<TypeParameter> typeParameters = parser.parseTypeParameters();
+		parser.parseClassType();
+
+		List<ClassType> superinterfaces = new ArrayList<>();
+		while (parser.position < signature.length()) {
+			superinterfaces.add(parser.parseClassType());
+		}
+
+		return new ClassSignature(typeParameters, superinterfaces);
+	}
+
+	/**
+	 * @param exceptionInternalNames thrown types from the method's {@code exceptions},
+	 * used when the signature declares none
+	 */
+	static MethodSignature parseMethodSignature(
+			String signature,
+			List<String> exceptionInternalNames,
+			Map<String, String> substitution) {
+		Signatures parser = new Signatures(signature, substitution);
+
+		List<TypeParameter> typeParameters = parser.parseTypeParameters();
+
+		parser.expect('(');
+		List<String> parameterTypes = new ArrayList<>();
+		while (parser.peek() != ')') {
+			parameterTypes.add(parser.parseType());
+		}
+		parser.expect(')');
+
+		String returnType = parser.parseType();
+
+		List<String> thrownTypes = new ArrayList<>();
+		while (parser.position < signature.length()) {
+			parser.expect('^');
+			if (parser.peek() == 'T') {
+				parser.parseType();
+				thrownTypes.add(null);
+			} else {
+				thrownTypes.add(parser.parseClassType().internalName);
+			}
+		}
+
+		return new MethodSignature(
+				typeParameters,
+				parameterTypes,
+				returnType,
+				thrownTypes.isEmpty() ? exceptionInternalNames : thrownTypes);
+	}
+
+	static String sourceNameOf(String internalName) {
+		return internalName.replace('/', '.').replace('$', '.');
+	}
+
+	private List<TypeParameter> parseTypeParameters() {
+		List<TypeParameter> typeParameters = new ArrayList<>();
+		if (peek() != '<') {
+			return typeParameters;
+		}
+
+		expect('<');
+		while (peek() != '>') {
+			String name = signature.substring(position, signature.indexOf(':', position));
+			position += name.length();
+
+			List<String> bounds = new ArrayList<>();
+			String erasure = null;
+			while (peek() == ':') {
+				expect(':');
+				// the class bound may be empty when there are interface bounds
+				if (peek() != ':') {
+					boolean isClassType = peek() == 'L';
+					int start = position;
+					String bound = parseType();
+					if (erasure == null) {
+						erasure = isClassType
+								? sourceNameOf(signature.substring(start + 1,
+										erasureEnd(start + 1)))
+								: "java.lang.Object";
+					}
+					bounds.add(bound);
+				}
+			}
+
+			typeParameters.add(new TypeParameter(
+					name, bounds, erasure == null ? "java.lang.Object" : erasure));
+		}
+		expect('>');
+
+		return typeParameters;
+	}
+
+	private int erasureEnd(int start) {
+		int end = start;
+		while (signature.charAt(end) != '<' && signature.charAt(end) != ';') {
+			end++;
+		}
+		return end;
+	}
+
+	private String parseType() {
+		char c = signature.charAt(position++);
+		switch (c) {
+			case 'B': return "byte";
+			case 'C': return "char";
+			case 'D': return "double";
+			case 'F': return "float";
+			case 'I': return "int";
+			case 'J': return "long";
+			case 'S': return "short";
+			case 'Z': return "boolean";
+			case 'V': return "void";
+			case '[': return parseType() + "[]";
+			case 'T': {
+				int end = signature.indexOf(';', position);
+				String name = signature.substring(position, end);
+				position = end + 1;
+				return substitution.getOrDefault(name, name);
+			}
+			case 'L': {
+				position--;
+				ClassType classType = parseClassType();
+				return formatClassType(classType);
+			}
+			default:
+				throw new IllegalArgumentException(String.format(
+						"unexpected '%c' at %d of signature %s", c, position - 1, signature));
+		}
+	}
+
+	/**
+	 * Parses a class type, keeping the type arguments of only its innermost class.
+	 */
+	private ClassType parseClassType() {
+		expect('L');
+		StringBuilder internalName = new StringBuilder();
+		List<String> typeArguments = new ArrayList<>();
+		while (true) {
+			char c = signature.charAt(position++);
+			if (c == ';') {
+				break;
+			} else if (c == '<') {
+				typeArguments = new ArrayList<>();
+				while (peek() != '>') {
+					typeArguments.add(parseTypeArgument());
+				}
+				expect('>');
+			} else if (c == '.') {
+				internalName.append('$');
+				typeArguments = new ArrayList<>();
+			} else {
+				internalName.append(c);
+			}
+		}
+
+		return new ClassType(internalName.toString(), typeArguments);
+	}
+
+	private String parseTypeArgument() {
+		switch (peek()) {
+			case '*':
+				position++;
+				return "?";
+			case '+':
+				position++;
+				return "? extends " + parseType();
+			case '-':
+				position++;
+				return "? super " + parseType();
+			default:
+				return parseType();
+		}
+	}
+
+	private static String formatClassType(ClassType classType) {
+		String name = sourceNameOf(classType.internalName);
+		return classType.typeArguments.isEmpty()
+				? name
+				: name + "<" + String.join(", ", classType.typeArguments) + ">";
+	}
+
+	private char peek() {
+		return signature.charAt(position);
+	}
+
+	private void expect(char c) {
+		if (signature.charAt(position) != c) {
+			throw new IllegalArgumentException(String.format(
+					"expected '%c' at %d of signature %s", c, position, signature));
+		}
+		position++;
+	}
+}
@@ -0,0 +1,62 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Re-throws caught checked exceptions unchanged, by way of a generic method whose
+ * declared exception type is inferred to be unchecked, so that nothing is allocated
+ * and no stack trace is captured on the failure path.
+ */
+public class SneakyThrowingCatchStrategy implements CatchStrategy {
+	@Override
+	public List<String> getImportedClassNames() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String describeForEnclosingClass(String checkedExceptionClassName) {
+		return String.format(
+				"re-throw"
+				+ "\n * {@link %s %s}"
+				+ "\n * unchanged, but undeclared,",
+				checkedExceptionClassName,
+				Generator.simpleNameOf(checkedExceptionClassName));
+	}
+
+	@Override
+	public String describeForUncheckMethod(String checkedExceptionClassName) {
+		return String.format(
+				"re-throws"
+				+ "\n\t * any thrown {@code %s}"
+				+ "\n\t * unchanged, but undeclared",
+				Generator.simpleNameOf(checkedExceptionClassName));
+	}
+
+	@Override
+	public String describeForCallUncheckedMethod(String checkedExceptionClassName) {
+		return String.format(
+				"re-throwing any thrown {@code %s}"
+				+ "\n\t * unchanged, but undeclared",
+				Generator.simpleNameOf(checkedExceptionClassName));
+	}
+
+	@Override
+	public String generateCatchBody(
+			String samTypeSimpleName, String exceptionName, String indentation) {
+		return String.format("%sthrow sneakyThrow(%s);", indentation, exceptionName);
+	}
+
+	@Override
+	public String generateEnclosingClassMembers() {
+		return "\t/**"
+				+ "\n\t * Throws the given exception without the compiler knowing,"
+				+ "\n\t * {@code E} being inferred as {@code RuntimeException}."
+				+ "\n\t */"
+				+ "\n\t@SuppressWarnings(\"unchecked\")"
+				+ "\n\tprivate static <E extends Throwable> RuntimeException sneakyThrow("
+				+ "Throwable throwable) throws E {"
+				+ "\n\t\tthrow (E) throwable;"
+				+ "\n\t}";
+	}
+}
@@ -0,0 +1,116 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Throws whatever unchecked exception a pluggable translator returns for a caught checked
+ * exception. The translator is held in a static field of the enclosing class, read only
+ * on the failure path, so that the success path is the same as that of any other strategy.
+ */
+public class TranslatingCatchStrategy implements CatchStrategy {
+	private final String translatorInterfaceClassName;
+	private final String translatorInterfaceSimpleName;
+	private final String defaultTranslatorExpression;
+
+	private TranslatingCatchStrategy(
+			String translatorInterfaceClassName, String defaultTranslatorExpression) {
+		this.translatorInterfaceClassName = translatorInterfaceClassName;
+		this.translatorInterfaceSimpleName = Generator.simpleNameOf(translatorInterfaceClassName);
+		this.defaultTranslatorExpression = defaultTranslatorExpression;
+	}
+
+	/**
+	 * Translates by an instance of the named interface, which must have a method
+	 * {@code translate} taking the caught exception and returning the unchecked exception
+	 * to be thrown, initially the value of the given (fully-qualified) expression.
+	 * Neither need be loadable by the generator.
+	 */
+	public static TranslatingCatchStrategy translatingWith(
+			String translatorInterfaceClassName, String defaultTranslatorExpression) {
+		return new TranslatingCatchStrategy(
+				translatorInterfaceClassName, defaultTranslatorExpression);
+	}
+
+	@Override
+	public List<String> getImportedClassNames() {
+		return Collections.singletonList(translatorInterfaceClassName);
+	}
+
+	@Override
+	public String describeForEnclosingClass(String checkedExceptionClassName) {
+		return String.format(
+				"translate"
+				+ "\n * {@link %s %s}"
+				+ "\n * into unchecked exceptions chosen by a pluggable"
+				+ "\n * {@link %s %s},",
+				checkedExceptionClassName,
+				Generator.simpleNameOf(checkedExceptionClassName),
+				translatorInterfaceClassName,
+				translatorInterfaceSimpleName);
+	}
+
+	@Override
+	public String describeForUncheckMethod(String checkedExceptionClassName) {
+		return String.format(
+				"throws in place of"
+				+ "\n\t * any thrown {@code %s}"
+				+ "\n\t * the unchecked exception chosen by the current {@code %s}",
+				Generator.simpleNameOf(checkedExceptionClassName),
+				translatorInterfaceSimpleName);
+	}
+
+	@Override
+	public String describeForCallUncheckedMethod(String checkedExceptionClassName) {
+		return String.format(
+				"throwing in place of any thrown {@code %s}"
+				+ "\n\t * the unchecked exception chosen by the current {@code %s}",
+				Generator.simpleNameOf(checkedExceptionClassName),
+				translatorInterfaceSimpleName);
+	}
+
+	@Override
+	public String generateCatchBody(
+			String samTypeSimpleName, String exceptionName, String indentation) {
+		return String.format("%sthrow translate(%s);", indentation, exceptionName);
+	}
+
+	@Override
+	public String generateEnclosingClassMembers() {
+		return String.format(
+				"\tprivate static volatile %s exceptionTranslator ="
+				+ "\n\t\t\t%s;"
+				+ "\n"
+				+ "\n\t/**"
+				+ "\n\t * Sets the {@code %s} choosing the unchecked exceptions"
+				+ "\n\t * thrown by all of this class's uncheckers."
+				+ "\n\t */"
+				+ "\n\tpublic static void setExceptionTranslator(%s translator) {"
+				+ "\n\t\texceptionTranslator = java.util.Objects.requireNonNull(translator);"
+				+ "\n\t}"
+				+ "\n"
+				+ "\n\t/**"
+				+ "\n\t * The unchecked exception chosen by the current {@code %s},"
+				+ "\n\t * or, if it returns {@code null}, a {@code RuntimeException} wrapping"
+				+ "\n\t * the given exception, so that the given exception is never lost."
+				+ "\n\t */"
+				+ "\n\tstatic RuntimeException translate(Exception exception) {"
+				+ "\n\t\t%s translator = exceptionTranslator;"
+				+ "\n\t\tRuntimeException translated = translator.translate(exception);"
+				+ "\n\t\treturn translated != null ? translated : translatedToNull(translator, exception);"
+				+ "\n\t}"
+				+ "\n"
+				+ "\n\tprivate static RuntimeException translatedToNull("
+				+ "\n\t\t\t%s translator, Exception exception) {"
+				+ "\n\t\treturn new RuntimeException("
+				+ "\n\t\t\t\ttranslator + \" translated \" + exception + \" to null\", exception);"
+				+ "\n\t}",
+				translatorInterfaceSimpleName,
+				defaultTranslatorExpression,
+				translatorInterfaceSimpleName,
+				translatorInterfaceSimpleName,
+				translatorInterfaceSimpleName,
+				translatorInterfaceSimpleName,
+				translatorInterfaceSimpleName);
+	}
+}
@@ -0,0 +1,250 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.function.Function;
+
+/**
+ * Everything {@link Generator} needs to know about one generated class of uncheckers,
+ * apart from the SAM types it covers.
+ *
+ * <p>The checked exception type is named rather than given as a {@code Class},
+ * so that it need not be loadable by the generator.
+ */
+public class UncheckersConfiguration {
+	final String checkedExceptionClassName;
+	final CatchStrategy catchStrategy;
+	final String uncheckersPackageName;
+	final String uncheckersEnclosingClassName;
+	final Function<String, String> samTypeNameToCheckedInterfaceName;
+	final Function<String, String> samTypeNameToUncheckMethodName;
+	final Function<String, String> samTypeNameToCallUncheckedMethodName;
+	/**
+	 * Whether each checked interface extends its SAM type, implementing the SAM type's method
+	 * as a default method around a differently-named method throwing the checked exception,
+	 * so that unchecking a checked interface instance allocates nothing.
+	 */
+	final boolean checkedInterfacesExtendSamTypes;
+	/**
+	 * The fully-qualified name of a class like {@code net.johnglassmyer.uncheckers.AsyncCalls},
+	 * having static methods {@code defaultExecutor()} and
+	 * {@code callAsync(Callable, Executor, Duration)}, through which to generate
+	 * asynchronous {@code callUnchecked} and {@code uncheck} methods,
+	 * or {@code null} to generate none. Hedging methods for {@code Supplier}-like SAM types
+	 * are generated too, through a class {@code Hedger} in the same package.
+	 */
+	final String asyncCallsClassName;
+	/**
+	 * The fully-qualified name of a class like
+	 * {@code net.johnglassmyer.uncheckers.CallSiteMetrics}, having a static method
+	 * {@code forCallSite(String)} returning an instance with methods
+	 * {@code recordSuccess(long)} and {@code recordFailure(Throwable, long)},
+	 * through which to generate {@code uncheck} and {@code callUnchecked} methods taking
+	 * a call-site tag and recording metrics, or {@code null} to generate plain ones.
+	 * Instrumented {@code uncheck} methods must decorate, so checked interfaces generated
+	 * for them must not extend their SAM types, though accepted ones may.
+	 */
+	final String metricsClassName;
+	/**
+	 * Whether decorating {@code uncheck} methods return instances of generated nested
+	 * classes rather than lambdas, so that no lambda is bootstrapped through
+	 * {@code invokedynamic} on the first call of each, and every class generated
+	 * can be listed ahead of time, as for a CDS archive. Irrelevant when checked interfaces
+	 * extend their SAM types, as their {@code uncheck} methods do not decorate.
+	 */
+	final boolean decoratorsAreNestedClasses;
+	/**
+	 * The fully-qualified name of a class like {@code net.johnglassmyer.uncheckers.Memoizers},
+	 * having static methods {@code memoizeFunction}, {@code memoizeIntFunction}, and
+	 * {@code memoizeLongFunction}, each taking a function, a maximum size, and a time to
+	 * live, and {@code lazySupplier(Supplier, boolean)}, through which to generate memoizing
+	 * methods for {@code Function}, {@code IntFunction}, and {@code LongFunction} and lazy
+	 * methods for {@code Supplier}, or {@code null} to generate none.
+	 */
+	final String memoizersClassName;
+	/**
+	 * The configuration of another generated class of uncheckers, for the same checked
+	 * exception and covering at least the same SAM types, whose checked interfaces to accept
+	 * (calling the methods throwing the checked exception) rather than generating any,
+	 * or {@code null} to generate checked interfaces of this class's own.
+	 */
+	final UncheckersConfiguration checkedInterfacesConfiguration;
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes) {
+		this(
+				checkedExceptionClassName,
+				catchStrategy,
+				uncheckersPackageName,
+				uncheckersEnclosingClassName,
+				samTypeNameToCheckedInterfaceName,
+				samTypeNameToUncheckMethodName,
+				samTypeNameToCallUncheckedMethodName,
+				checkedInterfacesExtendSamTypes,
+				null);
+	}
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes,
+			String asyncCallsClassName) {
+		this(
+				checkedExceptionClassName,
+				catchStrategy,
+				uncheckersPackageName,
+				uncheckersEnclosingClassName,
+				samTypeNameToCheckedInterfaceName,
+				samTypeNameToUncheckMethodName,
+				samTypeNameToCallUncheckedMethodName,
+				checkedInterfacesExtendSamTypes,
+				asyncCallsClassName,
+				null);
+	}
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes,
+			String asyncCallsClassName,
+			String metricsClassName) {
+		this(
+				checkedExceptionClassName,
+				catchStrategy,
+				uncheckersPackageName,
+				uncheckersEnclosingClassName,
+				samTypeNameToCheckedInterfaceName,
+				samTypeNameToUncheckMethodName,
+				samTypeNameToCallUncheckedMethodName,
+				checkedInterfacesExtendSamTypes,
+				asyncCallsClassName,
+				metricsClassName,
+				false);
+	}
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes,
+			String asyncCallsClassName,
+			String metricsClassName,
+			boolean decoratorsAreNestedClasses) {
+		this(
+				checkedExceptionClassName,
+				catchStrategy,
+				uncheckersPackageName,
+				uncheckersEnclosingClassName,
+				samTypeNameToCheckedInterfaceName,
+				samTypeNameToUncheckMethodName,
+				samTypeNameToCallUncheckedMethodName,
+				checkedInterfacesExtendSamTypes,
+				asyncCallsClassName,
+				metricsClassName,
+				decoratorsAreNestedClasses,
+				null);
+	}
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes,
+			String asyncCallsClassName,
+			String metricsClassName,
+			boolean decoratorsAreNestedClasses,
+			String memoizersClassName) {
+		this(
+				checkedExceptionClassName,
+				catchStrategy,
+				uncheckersPackageName,
+				uncheckersEnclosingClassName,
+				samTypeNameToCheckedInterfaceName,
+				samTypeNameToUncheckMethodName,
+				samTypeNameToCallUncheckedMethodName,
+				checkedInterfacesExtendSamTypes,
+				asyncCallsClassName,
+				metricsClassName,
+				decoratorsAreNestedClasses,
+				memoizersClassName,
+				null);
+	}
+
+	public UncheckersConfiguration(
+			String checkedExceptionClassName,
+			CatchStrategy catchStrategy,
+			String uncheckersPackageName,
+			String uncheckersEnclosingClassName,
+			Function<String, String> samTypeNameToCheckedInterfaceName,
+			Function<String, String> samTypeNameToUncheckMethodName,
+			Function<String, String> samTypeNameToCallUncheckedMethodName,
+			boolean checkedInterfacesExtendSamTypes,
+			String asyncCallsClassName,
+			String metricsClassName,
+			boolean decoratorsAreNestedClasses,
+			String memoizersClassName,
+			UncheckersConfiguration checkedInterfacesConfiguration) {
+		if (metricsClassName != null && checkedInterfacesExtendSamTypes) {
+			throw new IllegalArgumentException(
+					"instrumented checked interfaces cannot extend their SAM types");
+		}
+		if (metricsClassName != null && asyncCallsClassName != null) {
+			throw new IllegalArgumentException(
+					"instrumented uncheckers cannot also have asynchronous methods");
+		}
+		if (metricsClassName != null && memoizersClassName != null) {
+			throw new IllegalArgumentException(
+					"instrumented uncheckers cannot also have memoizing methods");
+		}
+
+		if (checkedInterfacesConfiguration != null
+				&& !checkedInterfacesConfiguration.checkedExceptionClassName.equals(
+						checkedExceptionClassName)) {
+			throw new IllegalArgumentException(String.format(
+					"checked interfaces for %s cannot be accepted where %s is checked",
+					checkedInterfacesConfiguration.checkedExceptionClassName,
+					checkedExceptionClassName));
+		}
+
+		this.checkedExceptionClassName = checkedExceptionClassName;
+		this.catchStrategy = catchStrategy;
+		this.uncheckersPackageName = uncheckersPackageName;
+		this.uncheckersEnclosingClassName = uncheckersEnclosingClassName;
+		this.samTypeNameToCheckedInterfaceName = samTypeNameToCheckedInterfaceName;
+		this.samTypeNameToUncheckMethodName = samTypeNameToUncheckMethodName;
+		this.samTypeNameToCallUncheckedMethodName = samTypeNameToCallUncheckedMethodName;
+		this.checkedInterfacesExtendSamTypes = checkedInterfacesExtendSamTypes;
+		this.asyncCallsClassName = asyncCallsClassName;
+		this.metricsClassName = metricsClassName;
+		this.decoratorsAreNestedClasses = decoratorsAreNestedClasses;
+		this.memoizersClassName = memoizersClassName;
+		this.checkedInterfacesConfiguration = checkedInterfacesConfiguration;
+	}
+
+	String getQualifiedEnclosingClassName() {
+		return uncheckersPackageName + "." + uncheckersEnclosingClassName;
+	}
+}
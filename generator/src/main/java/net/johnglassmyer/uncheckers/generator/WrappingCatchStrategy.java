@@ -0,0 +1,104 @@
+package net.johnglassmyer.uncheckers.generator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Wraps and re-throws caught checked exceptions in a new unchecked exception.
+ */
+public class WrappingCatchStrategy implements CatchStrategy {
+	private final String uncheckedExceptionClassName;
+	private final String uncheckedExceptionSimpleName;
+	private final boolean passesSamTypeName;
+
+	private WrappingCatchStrategy(
+			String uncheckedExceptionClassName,
+			boolean passesSamTypeName) {
+		this.uncheckedExceptionClassName = uncheckedExceptionClassName;
+		this.uncheckedExceptionSimpleName = Generator.simpleNameOf(uncheckedExceptionClassName);
+		this.passesSamTypeName = passesSamTypeName;
+	}
+
+	/**
+	 * Wraps in a new instance of the given unchecked exception type,
+	 * which must have a constructor taking the caught exception as its cause.
+	 */
+	public static WrappingCatchStrategy wrappingIn(
+			Class<? extends Throwable> uncheckedExceptionClass) {
+		if (Generator.isCheckedException(uncheckedExceptionClass)) {
+			throw new IllegalArgumentException(String.format(
+					"%s is a checked exception type", uncheckedExceptionClass.getName()));
+		}
+
+		return wrappingIn(uncheckedExceptionClass.getCanonicalName());
+	}
+
+	/**
+	 * Wraps in a new instance of the named unchecked exception type,
+	 * which must have a constructor taking the caught exception as its cause,
+	 * and which need not be loadable by the generator.
+	 */
+	public static WrappingCatchStrategy wrappingIn(String uncheckedExceptionClassName) {
+		return new WrappingCatchStrategy(uncheckedExceptionClassName, false);
+	}
+
+	/**
+	 * Wraps in a new instance of the named unchecked exception type,
+	 * which must have a constructor taking the caught exception as its cause
+	 * and the simple name of the SAM type as a {@code String},
+	 * and which need not be loadable by the generator.
+	 */
+	public static WrappingCatchStrategy wrappingInSamTypeAware(String uncheckedExceptionClassName) {
+		return new WrappingCatchStrategy(uncheckedExceptionClassName, true);
+	}
+
+	String getUncheckedExceptionClassName() {
+		return uncheckedExceptionClassName;
+	}
+
+	@Override
+	public List<String> getImportedClassNames() {
+		return Collections.singletonList(uncheckedExceptionClassName);
+	}
+
+	@Override
+	public String describeForEnclosingClass(String checkedExceptionClassName) {
+		return String.format(
+				"wrap and re-throw"
+				+ "\n * {@link %s %s}"
+				+ "\n * in {@link %s %s}",
+				checkedExceptionClassName,
+				Generator.simpleNameOf(checkedExceptionClassName),
+				uncheckedExceptionClassName,
+				uncheckedExceptionSimpleName);
+	}
+
+	@Override
+	public String describeForUncheckMethod(String checkedExceptionClassName) {
+		return String.format(
+				"wraps and re-throws"
+				+ "\n\t * any thrown {@code %s}"
+				+ "\n\t * in a new {@code %s}",
+				Generator.simpleNameOf(checkedExceptionClassName),
+				uncheckedExceptionSimpleName);
+	}
+
+	@Override
+	public String describeForCallUncheckedMethod(String checkedExceptionClassName) {
+		return String.format(
+				"wrapping and re-throwing any thrown {@code %s}"
+				+ "\n\t * in a new {@code %s}",
+				Generator.simpleNameOf(checkedExceptionClassName),
+				uncheckedExceptionSimpleName);
+	}
+
+	@Override
+	public String generateCatchBody(
+			String samTypeSimpleName, String exceptionName, String indentation) {
+		return passesSamTypeName
+				? String.format("%sthrow new %s(%s, \"%s\");",
+						indentation, uncheckedExceptionSimpleName, exceptionName, samTypeSimpleName)
+				: String.format("%sthrow new %s(%s);",
+						indentation, uncheckedExceptionSimpleName, exceptionName);
+	}
+}
@@ -0,0 +1,84 @@
+package net.johnglassmyer.uncheckers.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A JFR event recording the wrapping of a checked exception in an unchecked one by
+ * {@link RecordedUncheckers} or {@link RecordedIoUncheckers}, lasting the call that threw it.
+ *
+ * <p>The event is disabled by default. It can be enabled, with a threshold on the duration
+ * of the call, in a recording's settings or programmatically:
+ *
+ * <pre>
+ * recording.enable(ExceptionWrappingEvent.NAME).withThreshold(Duration.ofMillis(1));
+ * </pre>
+ *
+ * While it is disabled, each unchecked call costs only the check of
+ * {@link #beginIfEnabled()}, and no event is allocated.
+ *
+ * @see SummarizeExceptionWrapping
+ */
+@Name(ExceptionWrappingEvent.NAME)
+@Label("Checked Exception Wrapped")
+@Description("A checked exception wrapped in an unchecked exception by an unchecker")
+@Category({ "Java Application", "Uncheckers" })
+@Enabled(false)
+@Threshold("0 ns")
+@StackTrace(true)
+public final class ExceptionWrappingEvent extends Event {
+	/** The name of this type of event, by which recordings enable it. */
+	public static final String NAME = "net.johnglassmyer.uncheckers.ExceptionWrapping";
+
+	/** Never committed, but disabled exactly when all events of this type are. */
+	private static final ExceptionWrappingEvent ENABLEMENT_PROBE = new ExceptionWrappingEvent();
+
+	@Label("SAM Type")
+	@Description("The simple name of the functional interface whose call threw")
+	String samType;
+
+	@Label("Checked Exception Class")
+	Class<?> checkedExceptionClass;
+
+	@Label("Unchecked Exception Class")
+	@Description("The class of the unchecked exception wrapping the checked exception")
+	Class<?> uncheckedExceptionClass;
+
+	/**
+	 * A new event, its timing begun, if this type of event is enabled, and otherwise
+	 * {@code null}.
+	 */
+	public static ExceptionWrappingEvent beginIfEnabled() {
+		if (!ENABLEMENT_PROBE.isEnabled()) {
+			return null;
+		}
+
+		ExceptionWrappingEvent event = new ExceptionWrappingEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Ends the timing of the given event and commits it, if it lasted at least the threshold,
+	 * recording the wrapping of the given checked exception.
+	 */
+	public static void commit(
+			ExceptionWrappingEvent event,
+			String samType,
+			Throwable checkedException,
+			Class<?> uncheckedExceptionClass) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.samType = samType;
+			event.checkedExceptionClass = checkedException.getClass();
+			event.uncheckedExceptionClass = uncheckedExceptionClass;
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package net.johnglassmyer.uncheckers.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Prints a table of the sites at which checked exceptions were most often wrapped,
+ * summarizing the {@link ExceptionWrappingEvent ExceptionWrappingEvents} of a recording:
+ *
+ * <pre>
+ * java -cp jfr.jar net.johnglassmyer.uncheckers.jfr.SummarizeExceptionWrapping recording.jfr [top-N]
+ * </pre>
+ *
+ * A site is the SAM type, the checked and unchecked exception classes, and the first frame
+ * outside the JDK calling the unchecker, such as the method of a stream pipeline.
+ */
+public class SummarizeExceptionWrapping {
+	private static final int DEFAULT_SITE_COUNT = 20;
+
+	/** Prints the top sites of a recording, given its filename and optionally their number. */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1 || args.length > 2) {
+			throw new RuntimeException("must specify recording filename and optionally top-N");
+		}
+		Path recordingPath = Paths.get(args[0]);
+		int siteCount = args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_SITE_COUNT;
+
+		summarize(RecordingFile.readAllEvents(recordingPath), siteCount, System.out);
+	}
+
+	static void summarize(List<RecordedEvent> events, int siteCount, PrintStream out) {
+		Map<Site, SiteTotals> totalsBySite = new HashMap<>();
+		for (RecordedEvent event : events) {
+			if (event.getEventType().getName().equals(ExceptionWrappingEvent.NAME)) {
+				totalsBySite.computeIfAbsent(Site.of(event), site -> new SiteTotals())
+						.add(event.getDuration());
+			}
+		}
+
+		List<Map.Entry<Site, SiteTotals>> topSites = totalsBySite.entrySet().stream()
+				.sorted(Comparator
+						.comparing((Map.Entry<Site, SiteTotals> entry) -> entry.getValue().count)
+						.thenComparing(entry -> entry.getValue().totalDuration)
+						.reversed())
+				.limit(siteCount)
+				.collect(Collectors.toList());
+
+		out.println(String.format("%,d wrappings at %,d sites",
+				totalsBySite.values().stream().mapToLong(totals -> totals.count).sum(),
+				totalsBySite.size()));
+		out.println();
+		out.println(String.format("%10s %12s %12s  %-20s %-40s %s",
+				"count", "total ms", "max ms", "SAM type", "checked -> unchecked", "site"));
+		for (Map.Entry<Site, SiteTotals> entry : topSites) {
+			Site site = entry.getKey();
+			SiteTotals totals = entry.getValue();
+			out.println(String.format("%,10d %,12.3f %,12.3f  %-20s %-40s %s",
+					totals.count,
+					totals.totalDuration.toNanos() / 1e6,
+					totals.maxDuration.toNanos() / 1e6,
+					site.samType,
+					site.checkedExceptionClassName + " -> " + site.uncheckedExceptionClassName,
+					site.frame));
+		}
+	}
+
+	private static class Site {
+		final String samType;
+		final String checkedExceptionClassName;
+		final String uncheckedExceptionClassName;
+		final String frame;
+
+		private Site(
+				String samType,
+				String checkedExceptionClassName,
+				String uncheckedExceptionClassName,
+				String frame) {
+			this.samType = samType;
+			this.checkedExceptionClassName = checkedExceptionClassName;
+			this.uncheckedExceptionClassName = uncheckedExceptionClassName;
+			this.frame = frame;
+		}
+
+		static Site of(RecordedEvent event) {
+			return new Site(
+					event.getString("samType"),
+					simpleNameOf(event.getClass("checkedExceptionClass")),
+					simpleNameOf(event.getClass("uncheckedExceptionClass")),
+					describeCallingFrame(event.getStackTrace()));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Site)) {
+				return false;
+			}
+
+			Site other = (Site) obj;
+			return samType.equals(other.samType)
+					&& checkedExceptionClassName.equals(other.checkedExceptionClassName)
+					&& uncheckedExceptionClassName.equals(other.uncheckedExceptionClassName)
+					&& frame.equals(other.frame);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(
+					samType, checkedExceptionClassName, uncheckedExceptionClassName, frame);
+		}
+	}
+
+	private static class SiteTotals {
+		long count;
+		Duration totalDuration = Duration.ZERO;
+		Duration maxDuration = Duration.ZERO;
+
+		void add(Duration duration) {
+			count++;
+			totalDuration = totalDuration.plus(duration);
+			if (duration.compareTo(maxDuration) > 0) {
+				maxDuration = duration;
+			}
+		}
+	}
+
+	private static String simpleNameOf(RecordedClass recordedClass) {
+		if (recordedClass == null) {
+			return "?";
+		}
+
+		String name = recordedClass.getName();
+		return name.substring(name.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * The first frame outside the JDK below those of the event and of the unchecker
+	 * committing it, or else the frame just below the unchecker's.
+	 */
+	private static String describeCallingFrame(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "?";
+		}
+
+		List<RecordedFrame> frames = stackTrace.getFrames();
+		int uncheckerFrameIndex = 0;
+		while (uncheckerFrameIndex < frames.size()
+				&& isEventFrame(frames.get(uncheckerFrameIndex))) {
+			uncheckerFrameIndex++;
+		}
+
+		RecordedFrame callingFrame = null;
+		for (int i = uncheckerFrameIndex + 1; i < frames.size(); i++) {
+			RecordedFrame frame = frames.get(i);
+			if (callingFrame == null) {
+				callingFrame = frame;
+			}
+			if (!isJdkFrame(frame)) {
+				callingFrame = frame;
+				break;
+			}
+		}
+
+		return callingFrame == null ? "?" : describe(callingFrame);
+	}
+
+	private static boolean isEventFrame(RecordedFrame frame) {
+		String className = frame.getMethod().getType().getName();
+		return className.equals(ExceptionWrappingEvent.class.getName())
+				|| className.equals("jdk.jfr.Event");
+	}
+
+	private static boolean isJdkFrame(RecordedFrame frame) {
+		String className = frame.getMethod().getType().getName();
+		return className.startsWith("java.")
+				|| className.startsWith("javax.")
+				|| className.startsWith("jdk.")
+				|| className.startsWith("sun.");
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return String.format("%s.%s:%d",
+				frame.getMethod().getType().getName(),
+				frame.getMethod().getName(),
+				frame.getLineNumber());
+	}
+}
@@ -0,0 +1,100 @@
+package net.johnglassmyer.uncheckers.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Fails the build if the bytecode of any method of compiled classes of uncheckers, or of
+ * their nested checked interfaces and decorators, is longer than a budget.
+ *
+ * <p>Uncheckers cost nothing only once HotSpot inlines them into their callers, which it
+ * does for any method no longer than {@code -XX:MaxInlineSize} (35 bytes by default), and
+ * for methods called often no longer than {@code -XX:FreqInlineSize} (325 bytes by default
+ * on x86). A change to the generator's templates pushing a method over the budget would
+ * otherwise go unnoticed until it showed up as a real call in a profile.
+ */
+@Mojo(name = "check-inlining", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class CheckInliningMojo extends AbstractMojo {
+	/** The qualified names of the enclosing classes of uncheckers to check. */
+	@Parameter(required = true)
+	private List<String> classes;
+
+	/** The greatest length, in bytes, allowed for the bytecode of each method. */
+	@Parameter(property = "uncheckers.maxBytecodeSize", defaultValue = "35")
+	private int maxBytecodeSize;
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		List<String> oversizedMethods = new ArrayList<>();
+		int methodCount = 0;
+		try {
+			for (Path classFile : classFiles()) {
+				String className = classesDirectory.toPath().relativize(classFile).toString()
+						.replace(File.separatorChar, '.')
+						.replaceAll("\\.class$", "");
+				for (Map.Entry<String, Integer> method
+						: ClassFiles.codeLengths(classFile).entrySet()) {
+					if (method.getKey().startsWith("<clinit>")) {
+						continue;
+					}
+					methodCount++;
+					if (method.getValue() > maxBytecodeSize) {
+						oversizedMethods.add(String.format(
+								"%s.%s: %d bytes", className, method.getKey(), method.getValue()));
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new MojoExecutionException("cannot read compiled uncheckers", e);
+		}
+
+		if (!oversizedMethods.isEmpty()) {
+			throw new MojoFailureException(String.format(
+					"%d methods are longer than the inlining budget of %d bytes:\n%s",
+					oversizedMethods.size(), maxBytecodeSize, String.join("\n", oversizedMethods)));
+		}
+		getLog().info(String.format(
+				"all %d methods of %s are within the inlining budget of %d bytes",
+				methodCount, classes, maxBytecodeSize));
+	}
+
+	/** The class files of each class named and of the classes nested in it. */
+	private List<Path> classFiles() throws IOException, MojoExecutionException {
+		List<Path> classFiles = new ArrayList<>();
+		for (String className : classes) {
+			Path classFile = classesDirectory.toPath()
+					.resolve(className.replace('.', File.separatorChar) + ".class");
+			if (!Files.isRegularFile(classFile)) {
+				throw new MojoExecutionException(String.format(
+						"no class file for %s in %s", className, classesDirectory));
+			}
+			classFiles.add(classFile);
+
+			String nestedGlob = classFile.getFileName().toString().replaceAll("\\.class$", "")
+					+ "$*.class";
+			try (DirectoryStream<Path> nestedClassFiles =
+					Files.newDirectoryStream(classFile.getParent(), nestedGlob)) {
+				for (Path nestedClassFile : nestedClassFiles) {
+					classFiles.add(nestedClassFile);
+				}
+			}
+		}
+		return classFiles;
+	}
+}
@@ -0,0 +1,74 @@
+package net.johnglassmyer.uncheckers.maven;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+
+/**
+ * Finds the length of each method's bytecode, which is what HotSpot compares to
+ * {@code -XX:MaxInlineSize} and {@code -XX:FreqInlineSize}, reading class files with ASM,
+ * as the generator's {@code ClassFileInfo} does.
+ *
+ * <p>ASM's visitors report no code lengths, and writing a method's code again doesn't always
+ * reproduce its length, so the methods are walked through the {@link ClassReader}, which
+ * parses the constant pool, from the end of its header.
+ */
+class ClassFiles {
+	/**
+	 * The bytecode length of each method having code, by name and descriptor,
+	 * such as {@code apply(Ljava/lang/Object;)Ljava/lang/Object;}.
+	 */
+	static Map<String, Integer> codeLengths(Path classFile) throws IOException {
+		ClassReader classReader;
+		try {
+			classReader = new ClassReader(Files.readAllBytes(classFile));
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			throw new IOException(String.format("%s is not a readable class file", classFile), e);
+		}
+		char[] charBuffer = new char[classReader.getMaxStringLength()];
+
+		// access_flags, this_class, super_class, interfaces
+		int offset = classReader.header + 6;
+		offset += 2 + 2 * classReader.readUnsignedShort(offset);
+
+		int fieldCount = classReader.readUnsignedShort(offset);
+		offset += 2;
+		for (int i = 0; i < fieldCount; i++) {
+			// access_flags, name_index, descriptor_index, attributes
+			offset = skipAttributes(classReader, offset + 6);
+		}
+
+		Map<String, Integer> codeLengths = new LinkedHashMap<>();
+		int methodCount = classReader.readUnsignedShort(offset);
+		offset += 2;
+		for (int i = 0; i < methodCount; i++) {
+			String name = classReader.readUTF8(offset + 2, charBuffer);
+			String descriptor = classReader.readUTF8(offset + 4, charBuffer);
+			int attributeCount = classReader.readUnsignedShort(offset + 6);
+			offset += 8;
+			for (int j = 0; j < attributeCount; j++) {
+				if (classReader.readUTF8(offset, charBuffer).equals("Code")) {
+					// after max_stack and max_locals
+					codeLengths.put(name + descriptor, classReader.readInt(offset + 10));
+				}
+				offset += 6 + classReader.readInt(offset + 2);
+			}
+		}
+		return codeLengths;
+	}
+
+	/** The offset following the attributes whose count is at the given offset. */
+	private static int skipAttributes(ClassReader classReader, int offset) {
+		int attributeCount = classReader.readUnsignedShort(offset);
+		offset += 2;
+		for (int i = 0; i < attributeCount; i++) {
+			// attribute_name_index, attribute_length, info
+			offset += 6 + classReader.readInt(offset + 2);
+		}
+		return offset;
+	}
+}
@@ -0,0 +1,78 @@
+package net.johnglassmyer.uncheckers.maven;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A class of uncheckers to generate, wrapping checked exceptions of one class in new
+ * instances of an unchecked exception class, configured as a {@code <family>} of
+ * {@link GenerateMojo}. Its names are {@link String#format} patterns applied to the simple
+ * name of each SAM type, such as {@code CheckedSql%s}.
+ */
+public class Family {
+	private String checkedException;
+	private String uncheckedException;
+	private String packageName;
+	private String className;
+	private String checkedInterfacePattern;
+	private String uncheckMethodPattern;
+	private String callUncheckedMethodPattern;
+	private boolean checkedInterfacesExtendSamTypes = true;
+	private boolean primitiveSamTypes = true;
+	private boolean restoresInterrupt = false;
+
+	String getCheckedException() {
+		return checkedException;
+	}
+
+	String getUncheckedException() {
+		return uncheckedException;
+	}
+
+	String getPackageName() {
+		return packageName;
+	}
+
+	String getClassName() {
+		return className;
+	}
+
+	String getCheckedInterfacePattern() {
+		return checkedInterfacePattern;
+	}
+
+	String getUncheckMethodPattern() {
+		return uncheckMethodPattern;
+	}
+
+	String getCallUncheckedMethodPattern() {
+		return callUncheckedMethodPattern;
+	}
+
+	boolean getCheckedInterfacesExtendSamTypes() {
+		return checkedInterfacesExtendSamTypes;
+	}
+
+	boolean getPrimitiveSamTypes() {
+		return primitiveSamTypes;
+	}
+
+	boolean getRestoresInterrupt() {
+		return restoresInterrupt;
+	}
+
+	/** Every setting, in a fixed order, for fingerprinting and for checking completeness. */
+	List<Object> settings() {
+		return Arrays.asList(
+				checkedException,
+				uncheckedException,
+				packageName,
+				className,
+				checkedInterfacePattern,
+				uncheckMethodPattern,
+				callUncheckedMethodPattern,
+				checkedInterfacesExtendSamTypes,
+				primitiveSamTypes,
+				restoresInterrupt);
+	}
+}
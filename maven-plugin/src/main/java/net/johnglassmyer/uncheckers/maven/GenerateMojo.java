@@ -0,0 +1,268 @@
+package net.johnglassmyer.uncheckers.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import net.johnglassmyer.uncheckers.generator.ConfiguredFamilies;
+import net.johnglassmyer.uncheckers.generator.GeneratedSources;
+
+/**
+ * Generates built-in and configured classes of uncheckers in the build's JVM, in parallel,
+ * and adds them to the compile source roots.
+ *
+ * <p>A fingerprint of the inputs (the configuration, configuration files, and the
+ * generator's own classes) is kept, with the list of files generated, in a stamp file for
+ * each execution. Generation is skipped when the fingerprint is unchanged and every file listed still exists.
+ * Otherwise, files are rewritten only where their content differs, so that an unchanged
+ * file keeps its modification time and isn't seen as stale by the compiler, and files
+ * generated before but no longer are deleted.
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+	/** The source root into which to generate. */
+	@Parameter(
+			defaultValue = "${project.build.directory}/generated-sources/uncheckers",
+			required = true)
+	private File outputDirectory;
+
+	/**
+	 * Names of built-in sources to generate, such as {@code PrimitiveSamTypes},
+	 * {@code Uncheckers}, and {@code IoUncheckers}.
+	 */
+	@Parameter
+	private List<String> builtIns = Collections.emptyList();
+
+	/** Classes of uncheckers to generate for other exception classes. */
+	@Parameter
+	private List<Family> families = Collections.emptyList();
+
+	/**
+	 * Properties files each configuring any number of families, in the format read by
+	 * {@link net.johnglassmyer.uncheckers.generator.ConfiguredFamilies ConfiguredFamilies}.
+	 */
+	@Parameter
+	private List<File> configurationFiles = Collections.emptyList();
+
+	@Parameter(defaultValue = "${project.build.directory}/uncheckers-maven-plugin", readonly = true)
+	private File stampDirectory;
+
+	@Parameter(defaultValue = "${mojoExecution}", readonly = true)
+	private MojoExecution mojoExecution;
+
+	@Parameter(defaultValue = "${project}", readonly = true)
+	private MavenProject project;
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		List<Supplier<SortedMap<String, String>>> generations = new ArrayList<>();
+		for (String builtIn : builtIns) {
+			if (!GeneratedSources.builtInNames().contains(builtIn)) {
+				throw new MojoExecutionException(String.format(
+						"no built-in sources named %s; expected one of %s",
+						builtIn, GeneratedSources.builtInNames()));
+			}
+			generations.add(() -> GeneratedSources.builtIn(builtIn));
+		}
+		for (Family family : families) {
+			if (family.settings().contains(null)) {
+				throw new MojoExecutionException(String.format(
+						"every setting of a family must be given, but got %s", family.settings()));
+			}
+			generations.add(() -> GeneratedSources.wrapping(
+					family.getCheckedException(),
+					family.getUncheckedException(),
+					family.getPackageName(),
+					family.getClassName(),
+					family.getCheckedInterfacePattern(),
+					family.getUncheckMethodPattern(),
+					family.getCallUncheckedMethodPattern(),
+					family.getCheckedInterfacesExtendSamTypes(),
+					family.getPrimitiveSamTypes(),
+					family.getRestoresInterrupt()));
+		}
+
+		project.addCompileSourceRoot(outputDirectory.getPath());
+
+		Path outputPath = outputDirectory.toPath();
+		Path stampPath = stampDirectory.toPath().resolve(mojoExecution.getExecutionId() + ".stamp");
+		try {
+			for (File configurationFile : configurationFiles) {
+				Properties properties = ConfiguredFamilies.read(configurationFile.toPath());
+				generations.add(() -> ConfiguredFamilies.generate(properties));
+			}
+
+			String fingerprint = fingerprint();
+			List<String> previousFiles = readStamp(stampPath, fingerprint);
+			if (previousFiles != null && previousFiles.stream()
+					.allMatch(file -> Files.isRegularFile(outputPath.resolve(file)))) {
+				getLog().info(String.format(
+						"%d generated sources are up to date", previousFiles.size()));
+				return;
+			}
+
+			SortedMap<String, String> sources = generations.parallelStream()
+					.map(Supplier::get)
+					.collect(TreeMap::new, Map::putAll, Map::putAll);
+
+			AtomicInteger writtenCount = new AtomicInteger();
+			sources.entrySet().parallelStream().forEach(source -> {
+				try {
+					if (writeIfChanged(outputPath.resolve(source.getKey()), source.getValue())) {
+						writtenCount.incrementAndGet();
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+
+			if (previousFiles == null) {
+				previousFiles = readStampedFiles(stampPath);
+			}
+			for (String previousFile : previousFiles) {
+				if (!sources.containsKey(previousFile)) {
+					Files.deleteIfExists(outputPath.resolve(previousFile));
+				}
+			}
+
+			writeStamp(stampPath, fingerprint, sources.keySet());
+
+			getLog().info(String.format(
+					"generated %d sources, of which %d changed",
+					sources.size(), writtenCount.get()));
+		} catch (IOException | UncheckedIOException e) {
+			throw new MojoExecutionException("cannot generate uncheckers", e);
+		} catch (IllegalArgumentException e) {
+			throw new MojoExecutionException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * A digest of this execution's configuration, including any configuration files,
+	 * and of the classes of the generator,
+	 * which may have changed without its version having changed.
+	 */
+	private String fingerprint() throws IOException {
+		MessageDigest digest = sha256();
+		List<Object> inputs = new ArrayList<>();
+		inputs.add(outputDirectory.getAbsolutePath());
+		inputs.add(builtIns);
+		for (Family family : families) {
+			inputs.add(family.settings());
+		}
+		digest.update(inputs.toString().getBytes(StandardCharsets.UTF_8));
+		for (File configurationFile : configurationFiles) {
+			digest.update(configurationFile.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			digest.update(Files.readAllBytes(configurationFile.toPath()));
+		}
+
+		Path generatorLocation;
+		try {
+			generatorLocation = Paths.get(GeneratedSources.class
+					.getProtectionDomain().getCodeSource().getLocation().toURI());
+		} catch (URISyntaxException e) {
+			throw new IOException("cannot locate the generator's classes", e);
+		}
+		if (Files.isDirectory(generatorLocation)) {
+			try (Stream<Path> paths = Files.walk(generatorLocation)) {
+				for (Path path : paths.filter(Files::isRegularFile).sorted()
+						.collect(Collectors.toList())) {
+					digest.update(generatorLocation.relativize(path).toString()
+							.getBytes(StandardCharsets.UTF_8));
+					digest.update(Files.readAllBytes(path));
+				}
+			}
+		} else {
+			digest.update(Files.readAllBytes(generatorLocation));
+		}
+
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("every JVM has SHA-256", e);
+		}
+	}
+
+	/**
+	 * Writes the file unless it already has the given content,
+	 * returning whether it was written.
+	 */
+	private static boolean writeIfChanged(Path path, String content) throws IOException {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		if (Files.isRegularFile(path) && Arrays.equals(Files.readAllBytes(path), bytes)) {
+			return false;
+		}
+
+		Files.createDirectories(path.getParent());
+		Files.write(path, bytes);
+		return true;
+	}
+
+	/**
+	 * The files listed by the stamp, if it has the given fingerprint,
+	 * and otherwise {@code null}.
+	 */
+	private static List<String> readStamp(Path stampPath, String fingerprint) throws IOException {
+		if (!Files.isRegularFile(stampPath)) {
+			return null;
+		}
+		List<String> lines = Files.readAllLines(stampPath, StandardCharsets.UTF_8);
+		return !lines.isEmpty() && lines.get(0).equals(fingerprint)
+				? lines.subList(1, lines.size())
+				: null;
+	}
+
+	private static List<String> readStampedFiles(Path stampPath) throws IOException {
+		if (!Files.isRegularFile(stampPath)) {
+			return Collections.emptyList();
+		}
+		List<String> lines = Files.readAllLines(stampPath, StandardCharsets.UTF_8);
+		return lines.subList(Math.min(1, lines.size()), lines.size());
+	}
+
+	private static void writeStamp(Path stampPath, String fingerprint, Set<String> files)
+			throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add(fingerprint);
+		lines.addAll(files);
+
+		Files.createDirectories(stampPath.getParent());
+		Files.write(stampPath, lines, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,38 @@
+package net.johnglassmyer.uncheckers.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a functional interface for which {@link UncheckersProcessor} should generate,
+ * in the same package, a class holding a checked interface, an {@code uncheck} method,
+ * and a {@code callUnchecked} method, in the manner of {@code Uncheckers}.
+ *
+ * <p>For example, annotating {@code RowMapper<T>} generates {@code RowMapperUncheckers}
+ * with {@code CheckedRowMapper<T>}, {@code uncheckRowMapper}, and
+ * {@code callUncheckedRowMapper}.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateUncheckers {
+	/**
+	 * The checked exception type which the checked interface's method is declared to throw.
+	 */
+	Class<? extends Exception> checkedException() default Exception.class;
+
+	/**
+	 * The unchecked exception type in which to wrap caught checked exceptions,
+	 * which must have a public constructor accepting the checked exception type.
+	 */
+	Class<? extends RuntimeException> uncheckedException() default RuntimeException.class;
+
+	/**
+	 * The simple name of the generated class, by default the name of the annotated
+	 * interface followed by {@code Uncheckers}.
+	 */
+	String className() default "";
+}
@@ -0,0 +1,18 @@
+package net.johnglassmyer.uncheckers.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * Signals that an element cannot be generated for, carrying the element
+ * so that the error can be reported against it.
+ */
+class InvalidElementException extends Exception {
+	private static final long serialVersionUID = 1L;
+
+	final Element element;
+
+	InvalidElementException(Element element, String message) {
+		super(message);
+		this.element = element;
+	}
+}
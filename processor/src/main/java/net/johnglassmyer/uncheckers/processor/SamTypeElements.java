@@ -0,0 +1,137 @@
+package net.johnglassmyer.uncheckers.processor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import net.johnglassmyer.uncheckers.generator.SamType;
+
+/**
+ * Describes SAM types from their source elements, following the same rules as
+ * {@link SamType#fromClass}, so that interfaces can be generated for during compilation.
+ */
+class SamTypeElements {
+	private final Elements elements;
+	private final Types types;
+
+	SamTypeElements(Elements elements, Types types) {
+		this.elements = elements;
+		this.types = types;
+	}
+
+	SamType fromTypeElement(TypeElement samType) throws InvalidElementException {
+		if (samType.getKind() != ElementKind.INTERFACE) {
+			throw new InvalidElementException(samType, String.format(
+					"%s is not an interface", samType.getQualifiedName()));
+		}
+
+		ExecutableElement method = extractSingleAbstractMethod(samType);
+
+		if (!method.getTypeParameters().isEmpty()) {
+			throw new InvalidElementException(samType, String.format(
+					"%s.%s declares type parameters and so cannot be implemented by a lambda",
+					samType.getQualifiedName(), method.getSimpleName()));
+		}
+
+		ExecutableType resolvedMethod =
+				(ExecutableType) types.asMemberOf((DeclaredType) samType.asType(), method);
+
+		for (TypeMirror thrownType : resolvedMethod.getThrownTypes()) {
+			if (isCheckedException(thrownType)) {
+				throw new InvalidElementException(samType, String.format(
+						"%s.%s throws checked exception %s",
+						samType.getQualifiedName(), method.getSimpleName(), thrownType));
+			}
+		}
+
+		return new SamType(
+				samType.getQualifiedName().toString(),
+				samType.getTypeParameters().stream()
+						.map(this::declareTypeParameter)
+						.collect(Collectors.toList()),
+				method.getSimpleName().toString(),
+				resolvedMethod.getReturnType().toString(),
+				resolvedMethod.getParameterTypes().stream()
+						.map(TypeMirror::toString)
+						.collect(Collectors.toList()));
+	}
+
+	boolean isCheckedException(TypeMirror type) {
+		return types.isSubtype(type, typeNamed(Exception.class))
+				&& !types.isSubtype(type, typeNamed(RuntimeException.class));
+	}
+
+	private ExecutableElement extractSingleAbstractMethod(TypeElement samType)
+			throws InvalidElementException {
+		List<ExecutableElement> methods =
+				ElementFilter.methodsIn(elements.getAllMembers(samType)).stream()
+						.filter(m -> m.getModifiers().contains(Modifier.ABSTRACT))
+						.filter(m -> !isMethodOfObject(m))
+						.collect(Collectors.toList());
+
+		if (methods.size() != 1) {
+			throw new InvalidElementException(samType, String.format(
+					"%s has %d abstract methods: %s",
+					samType.getQualifiedName(),
+					methods.size(),
+					methods.stream().map(m -> m.getSimpleName()).collect(Collectors.toList())));
+		}
+
+		return methods.get(0);
+	}
+
+	private boolean isMethodOfObject(ExecutableElement m) {
+		TypeElement objectElement = elements.getTypeElement(Object.class.getName());
+		for (ExecutableElement objectMethod
+				: ElementFilter.methodsIn(objectElement.getEnclosedElements())) {
+			if (m.getSimpleName().equals(objectMethod.getSimpleName())
+					&& haveSameErasedParameterTypes(m, objectMethod)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean haveSameErasedParameterTypes(ExecutableElement a, ExecutableElement b) {
+		if (a.getParameters().size() != b.getParameters().size()) {
+			return false;
+		}
+
+		for (int i = 0; i < a.getParameters().size(); i++) {
+			if (!types.isSameType(
+					types.erasure(a.getParameters().get(i).asType()),
+					types.erasure(b.getParameters().get(i).asType()))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private String declareTypeParameter(TypeParameterElement typeParameter) {
+		List<String> bounds = typeParameter.getBounds().stream()
+				.filter(bound -> !types.isSameType(bound, typeNamed(Object.class)))
+				.map(TypeMirror::toString)
+				.collect(Collectors.toList());
+
+		return bounds.isEmpty()
+				? typeParameter.getSimpleName().toString()
+				: typeParameter.getSimpleName() + " extends " + String.join(" & ", bounds);
+	}
+
+	private TypeMirror typeNamed(Class<?> clazz) {
+		return elements.getTypeElement(clazz.getName()).asType();
+	}
+}
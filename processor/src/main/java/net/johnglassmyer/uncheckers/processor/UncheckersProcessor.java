@@ -0,0 +1,161 @@
+package net.johnglassmyer.uncheckers.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import net.johnglassmyer.uncheckers.generator.Generator;
+import net.johnglassmyer.uncheckers.generator.SamType;
+import net.johnglassmyer.uncheckers.generator.UncheckersConfiguration;
+import net.johnglassmyer.uncheckers.generator.WrappingCatchStrategy;
+
+/**
+ * Generates a class of uncheckers for each interface annotated {@link GenerateUncheckers},
+ * from the interface's source element rather than from a loaded {@code Class}.
+ *
+ * <p>Each generated class is derived from its annotated interface and that interface's
+ * supertypes alone, and is created with the interface as its only originating element,
+ * so that the processor can be run incrementally (it is registered with Gradle as
+ * isolating), regenerating only the uncheckers of interfaces which have changed.
+ */
+@SupportedAnnotationTypes("net.johnglassmyer.uncheckers.processor.GenerateUncheckers")
+public class UncheckersProcessor extends AbstractProcessor {
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		SamTypeElements samTypeElements = new SamTypeElements(
+				processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateUncheckers.class)) {
+			try {
+				generateUncheckers(samTypeElements, (TypeElement) element);
+			} catch (InvalidElementException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(
+						Diagnostic.Kind.ERROR,
+						String.format("failed to write uncheckers: %s", e.getMessage()),
+						element);
+			}
+		}
+
+		return true;
+	}
+
+	private void generateUncheckers(SamTypeElements samTypeElements, TypeElement samTypeElement)
+			throws InvalidElementException, IOException {
+		SamType samType = samTypeElements.fromTypeElement(samTypeElement);
+
+		PackageElement packageElement =
+				processingEnv.getElementUtils().getPackageOf(samTypeElement);
+		if (packageElement.isUnnamed()) {
+			throw new InvalidElementException(samTypeElement, String.format(
+					"%s is in the unnamed package", samTypeElement.getSimpleName()));
+		}
+
+		AnnotationMirror annotation = findAnnotation(samTypeElement);
+		TypeMirror checkedException = (TypeMirror) annotationValue(
+				annotation, "checkedException");
+		TypeMirror uncheckedException = (TypeMirror) annotationValue(
+				annotation, "uncheckedException");
+		String className = (String) annotationValue(annotation, "className");
+
+		if (!samTypeElements.isCheckedException(checkedException)) {
+			throw new InvalidElementException(samTypeElement, String.format(
+					"%s is not a checked exception type", checkedException));
+		}
+		if (!hasPublicConstructorAccepting(uncheckedException, checkedException)) {
+			throw new InvalidElementException(samTypeElement, String.format(
+					"%s has no public constructor accepting %s",
+					uncheckedException, checkedException));
+		}
+
+		String packageName = packageElement.getQualifiedName().toString();
+		String enclosingClassName = className.isEmpty()
+				? String.format("%sUncheckers", samType.getSimpleName())
+				: className;
+
+		UncheckersConfiguration configuration = new UncheckersConfiguration(
+				checkedException.toString(),
+				WrappingCatchStrategy.wrappingIn(uncheckedException.toString()),
+				packageName,
+				enclosingClassName,
+				name -> String.format("Checked%s", name),
+				name -> String.format("uncheck%s", name),
+				name -> String.format("callUnchecked%s", name),
+				true);
+
+		String generatedSource =
+				Generator.generate(Collections.singletonList(samType), configuration);
+
+		try (Writer writer = processingEnv.getFiler()
+				.createSourceFile(packageName + "." + enclosingClassName, samTypeElement)
+				.openWriter()) {
+			writer.write(generatedSource);
+		}
+	}
+
+	private AnnotationMirror findAnnotation(TypeElement element) {
+		TypeElement annotationElement = processingEnv.getElementUtils()
+				.getTypeElement(GenerateUncheckers.class.getCanonicalName());
+
+		return element.getAnnotationMirrors().stream()
+				.filter(mirror -> mirror.getAnnotationType().asElement().equals(annotationElement))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException(String.format(
+						"%s is not annotated with %s",
+						element, annotationElement)));
+	}
+
+	/**
+	 * Reads a value from the annotation's mirror, where {@code Class} values
+	 * are available as types even when the classes themselves are not loadable.
+	 */
+	private Object annotationValue(AnnotationMirror annotation, String name) {
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+				processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+				: values.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue().getValue();
+			}
+		}
+
+		throw new IllegalStateException(String.format("no annotation value named %s", name));
+	}
+
+	private boolean hasPublicConstructorAccepting(
+			TypeMirror exceptionType, TypeMirror parameterType) {
+		Element exceptionElement = ((DeclaredType) exceptionType).asElement();
+
+		return ElementFilter.constructorsIn(exceptionElement.getEnclosedElements()).stream()
+				.filter(c -> c.getModifiers().contains(Modifier.PUBLIC))
+				.filter(c -> c.getParameters().size() == 1)
+				.anyMatch(c -> processingEnv.getTypeUtils().isAssignable(
+						parameterType, c.getParameters().get(0).asType()));
+	}
+}
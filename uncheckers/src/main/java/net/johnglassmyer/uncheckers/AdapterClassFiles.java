@@ -0,0 +1,155 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.reflect.Method;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates the class files of {@link RuntimeUncheckers}' adapters, each equivalent to
+ *
+ * <pre>
+ * final class Adapter implements SamType {
+ *     private final CheckedInterface delegate;
+ *
+ *     Adapter(CheckedInterface delegate) {
+ *         this.delegate = delegate;
+ *     }
+ *
+ *     public R samMethod(A a, B b) {
+ *         try {
+ *             return delegate.checkedMethod(a, b);
+ *         } catch (Exception e) {
+ *             throw new RuntimeException(e);
+ *         }
+ *     }
+ * }
+ * </pre>
+ */
+final class AdapterClassFiles {
+	private static final String DELEGATE_FIELD_NAME = "delegate";
+
+	private AdapterClassFiles() {}
+
+	static byte[] generate(
+			String adapterInternalName,
+			Class<?> samType,
+			Method samMethod,
+			Class<?> checkedInterface,
+			Method checkedMethod) {
+		String checkedInterfaceDescriptor = Type.getDescriptor(checkedInterface);
+
+		ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		classWriter.visit(
+				Opcodes.V9,
+				Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+				adapterInternalName,
+				null,
+				Type.getInternalName(Object.class),
+				new String[] { Type.getInternalName(samType) });
+
+		classWriter.visitField(
+				Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL,
+				DELEGATE_FIELD_NAME,
+				checkedInterfaceDescriptor,
+				null,
+				null).visitEnd();
+
+		MethodVisitor constructor = classWriter.visitMethod(
+				Opcodes.ACC_PUBLIC,
+				"<init>",
+				Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(checkedInterface)),
+				null,
+				null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL,
+				Type.getInternalName(Object.class), "<init>", "()V", false);
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitVarInsn(Opcodes.ALOAD, 1);
+		constructor.visitFieldInsn(Opcodes.PUTFIELD,
+				adapterInternalName, DELEGATE_FIELD_NAME, checkedInterfaceDescriptor);
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		generateSamMethod(
+				classWriter,
+				adapterInternalName,
+				samMethod,
+				checkedInterface,
+				checkedMethod);
+
+		classWriter.visitEnd();
+
+		return classWriter.toByteArray();
+	}
+
+	private static void generateSamMethod(
+			ClassWriter classWriter,
+			String adapterInternalName,
+			Method samMethod,
+			Class<?> checkedInterface,
+			Method checkedMethod) {
+		Type samReturnType = Type.getReturnType(samMethod);
+		Type checkedReturnType = Type.getReturnType(checkedMethod);
+
+		MethodVisitor method = classWriter.visitMethod(
+				Opcodes.ACC_PUBLIC,
+				samMethod.getName(),
+				Type.getMethodDescriptor(samMethod),
+				null,
+				null);
+		method.visitCode();
+
+		Label tryStart = new Label();
+		Label tryEnd = new Label();
+		Label handler = new Label();
+		method.visitTryCatchBlock(tryStart, tryEnd, handler, Type.getInternalName(Exception.class));
+
+		method.visitLabel(tryStart);
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitFieldInsn(Opcodes.GETFIELD,
+				adapterInternalName, DELEGATE_FIELD_NAME, Type.getDescriptor(checkedInterface));
+
+		int local = 1;
+		for (Type argumentType : Type.getArgumentTypes(samMethod)) {
+			method.visitVarInsn(argumentType.getOpcode(Opcodes.ILOAD), local);
+			local += argumentType.getSize();
+		}
+
+		method.visitMethodInsn(Opcodes.INVOKEINTERFACE,
+				Type.getInternalName(checkedInterface),
+				checkedMethod.getName(),
+				Type.getMethodDescriptor(checkedMethod),
+				true);
+
+		if (samReturnType.getSort() == Type.VOID) {
+			if (checkedReturnType.getSize() == 2) {
+				method.visitInsn(Opcodes.POP2);
+			} else if (checkedReturnType.getSize() == 1) {
+				method.visitInsn(Opcodes.POP);
+			}
+		}
+		method.visitLabel(tryEnd);
+		method.visitInsn(samReturnType.getOpcode(Opcodes.IRETURN));
+
+		// the locals at the handler are those of the method's entry
+		method.visitLabel(handler);
+		method.visitFrame(Opcodes.F_SAME1, 0, null, 1,
+				new Object[] { Type.getInternalName(Exception.class) });
+		String runtimeException = Type.getInternalName(RuntimeException.class);
+		method.visitTypeInsn(Opcodes.NEW, runtimeException);
+		method.visitInsn(Opcodes.DUP_X1);
+		method.visitInsn(Opcodes.SWAP);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL,
+				runtimeException, "<init>", "(Ljava/lang/Throwable;)V", false);
+		method.visitInsn(Opcodes.ATHROW);
+
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+}
@@ -0,0 +1,91 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the calls of the generated {@code callUnchecked...Async} methods, completing
+ * each call's future with the value returned or, exceptionally, with the exception thrown,
+ * unwrapped, so that {@link CompletableFuture#get()} reports it as the cause of its
+ * {@link java.util.concurrent.ExecutionException ExecutionException}.
+ */
+public final class AsyncCalls {
+	private AsyncCalls() {}
+
+	/**
+	 * A virtual-thread-per-task executor when running on a JDK having virtual threads,
+	 * so that each blocking call takes no platform thread, and otherwise a cached pool
+	 * of daemon threads.
+	 */
+	public static Executor defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/** The default executor, for {@link Hedger}, which cancels the calls it starts. */
+	static ExecutorService defaultExecutorService() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Calls the callable on the executor, completing the returned future with its outcome
+	 * or, if a deadline is given and passes first, with a
+	 * {@link java.util.concurrent.TimeoutException TimeoutException}.
+	 * A call outliving its deadline is not interrupted.
+	 *
+	 * @param deadline the longest to wait for the call to complete, or {@code null}
+	 */
+	public static <T> CompletableFuture<T> callAsync(
+			Callable<T> callable, Executor executor, Duration deadline) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		executor.execute(() -> {
+			// skip calls whose deadline passed while they were queued
+			if (future.isDone()) {
+				return;
+			}
+
+			try {
+				future.complete(callable.call());
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+
+		return deadline == null
+				? future
+				: future.orTimeout(deadline.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	private static class DefaultExecutorHolder {
+		static final ExecutorService EXECUTOR = createDefaultExecutor();
+
+		private static ExecutorService createDefaultExecutor() {
+			try {
+				return (ExecutorService) MethodHandles.publicLookup()
+						.findStatic(
+								Executors.class,
+								"newVirtualThreadPerTaskExecutor",
+								MethodType.methodType(ExecutorService.class))
+						.invoke();
+			} catch (NoSuchMethodException
+					| IllegalAccessException
+					| UnsupportedOperationException e) {
+				// no virtual threads, or (on JDK 19 and 20) not enabled as a preview feature
+				return Executors.newCachedThreadPool(runnable -> {
+					Thread thread = new Thread(runnable, "uncheckers-async");
+					thread.setDaemon(true);
+					return thread;
+				});
+			} catch (Throwable t) {
+				throw new IllegalStateException("cannot create the default executor", t);
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package net.johnglassmyer.uncheckers;
+
+/**
+ * The result of applying a checked function to one element of a stream: either the value
+ * it returned or the exception it threw.
+ *
+ * @see Attempts
+ */
+public final class Attempt<T> {
+	private final T value;
+	private final Exception failure;
+
+	private Attempt(T value, Exception failure) {
+		this.value = value;
+		this.failure = failure;
+	}
+
+	/** An attempt which succeeded, returning the value. */
+	public static <T> Attempt<T> success(T value) {
+		return new Attempt<>(value, null);
+	}
+
+	/** An attempt which failed, throwing the exception. */
+	public static <T> Attempt<T> failure(Exception failure) {
+		if (failure == null) {
+			throw new NullPointerException("failure");
+		}
+
+		return new Attempt<>(null, failure);
+	}
+
+	/** Whether the function returned a value rather than throwing. */
+	public boolean isSuccess() {
+		return failure == null;
+	}
+
+	/**
+	 * The value the function returned.
+	 *
+	 * @throws IllegalStateException if the attempt failed, caused by the failure
+	 */
+	public T getValue() {
+		if (failure != null) {
+			throw new IllegalStateException("the attempt failed", failure);
+		}
+
+		return value;
+	}
+
+	/**
+	 * The exception the function threw.
+	 *
+	 * @throws IllegalStateException if the attempt succeeded
+	 */
+	public Exception getFailure() {
+		if (failure == null) {
+			throw new IllegalStateException("the attempt succeeded");
+		}
+
+		return failure;
+	}
+
+	@Override
+	public String toString() {
+		return failure == null
+				? String.format("success(%s)", value)
+				: String.format("failure(%s)", failure);
+	}
+}
@@ -0,0 +1,348 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.stream.Collector;
+
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToLongFunction;
+
+/**
+ * Static helper methods which apply checked functions to the elements of (especially
+ * parallel) streams without aborting the stream on the first failure, so that one bad
+ * element out of many doesn't throw away the work done on all the others.
+ *
+ * <p>The {@code tryMap} methods map each element to an {@link Attempt}, to be collected by
+ * {@link #toOutcome}. The {@code mapping} collectors apply the checked function themselves,
+ * so that no {@code Attempt} is allocated, and the primitive ones collect into arrays
+ * without boxing. Either way the result is an {@link Outcome} holding the values of the
+ * elements that succeeded, the number that failed, and the exceptions of at most
+ * {@code maxFailuresKept} of them, so that memory stays bounded however many fail.
+ *
+ * <p>Each fork-join worker accumulates into its own container, and containers are merged
+ * as the workers finish, so that collecting takes no locks and shares no state.
+ *
+ * <p>Any {@link Exception} thrown by a checked function, unchecked ones included, counts
+ * as a failure; {@link Error Errors} still abort the stream.
+ */
+public class Attempts {
+	private Attempts() {}
+
+	/** Decorates the function to return an {@link Attempt} rather than throw. */
+	public static <T, R> Function<T, Attempt<R>> tryMap(
+			CheckedFunction<T, R> checkedFunction) {
+		return t -> {
+			try {
+				return Attempt.success(checkedFunction.applyChecked(t));
+			} catch (Exception e) {
+				return Attempt.failure(e);
+			}
+		};
+	}
+
+	/** For {@link java.util.stream.IntStream#mapToObj}, without boxing the elements. */
+	public static <R> IntFunction<Attempt<R>> tryMapInt(
+			CheckedIntFunction<R> checkedIntFunction) {
+		return i -> {
+			try {
+				return Attempt.success(checkedIntFunction.applyChecked(i));
+			} catch (Exception e) {
+				return Attempt.failure(e);
+			}
+		};
+	}
+
+	/** For {@link java.util.stream.LongStream#mapToObj}, without boxing the elements. */
+	public static <R> LongFunction<Attempt<R>> tryMapLong(
+			CheckedLongFunction<R> checkedLongFunction) {
+		return l -> {
+			try {
+				return Attempt.success(checkedLongFunction.applyChecked(l));
+			} catch (Exception e) {
+				return Attempt.failure(e);
+			}
+		};
+	}
+
+	/** For {@link java.util.stream.DoubleStream#mapToObj}, without boxing the elements. */
+	public static <R> DoubleFunction<Attempt<R>> tryMapDouble(
+			CheckedDoubleFunction<R> checkedDoubleFunction) {
+		return d -> {
+			try {
+				return Attempt.success(checkedDoubleFunction.applyChecked(d));
+			} catch (Exception e) {
+				return Attempt.failure(e);
+			}
+		};
+	}
+
+	/**
+	 * Collects the values of successful attempts into a list
+	 * and counts (and keeps up to {@code maxFailuresKept} of) the failures.
+	 */
+	public static <T> Collector<Attempt<T>, ?, Outcome<List<T>>> toOutcome(
+			int maxFailuresKept) {
+		checkMaxFailuresKept(maxFailuresKept);
+
+		return Collector.<Attempt<T>, ObjectAccumulation<T>, Outcome<List<T>>>of(
+				() -> new ObjectAccumulation<>(maxFailuresKept),
+				(accumulation, attempt) -> {
+					if (attempt.isSuccess()) {
+						accumulation.values.add(attempt.getValue());
+					} else {
+						accumulation.failures.add(attempt.getFailure());
+					}
+				},
+				ObjectAccumulation::combine,
+				ObjectAccumulation::finish);
+	}
+
+	/**
+	 * Applies the checked function to each element, collecting the values it returns
+	 * into a list and counting (and keeping up to {@code maxFailuresKept} of)
+	 * the exceptions it throws.
+	 */
+	public static <T, R> Collector<T, ?, Outcome<List<R>>> mapping(
+			CheckedFunction<T, R> checkedFunction, int maxFailuresKept) {
+		checkMaxFailuresKept(maxFailuresKept);
+
+		return Collector.<T, ObjectAccumulation<R>, Outcome<List<R>>>of(
+				() -> new ObjectAccumulation<>(maxFailuresKept),
+				(accumulation, t) -> {
+					try {
+						accumulation.values.add(checkedFunction.applyChecked(t));
+					} catch (Exception e) {
+						accumulation.failures.add(e);
+					}
+				},
+				ObjectAccumulation::combine,
+				ObjectAccumulation::finish);
+	}
+
+	/**
+	 * Applies the checked function to each element, collecting the values it returns
+	 * into an {@code int[]} and counting (and keeping up to {@code maxFailuresKept} of)
+	 * the exceptions it throws.
+	 */
+	public static <T> Collector<T, ?, Outcome<int[]>> mappingToInt(
+			CheckedToIntFunction<T> checkedToIntFunction, int maxFailuresKept) {
+		checkMaxFailuresKept(maxFailuresKept);
+
+		return Collector.<T, IntAccumulation, Outcome<int[]>>of(
+				() -> new IntAccumulation(maxFailuresKept),
+				(accumulation, t) -> {
+					try {
+						accumulation.add(checkedToIntFunction.applyAsIntChecked(t));
+					} catch (Exception e) {
+						accumulation.failures.add(e);
+					}
+				},
+				IntAccumulation::combine,
+				IntAccumulation::finish);
+	}
+
+	/**
+	 * Applies the checked function to each element, collecting the values it returns
+	 * into a {@code long[]} and counting (and keeping up to {@code maxFailuresKept} of)
+	 * the exceptions it throws.
+	 */
+	public static <T> Collector<T, ?, Outcome<long[]>> mappingToLong(
+			CheckedToLongFunction<T> checkedToLongFunction, int maxFailuresKept) {
+		checkMaxFailuresKept(maxFailuresKept);
+
+		return Collector.<T, LongAccumulation, Outcome<long[]>>of(
+				() -> new LongAccumulation(maxFailuresKept),
+				(accumulation, t) -> {
+					try {
+						accumulation.add(checkedToLongFunction.applyAsLongChecked(t));
+					} catch (Exception e) {
+						accumulation.failures.add(e);
+					}
+				},
+				LongAccumulation::combine,
+				LongAccumulation::finish);
+	}
+
+	/**
+	 * Applies the checked function to each element, collecting the values it returns
+	 * into a {@code double[]} and counting (and keeping up to {@code maxFailuresKept} of)
+	 * the exceptions it throws.
+	 */
+	public static <T> Collector<T, ?, Outcome<double[]>> mappingToDouble(
+			CheckedToDoubleFunction<T> checkedToDoubleFunction, int maxFailuresKept) {
+		checkMaxFailuresKept(maxFailuresKept);
+
+		return Collector.<T, DoubleAccumulation, Outcome<double[]>>of(
+				() -> new DoubleAccumulation(maxFailuresKept),
+				(accumulation, t) -> {
+					try {
+						accumulation.add(checkedToDoubleFunction.applyAsDoubleChecked(t));
+					} catch (Exception e) {
+						accumulation.failures.add(e);
+					}
+				},
+				DoubleAccumulation::combine,
+				DoubleAccumulation::finish);
+	}
+
+	private static void checkMaxFailuresKept(int maxFailuresKept) {
+		if (maxFailuresKept < 0) {
+			throw new IllegalArgumentException(String.format(
+					"maxFailuresKept must not be negative but is %d", maxFailuresKept));
+		}
+	}
+
+	/** Counts failures, keeping only the first few. */
+	private static final class Failures {
+		final int maxKept;
+		final List<Exception> kept = new ArrayList<>();
+		long count;
+
+		Failures(int maxKept) {
+			this.maxKept = maxKept;
+		}
+
+		void add(Exception failure) {
+			count++;
+			if (kept.size() < maxKept) {
+				kept.add(failure);
+			}
+		}
+
+		void addAll(Failures later) {
+			count += later.count;
+			for (Exception failure : later.kept) {
+				if (kept.size() == maxKept) {
+					break;
+				}
+				kept.add(failure);
+			}
+		}
+
+		<V> Outcome<V> toOutcome(V values) {
+			return new Outcome<>(values, count, kept);
+		}
+	}
+
+	private static final class ObjectAccumulation<R> {
+		final List<R> values = new ArrayList<>();
+		final Failures failures;
+
+		ObjectAccumulation(int maxFailuresKept) {
+			this.failures = new Failures(maxFailuresKept);
+		}
+
+		ObjectAccumulation<R> combine(ObjectAccumulation<R> later) {
+			values.addAll(later.values);
+			failures.addAll(later.failures);
+			return this;
+		}
+
+		Outcome<List<R>> finish() {
+			return failures.toOutcome(values);
+		}
+	}
+
+	private static final class IntAccumulation {
+		int[] values = new int[16];
+		int size;
+		final Failures failures;
+
+		IntAccumulation(int maxFailuresKept) {
+			this.failures = new Failures(maxFailuresKept);
+		}
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		IntAccumulation combine(IntAccumulation later) {
+			if (size + later.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(size + later.size, size * 2));
+			}
+			System.arraycopy(later.values, 0, values, size, later.size);
+			size += later.size;
+			failures.addAll(later.failures);
+			return this;
+		}
+
+		Outcome<int[]> finish() {
+			return failures.toOutcome(Arrays.copyOf(values, size));
+		}
+	}
+
+	private static final class LongAccumulation {
+		long[] values = new long[16];
+		int size;
+		final Failures failures;
+
+		LongAccumulation(int maxFailuresKept) {
+			this.failures = new Failures(maxFailuresKept);
+		}
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		LongAccumulation combine(LongAccumulation later) {
+			if (size + later.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(size + later.size, size * 2));
+			}
+			System.arraycopy(later.values, 0, values, size, later.size);
+			size += later.size;
+			failures.addAll(later.failures);
+			return this;
+		}
+
+		Outcome<long[]> finish() {
+			return failures.toOutcome(Arrays.copyOf(values, size));
+		}
+	}
+
+	private static final class DoubleAccumulation {
+		double[] values = new double[16];
+		int size;
+		final Failures failures;
+
+		DoubleAccumulation(int maxFailuresKept) {
+			this.failures = new Failures(maxFailuresKept);
+		}
+
+		void add(double value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		DoubleAccumulation combine(DoubleAccumulation later) {
+			if (size + later.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(size + later.size, size * 2));
+			}
+			System.arraycopy(later.values, 0, values, size, later.size);
+			size += later.size;
+			failures.addAll(later.failures);
+			return this;
+		}
+
+		Outcome<double[]> finish() {
+			return failures.toOutcome(Arrays.copyOf(values, size));
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoConsumer;
+
+/**
+ * Writes the batches of a batching consumer to its sink, one at a time, whether they are
+ * full batches handed over by threads accepting elements, or the partial batches of every
+ * stripe, flushed when the linger time expires and on closing.
+ *
+ * <p>Elements are buffered in stripes, each guarded by its own lock, and each thread adds
+ * to the stripe its id hashes to, so that threads of a parallel stream rarely contend.
+ * A thread filling a batch hands it over to its stripe's queue of taken batches, releases
+ * the stripe's lock, and then, holding the sink's lock, writes the queued batches in the
+ * order they were taken, so that the elements accepted by one thread are written in order
+ * even if another thread shares its stripe. Flushing takes each stripe's partial batch, and
+ * writes it after any queued batches, holding the sink's lock.
+ *
+ * <p>A flush on expiry of the linger time is scheduled only when an element is buffered
+ * with none scheduled, so that a consumer buffering nothing is referenced by no task and,
+ * if it was never closed, can still be garbage-collected.
+ */
+final class BatchWriter<B> {
+	private static final int MAX_STRIPE_COUNT = 64;
+
+	/** The buffer of one stripe, guarded by its own lock. */
+	abstract static class Stripe<B> {
+		/** Batches taken from the stripe but not yet written, in the order taken. */
+		private final ArrayDeque<B> takenBatches = new ArrayDeque<>();
+
+		/**
+		 * Takes the partial batch buffered, leaving the stripe empty, or returns {@code null}
+		 * if it is empty already; called holding the stripe's lock.
+		 */
+		abstract B takePartialBatch();
+
+		/** Queues a batch taken from the stripe to be written; called holding its lock. */
+		final void handOver(B batch) {
+			takenBatches.addLast(batch);
+		}
+	}
+
+	/**
+	 * A stripe buffering primitive values in an array, allocated small and grown as needed
+	 * up to the maximum size of a batch, which is handed over whole once full.
+	 */
+	static final class ArrayStripe<A> extends Stripe<A> {
+		private static final int INITIAL_CAPACITY = 1024;
+
+		private final int maxBatchSize;
+		private final IntFunction<A> arrayFactory;
+		/** {@code null} until a value is added after handing over a full batch. */
+		private A values;
+		private int capacity;
+		/** The capacity of the last array handed over, to allocate its successor. */
+		private int lastCapacity;
+		private int count;
+
+		ArrayStripe(int maxBatchSize, IntFunction<A> arrayFactory) {
+			this.maxBatchSize = maxBatchSize;
+			this.arrayFactory = arrayFactory;
+			this.lastCapacity = Math.min(maxBatchSize, INITIAL_CAPACITY);
+		}
+
+		/** The array into which to store the next value, at {@link #count()}. */
+		A reserve() {
+			if (values == null) {
+				values = arrayFactory.apply(lastCapacity);
+				capacity = lastCapacity;
+			} else if (count == capacity) {
+				int newCapacity = (int) Math.min(maxBatchSize, 2L * capacity);
+				A newValues = arrayFactory.apply(newCapacity);
+				System.arraycopy(values, 0, newValues, 0, count);
+				values = newValues;
+				capacity = newCapacity;
+			}
+			return values;
+		}
+
+		int count() {
+			return count;
+		}
+
+		/**
+		 * Counts the value stored, handing over the batch if it is full, and returns the
+		 * number of values buffered.
+		 */
+		int added() {
+			count++;
+			if (count == maxBatchSize) {
+				handOver(values);
+				lastCapacity = capacity;
+				values = null;
+				count = 0;
+			}
+			return count;
+		}
+
+		@Override
+		A takePartialBatch() {
+			if (count == 0) {
+				return null;
+			}
+			A batch = arrayFactory.apply(count);
+			System.arraycopy(values, 0, batch, 0, count);
+			count = 0;
+			return batch;
+		}
+	}
+
+	private final CheckedIoConsumer<? super B> sink;
+	private final Stripe<B>[] stripes;
+	private final long maxLingerNanos;
+	private final Executor executor;
+	private final Object sinkLock = new Object();
+	private volatile boolean closed;
+	private final AtomicBoolean lingerFlushScheduled = new AtomicBoolean();
+	/** The failure of a flush on expiry of the linger time, to be thrown by the next call. */
+	private final AtomicReference<UncheckedIOException> lingerFailure = new AtomicReference<>();
+
+	/**
+	 * Writes batches to the sink, flushing every stripe within {@code maxLinger} (unless
+	 * {@code null}) of buffering an element, on the given executor.
+	 */
+	BatchWriter(
+			CheckedIoConsumer<? super B> sink,
+			Stripe<B>[] stripes,
+			Duration maxLinger,
+			Executor executor) {
+		if (maxLinger != null && (maxLinger.isNegative() || maxLinger.isZero())) {
+			throw new IllegalArgumentException(String.format(
+					"maxLinger must be positive but is %s", maxLinger));
+		}
+
+		this.sink = sink;
+		this.stripes = stripes;
+		this.maxLingerNanos = maxLinger == null ? 0 : maxLinger.toNanos();
+		this.executor = executor;
+	}
+
+	/** The number of stripes to buffer elements in: twice the processors, as a power of two. */
+	static int stripeCount() {
+		return Math.min(
+				MAX_STRIPE_COUNT,
+				Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2);
+	}
+
+	/** The stripe of the current thread. */
+	static int stripeIndex(int stripeCount) {
+		long id = Thread.currentThread().getId();
+		return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (stripeCount - 1);
+	}
+
+	static void checkMaxBatchSize(int maxBatchSize) {
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException(String.format(
+					"maxBatchSize must be positive but is %d", maxBatchSize));
+		}
+	}
+
+	/**
+	 * Throws {@link IllegalStateException} if closed, or the failure of a flush on expiry of
+	 * the linger time since the last call.
+	 */
+	void checkOpen() {
+		if (closed) {
+			throw new IllegalStateException("the batching consumer has been closed");
+		}
+		if (lingerFailure.get() != null) {
+			UncheckedIOException failure = lingerFailure.getAndSet(null);
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+
+	/**
+	 * Writes the batches handed over to the stripe, unless another thread already has,
+	 * throwing the failure of the first whose write fails.
+	 */
+	void writeHandedOver(Stripe<B> stripe) {
+		synchronized (sinkLock) {
+			writeTakenBatches(stripe);
+		}
+	}
+
+	/**
+	 * Schedules a flush on expiry of the linger time, if there is one and none is scheduled,
+	 * once an element has been buffered in an empty stripe.
+	 */
+	void bufferedFirst() {
+		if (maxLingerNanos > 0
+				&& !lingerFlushScheduled.get()
+				&& lingerFlushScheduled.compareAndSet(false, true)) {
+			CompletableFuture.delayedExecutor(maxLingerNanos, TimeUnit.NANOSECONDS, executor)
+					.execute(this::flushOnLingerExpiry);
+		}
+	}
+
+	/**
+	 * Flushes every stripe and stops flushing on expiry of the linger time, throwing the
+	 * first failure to write a batch, or of a flush on expiry of the linger time not yet
+	 * thrown, with any others suppressed.
+	 */
+	void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+
+		UncheckedIOException failure = null;
+		try {
+			flushStripes();
+		} catch (UncheckedIOException e) {
+			failure = e;
+		}
+		// read only now, as a flush on expiry of the linger time may have been in progress
+		UncheckedIOException lingerFailure = this.lingerFailure.getAndSet(null);
+		if (lingerFailure != null) {
+			if (failure != null) {
+				lingerFailure.addSuppressed(failure);
+			}
+			failure = lingerFailure;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Writes the batches handed over to every stripe and then its partial batch, even if
+	 * writing one of them fails.
+	 */
+	private void flushStripes() {
+		UncheckedIOException failure = null;
+		synchronized (sinkLock) {
+			for (Stripe<B> stripe : stripes) {
+				synchronized (stripe) {
+					B partialBatch = stripe.takePartialBatch();
+					if (partialBatch != null) {
+						stripe.handOver(partialBatch);
+					}
+				}
+				while (true) {
+					try {
+						writeTakenBatches(stripe);
+						break;
+					} catch (UncheckedIOException e) {
+						if (failure == null) {
+							failure = e;
+						} else {
+							failure.addSuppressed(e);
+						}
+					}
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/** Writes the batches handed over to the stripe, holding the sink's lock. */
+	private void writeTakenBatches(Stripe<B> stripe) {
+		while (true) {
+			B batch;
+			synchronized (stripe) {
+				batch = stripe.takenBatches.pollFirst();
+			}
+			if (batch == null) {
+				return;
+			}
+			try {
+				sink.acceptChecked(batch);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Flushes every stripe, so that no element waits longer than the linger time, and
+	 * keeps the first failure to be thrown by the next call.
+	 */
+	private void flushOnLingerExpiry() {
+		// cleared first, so that an element buffered in a stripe already flushed
+		// schedules the next flush
+		lingerFlushScheduled.set(false);
+		synchronized (sinkLock) {
+			if (closed) {
+				return;
+			}
+			try {
+				flushStripes();
+			} catch (UncheckedIOException e) {
+				lingerFailure.compareAndSet(null, e);
+			}
+		}
+	}
+}
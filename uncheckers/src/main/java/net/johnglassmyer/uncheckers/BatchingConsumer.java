@@ -0,0 +1,191 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoConsumer;
+
+/**
+ * Gathers the elements it accepts into batches for a bulk sink, such as a log writer or an
+ * object store, so that writing takes one call, and one system call or request, per batch
+ * rather than per element:
+ *
+ * <pre>
+ * try (BatchingConsumer&lt;String&gt; batcher = BatchingConsumer.of(writer::writeAll, 1000)) {
+ *     records.parallel().forEach(batcher);
+ * }
+ * </pre>
+ *
+ * <p>A batch is written once it holds {@code maxBatchSize} elements or, given a size for
+ * each element, as many elements as fit in {@code maxBatchBytes}; an element which would
+ * take a batch over that is added to the next batch instead, and is written alone only if
+ * it is larger by itself. Given a linger time, partial batches are written too when it
+ * expires, so that no element waits longer than that, on the default executor of
+ * {@link AsyncCalls} unless another executor is given.
+ *
+ * <p>A batching consumer must be closed, as by a try-with-resources statement, once no more
+ * elements are to be accepted, and not while any still are: without a linger time, partial
+ * batches are written only on closing.
+ *
+ * <p>Threads accepting elements at the same time, as those of a parallel stream, add them
+ * to separately locked stripes, and so rarely contend; batches are written one at a time.
+ * The elements accepted by one thread are written in the order it accepted them. Each batch
+ * is a new list, which the sink may keep.
+ *
+ * <p>A failure of the sink is wrapped and re-thrown in a new {@link UncheckedIOException}
+ * by the call that wrote the batch, usually the call that filled it, or, if the batch was
+ * written on expiry of the linger time, by the next call to {@link #accept} or
+ * {@link #close}. The elements of a batch whose write failed are not written again.
+ */
+public final class BatchingConsumer<T> implements Consumer<T>, AutoCloseable {
+	private static final class Stripe<T> extends BatchWriter.Stripe<List<T>> {
+		private final int initialCapacity;
+		/** {@code null} until an element is added after taking a batch. */
+		List<T> elements;
+		long bytes;
+
+		Stripe(int initialCapacity) {
+			this.initialCapacity = initialCapacity;
+		}
+
+		/** Adds the element, and returns the number of elements buffered. */
+		int add(T t, long size) {
+			if (elements == null) {
+				elements = new ArrayList<>(initialCapacity);
+			}
+			elements.add(t);
+			bytes += size;
+			return elements.size();
+		}
+
+		@Override
+		List<T> takePartialBatch() {
+			List<T> batch = elements;
+			if (batch == null) {
+				return null;
+			}
+			elements = null;
+			bytes = 0;
+			return batch;
+		}
+	}
+
+	private final int maxBatchSize;
+	private final ToLongFunction<? super T> sizeOf;
+	private final long maxBatchBytes;
+	private final Stripe<T>[] stripes;
+	private final BatchWriter<List<T>> writer;
+
+	@SuppressWarnings("unchecked")
+	private BatchingConsumer(
+			CheckedIoConsumer<? super List<T>> sink,
+			int maxBatchSize,
+			ToLongFunction<? super T> sizeOf,
+			long maxBatchBytes,
+			Duration maxLinger,
+			Executor executor) {
+		BatchWriter.checkMaxBatchSize(maxBatchSize);
+		if (sizeOf != null && maxBatchBytes < 1) {
+			throw new IllegalArgumentException(String.format(
+					"maxBatchBytes must be positive but is %d", maxBatchBytes));
+		}
+
+		this.maxBatchSize = maxBatchSize;
+		this.sizeOf = sizeOf;
+		this.maxBatchBytes = maxBatchBytes;
+		this.stripes = new Stripe[BatchWriter.stripeCount()];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new Stripe<>(Math.min(maxBatchSize, 1024));
+		}
+		this.writer = new BatchWriter<>(sink, stripes, maxLinger, executor);
+	}
+
+	/** Writes batches of up to {@code maxBatchSize} elements to the sink. */
+	public static <T> BatchingConsumer<T> of(
+			CheckedIoConsumer<? super List<T>> sink, int maxBatchSize) {
+		return new BatchingConsumer<>(
+				sink, maxBatchSize, null, 0, null, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Writes batches of up to {@code maxBatchSize} elements to the sink, and each partial
+	 * batch within {@code maxLinger}.
+	 */
+	public static <T> BatchingConsumer<T> of(
+			CheckedIoConsumer<? super List<T>> sink, int maxBatchSize, Duration maxLinger) {
+		return new BatchingConsumer<>(
+				sink, maxBatchSize, null, 0, maxLinger, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Writes batches of up to {@code maxBatchSize} elements to the sink, or fewer once their
+	 * sizes by {@code sizeOf} add up to {@code maxBatchBytes}, and each partial batch within
+	 * {@code maxLinger} (unless {@code null}).
+	 */
+	public static <T> BatchingConsumer<T> of(
+			CheckedIoConsumer<? super List<T>> sink,
+			int maxBatchSize,
+			ToLongFunction<? super T> sizeOf,
+			long maxBatchBytes,
+			Duration maxLinger) {
+		return new BatchingConsumer<>(
+				sink, maxBatchSize, sizeOf, maxBatchBytes, maxLinger, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Like {@link #of(CheckedIoConsumer, int, ToLongFunction, long, Duration)}, writing
+	 * partial batches on expiry of the linger time on the given executor.
+	 */
+	public static <T> BatchingConsumer<T> of(
+			CheckedIoConsumer<? super List<T>> sink,
+			int maxBatchSize,
+			ToLongFunction<? super T> sizeOf,
+			long maxBatchBytes,
+			Duration maxLinger,
+			Executor executor) {
+		return new BatchingConsumer<>(sink, maxBatchSize, sizeOf, maxBatchBytes, maxLinger, executor);
+	}
+
+	@Override
+	public void accept(T t) {
+		writer.checkOpen();
+		long size = sizeOf == null ? 0 : sizeOf.applyAsLong(t);
+
+		boolean handedOver = false;
+		int count;
+		Stripe<T> stripe = stripes[BatchWriter.stripeIndex(stripes.length)];
+		synchronized (stripe) {
+			if (sizeOf != null && stripe.elements != null && stripe.bytes + size > maxBatchBytes) {
+				stripe.handOver(stripe.takePartialBatch());
+				handedOver = true;
+			}
+			count = stripe.add(t, size);
+			if (count >= maxBatchSize || (sizeOf != null && stripe.bytes >= maxBatchBytes)) {
+				stripe.handOver(stripe.takePartialBatch());
+				handedOver = true;
+				count = 0;
+			}
+		}
+
+		if (count == 1) {
+			writer.bufferedFirst();
+		}
+		if (handedOver) {
+			writer.writeHandedOver(stripe);
+		}
+	}
+
+	/**
+	 * Writes the partial batches, throwing {@link UncheckedIOException} if writing any of
+	 * them, or a batch written on expiry of the linger time since the last call, failed.
+	 */
+	@Override
+	public void close() {
+		writer.close();
+	}
+}
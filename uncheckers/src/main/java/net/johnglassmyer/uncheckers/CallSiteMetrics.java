@@ -0,0 +1,70 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of one call site of the instrumented uncheckers: invocations, failures by
+ * exception class, and a histogram of latencies. Recording a success costs two increments
+ * of uncontended memory, the counters being striped {@link LongAdder LongAdders} and the
+ * histogram lock-free, and recording a failure additionally one map lookup.
+ *
+ * @see UncheckerMetrics
+ */
+public final class CallSiteMetrics {
+	private final String tag;
+	private final LongAdder invocationCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final ConcurrentHashMap<Class<?>, LongAdder> failureCountsByExceptionClass =
+			new ConcurrentHashMap<>();
+	private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+	CallSiteMetrics(String tag) {
+		this.tag = tag;
+	}
+
+	/** The metrics of the call site with the given tag, registering it if necessary. */
+	public static CallSiteMetrics forCallSite(String tag) {
+		return UncheckerMetrics.forCallSite(tag);
+	}
+
+	/** The tag identifying the call site. */
+	public String getTag() {
+		return tag;
+	}
+
+	/** Records a call which returned. */
+	public void recordSuccess(long latencyNanos) {
+		invocationCount.increment();
+		latencyHistogram.record(latencyNanos);
+	}
+
+	/** Records a call which threw. */
+	public void recordFailure(Throwable failure, long latencyNanos) {
+		invocationCount.increment();
+		failureCount.increment();
+		failureCountsByExceptionClass
+				.computeIfAbsent(failure.getClass(), c -> new LongAdder())
+				.increment();
+		latencyHistogram.record(latencyNanos);
+	}
+
+	/** The metrics recorded so far. */
+	public CallSiteSnapshot snapshot() {
+		Map<String, Long> failureCounts = new TreeMap<>();
+		failureCountsByExceptionClass.forEach((exceptionClass, count) ->
+				failureCounts.put(exceptionClass.getName(), count.sum()));
+
+		return new CallSiteSnapshot(
+				tag,
+				invocationCount.sum(),
+				failureCount.sum(),
+				failureCounts,
+				latencyHistogram.percentileNanos(50),
+				latencyHistogram.percentileNanos(90),
+				latencyHistogram.percentileNanos(99),
+				latencyHistogram.percentileNanos(99.9));
+	}
+}
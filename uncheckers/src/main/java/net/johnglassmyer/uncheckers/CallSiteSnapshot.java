@@ -0,0 +1,93 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The metrics of one call site of the instrumented uncheckers at one moment,
+ * published through {@link UncheckerMetricsMXBean} as {@code CompositeData}.
+ * Latency percentiles are the upper bounds of their histogram buckets.
+ */
+public final class CallSiteSnapshot {
+	private final String tag;
+	private final long invocationCount;
+	private final long failureCount;
+	private final Map<String, Long> failureCountsByExceptionClass;
+	private final long latencyP50Nanos;
+	private final long latencyP90Nanos;
+	private final long latencyP99Nanos;
+	private final long latencyP999Nanos;
+
+	CallSiteSnapshot(
+			String tag,
+			long invocationCount,
+			long failureCount,
+			Map<String, Long> failureCountsByExceptionClass,
+			long latencyP50Nanos,
+			long latencyP90Nanos,
+			long latencyP99Nanos,
+			long latencyP999Nanos) {
+		this.tag = tag;
+		this.invocationCount = invocationCount;
+		this.failureCount = failureCount;
+		this.failureCountsByExceptionClass =
+				Collections.unmodifiableMap(failureCountsByExceptionClass);
+		this.latencyP50Nanos = latencyP50Nanos;
+		this.latencyP90Nanos = latencyP90Nanos;
+		this.latencyP99Nanos = latencyP99Nanos;
+		this.latencyP999Nanos = latencyP999Nanos;
+	}
+
+	/** The tag identifying the call site. */
+	public String getTag() {
+		return tag;
+	}
+
+	/** The number of calls, including those that failed. */
+	public long getInvocationCount() {
+		return invocationCount;
+	}
+
+	/** The number of calls that threw. */
+	public long getFailureCount() {
+		return failureCount;
+	}
+
+	/** Failure counts keyed by the fully-qualified names of the exception classes. */
+	public Map<String, Long> getFailureCountsByExceptionClass() {
+		return failureCountsByExceptionClass;
+	}
+
+	/** The median latency of calls, in nanoseconds. */
+	public long getLatencyP50Nanos() {
+		return latencyP50Nanos;
+	}
+
+	/** The 90th percentile latency of calls, in nanoseconds. */
+	public long getLatencyP90Nanos() {
+		return latencyP90Nanos;
+	}
+
+	/** The 99th percentile latency of calls, in nanoseconds. */
+	public long getLatencyP99Nanos() {
+		return latencyP99Nanos;
+	}
+
+	/** The 99.9th percentile latency of calls, in nanoseconds. */
+	public long getLatencyP999Nanos() {
+		return latencyP999Nanos;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%s: %d invocations, %d failures %s, latency p50=%dns p99=%dns p99.9=%dns",
+				tag,
+				invocationCount,
+				failureCount,
+				failureCountsByExceptionClass,
+				latencyP50Nanos,
+				latencyP99Nanos,
+				latencyP999Nanos);
+	}
+}
@@ -0,0 +1,331 @@
+package net.johnglassmyer.uncheckers;
+
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.terminate;
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.tunnel;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleBinaryOperator;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleConsumer;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoublePredicate;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleToIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleToLongFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedDoubleUnaryOperator;
+
+/**
+ * The {@code double} counterpart of {@link CheckedStream}, taking checked lambdas without
+ * boxing the elements. Like it, each stage tunnels the checked exceptions of its lambda,
+ * and the terminal operation translates them back to an {@code E}.
+ */
+public final class CheckedDoubleStream<E extends Exception> implements AutoCloseable {
+	private final DoubleStream stream;
+	private final Class<E> exceptionClass;
+
+	CheckedDoubleStream(DoubleStream stream, Class<E> exceptionClass) {
+		this.stream = stream;
+		this.exceptionClass = exceptionClass;
+	}
+
+	/** A stream whose terminal operations throw any checked exception as itself. */
+	public static CheckedDoubleStream<Exception> of(DoubleStream stream) {
+		return new CheckedDoubleStream<>(stream, Exception.class);
+	}
+
+	/**
+	 * A stream whose terminal operations throw {@code E}, wrapping any other checked
+	 * exception in a {@link RuntimeException}.
+	 */
+	public static <E extends Exception> CheckedDoubleStream<E> of(
+			DoubleStream stream, Class<E> exceptionClass) {
+		return new CheckedDoubleStream<>(stream, exceptionClass);
+	}
+
+	private CheckedDoubleStream<E> with(DoubleStream stream) {
+		return new CheckedDoubleStream<>(stream, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#filter}, but taking a checked predicate. */
+	public CheckedDoubleStream<E> filter(CheckedDoublePredicate predicate) {
+		return with(stream.filter(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#map}, but taking a checked function. */
+	public CheckedDoubleStream<E> map(CheckedDoubleUnaryOperator mapper) {
+		return with(stream.map(d -> {
+			try {
+				return mapper.applyAsDoubleChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#mapToObj}, but taking a checked function. */
+	public <R> CheckedStream<R, E> mapToObj(CheckedDoubleFunction<? extends R> mapper) {
+		return new CheckedStream<>(stream.mapToObj(d -> {
+			try {
+				return mapper.applyChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#mapToInt}, but taking a checked function. */
+	public CheckedIntStream<E> mapToInt(CheckedDoubleToIntFunction mapper) {
+		return new CheckedIntStream<>(stream.mapToInt(d -> {
+			try {
+				return mapper.applyAsIntChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#mapToLong}, but taking a checked function. */
+	public CheckedLongStream<E> mapToLong(CheckedDoubleToLongFunction mapper) {
+		return new CheckedLongStream<>(stream.mapToLong(d -> {
+			try {
+				return mapper.applyAsLongChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#flatMap}, but taking a checked function. */
+	public CheckedDoubleStream<E> flatMap(CheckedDoubleFunction<? extends DoubleStream> mapper) {
+		return with(stream.flatMap(d -> {
+			try {
+				return mapper.applyChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#peek}, but taking a checked consumer. */
+	public CheckedDoubleStream<E> peek(CheckedDoubleConsumer action) {
+		return with(stream.peek(d -> {
+			try {
+				action.acceptChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#takeWhile}, but taking a checked predicate. */
+	public CheckedDoubleStream<E> takeWhile(CheckedDoublePredicate predicate) {
+		return with(stream.takeWhile(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#dropWhile}, but taking a checked predicate. */
+	public CheckedDoubleStream<E> dropWhile(CheckedDoublePredicate predicate) {
+		return with(stream.dropWhile(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link DoubleStream#distinct}. */
+	public CheckedDoubleStream<E> distinct() {
+		return with(stream.distinct());
+	}
+
+	/** As {@link DoubleStream#sorted}. */
+	public CheckedDoubleStream<E> sorted() {
+		return with(stream.sorted());
+	}
+
+	/** As {@link DoubleStream#parallel}. */
+	public CheckedDoubleStream<E> parallel() {
+		return with(stream.parallel());
+	}
+
+	/** As {@link DoubleStream#sequential}. */
+	public CheckedDoubleStream<E> sequential() {
+		return with(stream.sequential());
+	}
+
+	/** As {@link DoubleStream#unordered}. */
+	public CheckedDoubleStream<E> unordered() {
+		return with(stream.unordered());
+	}
+
+	/** As {@link DoubleStream#limit}. */
+	public CheckedDoubleStream<E> limit(long maxSize) {
+		return with(stream.limit(maxSize));
+	}
+
+	/** As {@link DoubleStream#skip}. */
+	public CheckedDoubleStream<E> skip(long n) {
+		return with(stream.skip(n));
+	}
+
+	/** As {@link DoubleStream#onClose}. */
+	public CheckedDoubleStream<E> onClose(Runnable closeHandler) {
+		return with(stream.onClose(closeHandler));
+	}
+
+	/** As {@link DoubleStream#isParallel}. */
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	/** As {@link DoubleStream#boxed}. */
+	public CheckedStream<Double, E> boxed() {
+		return new CheckedStream<>(stream.boxed(), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#forEach}, but taking a checked consumer. */
+	public void forEach(CheckedDoubleConsumer action) throws E {
+		terminate(() -> {
+			stream.forEach(d -> {
+				try {
+					action.acceptChecked(d);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#forEachOrdered}, but taking a checked consumer. */
+	public void forEachOrdered(CheckedDoubleConsumer action) throws E {
+		terminate(() -> {
+			stream.forEachOrdered(d -> {
+				try {
+					action.acceptChecked(d);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#toArray}. */
+	public double[] toArray() throws E {
+		return terminate(stream::toArray, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#reduce}, but taking a checked operator. */
+	public double reduce(double identity, CheckedDoubleBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce(identity, (d0, d1) -> {
+			try {
+				return operator.applyAsDoubleChecked(d0, d1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#reduce}, but taking a checked operator. */
+	public OptionalDouble reduce(CheckedDoubleBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce((d0, d1) -> {
+			try {
+				return operator.applyAsDoubleChecked(d0, d1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#sum}. */
+	public double sum() throws E {
+		return terminate(stream::sum, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#min}. */
+	public OptionalDouble min() throws E {
+		return terminate(stream::min, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#max}. */
+	public OptionalDouble max() throws E {
+		return terminate(stream::max, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#count}. */
+	public long count() throws E {
+		return terminate(stream::count, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#average}. */
+	public OptionalDouble average() throws E {
+		return terminate(stream::average, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#summaryStatistics}. */
+	public DoubleSummaryStatistics summaryStatistics() throws E {
+		return terminate(stream::summaryStatistics, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#findFirst}. */
+	public OptionalDouble findFirst() throws E {
+		return terminate(stream::findFirst, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#findAny}. */
+	public OptionalDouble findAny() throws E {
+		return terminate(stream::findAny, exceptionClass);
+	}
+
+	/** As {@link DoubleStream#anyMatch}, but taking a checked predicate. */
+	public boolean anyMatch(CheckedDoublePredicate predicate) throws E {
+		return terminate(() -> stream.anyMatch(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#allMatch}, but taking a checked predicate. */
+	public boolean allMatch(CheckedDoublePredicate predicate) throws E {
+		return terminate(() -> stream.allMatch(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link DoubleStream#noneMatch}, but taking a checked predicate. */
+	public boolean noneMatch(CheckedDoublePredicate predicate) throws E {
+		return terminate(() -> stream.noneMatch(d -> {
+			try {
+				return predicate.testChecked(d);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,342 @@
+package net.johnglassmyer.uncheckers;
+
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.terminate;
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.tunnel;
+
+import java.util.IntSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntBinaryOperator;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntConsumer;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntPredicate;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntToDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntToLongFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedIntUnaryOperator;
+
+/**
+ * The {@code int} counterpart of {@link CheckedStream}, taking checked lambdas without
+ * boxing the elements. Like it, each stage tunnels the checked exceptions of its lambda,
+ * and the terminal operation translates them back to an {@code E}.
+ */
+public final class CheckedIntStream<E extends Exception> implements AutoCloseable {
+	private final IntStream stream;
+	private final Class<E> exceptionClass;
+
+	CheckedIntStream(IntStream stream, Class<E> exceptionClass) {
+		this.stream = stream;
+		this.exceptionClass = exceptionClass;
+	}
+
+	/** A stream whose terminal operations throw any checked exception as itself. */
+	public static CheckedIntStream<Exception> of(IntStream stream) {
+		return new CheckedIntStream<>(stream, Exception.class);
+	}
+
+	/**
+	 * A stream whose terminal operations throw {@code E}, wrapping any other checked
+	 * exception in a {@link RuntimeException}.
+	 */
+	public static <E extends Exception> CheckedIntStream<E> of(
+			IntStream stream, Class<E> exceptionClass) {
+		return new CheckedIntStream<>(stream, exceptionClass);
+	}
+
+	private CheckedIntStream<E> with(IntStream stream) {
+		return new CheckedIntStream<>(stream, exceptionClass);
+	}
+
+	/** As {@link IntStream#filter}, but taking a checked predicate. */
+	public CheckedIntStream<E> filter(CheckedIntPredicate predicate) {
+		return with(stream.filter(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#map}, but taking a checked function. */
+	public CheckedIntStream<E> map(CheckedIntUnaryOperator mapper) {
+		return with(stream.map(i -> {
+			try {
+				return mapper.applyAsIntChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#mapToObj}, but taking a checked function. */
+	public <R> CheckedStream<R, E> mapToObj(CheckedIntFunction<? extends R> mapper) {
+		return new CheckedStream<>(stream.mapToObj(i -> {
+			try {
+				return mapper.applyChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#mapToLong}, but taking a checked function. */
+	public CheckedLongStream<E> mapToLong(CheckedIntToLongFunction mapper) {
+		return new CheckedLongStream<>(stream.mapToLong(i -> {
+			try {
+				return mapper.applyAsLongChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#mapToDouble}, but taking a checked function. */
+	public CheckedDoubleStream<E> mapToDouble(CheckedIntToDoubleFunction mapper) {
+		return new CheckedDoubleStream<>(stream.mapToDouble(i -> {
+			try {
+				return mapper.applyAsDoubleChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#flatMap}, but taking a checked function. */
+	public CheckedIntStream<E> flatMap(CheckedIntFunction<? extends IntStream> mapper) {
+		return with(stream.flatMap(i -> {
+			try {
+				return mapper.applyChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#peek}, but taking a checked consumer. */
+	public CheckedIntStream<E> peek(CheckedIntConsumer action) {
+		return with(stream.peek(i -> {
+			try {
+				action.acceptChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#takeWhile}, but taking a checked predicate. */
+	public CheckedIntStream<E> takeWhile(CheckedIntPredicate predicate) {
+		return with(stream.takeWhile(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#dropWhile}, but taking a checked predicate. */
+	public CheckedIntStream<E> dropWhile(CheckedIntPredicate predicate) {
+		return with(stream.dropWhile(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link IntStream#distinct}. */
+	public CheckedIntStream<E> distinct() {
+		return with(stream.distinct());
+	}
+
+	/** As {@link IntStream#sorted}. */
+	public CheckedIntStream<E> sorted() {
+		return with(stream.sorted());
+	}
+
+	/** As {@link IntStream#parallel}. */
+	public CheckedIntStream<E> parallel() {
+		return with(stream.parallel());
+	}
+
+	/** As {@link IntStream#sequential}. */
+	public CheckedIntStream<E> sequential() {
+		return with(stream.sequential());
+	}
+
+	/** As {@link IntStream#unordered}. */
+	public CheckedIntStream<E> unordered() {
+		return with(stream.unordered());
+	}
+
+	/** As {@link IntStream#limit}. */
+	public CheckedIntStream<E> limit(long maxSize) {
+		return with(stream.limit(maxSize));
+	}
+
+	/** As {@link IntStream#skip}. */
+	public CheckedIntStream<E> skip(long n) {
+		return with(stream.skip(n));
+	}
+
+	/** As {@link IntStream#onClose}. */
+	public CheckedIntStream<E> onClose(Runnable closeHandler) {
+		return with(stream.onClose(closeHandler));
+	}
+
+	/** As {@link IntStream#isParallel}. */
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	/** As {@link IntStream#boxed}. */
+	public CheckedStream<Integer, E> boxed() {
+		return new CheckedStream<>(stream.boxed(), exceptionClass);
+	}
+
+	/** As {@link IntStream#asLongStream}. */
+	public CheckedLongStream<E> asLongStream() {
+		return new CheckedLongStream<>(stream.asLongStream(), exceptionClass);
+	}
+
+	/** As {@link IntStream#asDoubleStream}. */
+	public CheckedDoubleStream<E> asDoubleStream() {
+		return new CheckedDoubleStream<>(stream.asDoubleStream(), exceptionClass);
+	}
+
+	/** As {@link IntStream#forEach}, but taking a checked consumer. */
+	public void forEach(CheckedIntConsumer action) throws E {
+		terminate(() -> {
+			stream.forEach(i -> {
+				try {
+					action.acceptChecked(i);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link IntStream#forEachOrdered}, but taking a checked consumer. */
+	public void forEachOrdered(CheckedIntConsumer action) throws E {
+		terminate(() -> {
+			stream.forEachOrdered(i -> {
+				try {
+					action.acceptChecked(i);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link IntStream#toArray}. */
+	public int[] toArray() throws E {
+		return terminate(stream::toArray, exceptionClass);
+	}
+
+	/** As {@link IntStream#reduce}, but taking a checked operator. */
+	public int reduce(int identity, CheckedIntBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce(identity, (i0, i1) -> {
+			try {
+				return operator.applyAsIntChecked(i0, i1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#reduce}, but taking a checked operator. */
+	public OptionalInt reduce(CheckedIntBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce((i0, i1) -> {
+			try {
+				return operator.applyAsIntChecked(i0, i1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#sum}. */
+	public int sum() throws E {
+		return terminate(stream::sum, exceptionClass);
+	}
+
+	/** As {@link IntStream#min}. */
+	public OptionalInt min() throws E {
+		return terminate(stream::min, exceptionClass);
+	}
+
+	/** As {@link IntStream#max}. */
+	public OptionalInt max() throws E {
+		return terminate(stream::max, exceptionClass);
+	}
+
+	/** As {@link IntStream#count}. */
+	public long count() throws E {
+		return terminate(stream::count, exceptionClass);
+	}
+
+	/** As {@link IntStream#average}. */
+	public OptionalDouble average() throws E {
+		return terminate(stream::average, exceptionClass);
+	}
+
+	/** As {@link IntStream#summaryStatistics}. */
+	public IntSummaryStatistics summaryStatistics() throws E {
+		return terminate(stream::summaryStatistics, exceptionClass);
+	}
+
+	/** As {@link IntStream#findFirst}. */
+	public OptionalInt findFirst() throws E {
+		return terminate(stream::findFirst, exceptionClass);
+	}
+
+	/** As {@link IntStream#findAny}. */
+	public OptionalInt findAny() throws E {
+		return terminate(stream::findAny, exceptionClass);
+	}
+
+	/** As {@link IntStream#anyMatch}, but taking a checked predicate. */
+	public boolean anyMatch(CheckedIntPredicate predicate) throws E {
+		return terminate(() -> stream.anyMatch(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#allMatch}, but taking a checked predicate. */
+	public boolean allMatch(CheckedIntPredicate predicate) throws E {
+		return terminate(() -> stream.allMatch(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link IntStream#noneMatch}, but taking a checked predicate. */
+	public boolean noneMatch(CheckedIntPredicate predicate) throws E {
+		return terminate(() -> stream.noneMatch(i -> {
+			try {
+				return predicate.testChecked(i);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
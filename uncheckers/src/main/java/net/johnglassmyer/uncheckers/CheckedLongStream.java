@@ -0,0 +1,337 @@
+package net.johnglassmyer.uncheckers;
+
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.terminate;
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.tunnel;
+
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongBinaryOperator;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongConsumer;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongPredicate;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongToDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongToIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedLongUnaryOperator;
+
+/**
+ * The {@code long} counterpart of {@link CheckedStream}, taking checked lambdas without
+ * boxing the elements. Like it, each stage tunnels the checked exceptions of its lambda,
+ * and the terminal operation translates them back to an {@code E}.
+ */
+public final class CheckedLongStream<E extends Exception> implements AutoCloseable {
+	private final LongStream stream;
+	private final Class<E> exceptionClass;
+
+	CheckedLongStream(LongStream stream, Class<E> exceptionClass) {
+		this.stream = stream;
+		this.exceptionClass = exceptionClass;
+	}
+
+	/** A stream whose terminal operations throw any checked exception as itself. */
+	public static CheckedLongStream<Exception> of(LongStream stream) {
+		return new CheckedLongStream<>(stream, Exception.class);
+	}
+
+	/**
+	 * A stream whose terminal operations throw {@code E}, wrapping any other checked
+	 * exception in a {@link RuntimeException}.
+	 */
+	public static <E extends Exception> CheckedLongStream<E> of(
+			LongStream stream, Class<E> exceptionClass) {
+		return new CheckedLongStream<>(stream, exceptionClass);
+	}
+
+	private CheckedLongStream<E> with(LongStream stream) {
+		return new CheckedLongStream<>(stream, exceptionClass);
+	}
+
+	/** As {@link LongStream#filter}, but taking a checked predicate. */
+	public CheckedLongStream<E> filter(CheckedLongPredicate predicate) {
+		return with(stream.filter(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#map}, but taking a checked function. */
+	public CheckedLongStream<E> map(CheckedLongUnaryOperator mapper) {
+		return with(stream.map(l -> {
+			try {
+				return mapper.applyAsLongChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#mapToObj}, but taking a checked function. */
+	public <R> CheckedStream<R, E> mapToObj(CheckedLongFunction<? extends R> mapper) {
+		return new CheckedStream<>(stream.mapToObj(l -> {
+			try {
+				return mapper.applyChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#mapToInt}, but taking a checked function. */
+	public CheckedIntStream<E> mapToInt(CheckedLongToIntFunction mapper) {
+		return new CheckedIntStream<>(stream.mapToInt(l -> {
+			try {
+				return mapper.applyAsIntChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#mapToDouble}, but taking a checked function. */
+	public CheckedDoubleStream<E> mapToDouble(CheckedLongToDoubleFunction mapper) {
+		return new CheckedDoubleStream<>(stream.mapToDouble(l -> {
+			try {
+				return mapper.applyAsDoubleChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#flatMap}, but taking a checked function. */
+	public CheckedLongStream<E> flatMap(CheckedLongFunction<? extends LongStream> mapper) {
+		return with(stream.flatMap(l -> {
+			try {
+				return mapper.applyChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#peek}, but taking a checked consumer. */
+	public CheckedLongStream<E> peek(CheckedLongConsumer action) {
+		return with(stream.peek(l -> {
+			try {
+				action.acceptChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#takeWhile}, but taking a checked predicate. */
+	public CheckedLongStream<E> takeWhile(CheckedLongPredicate predicate) {
+		return with(stream.takeWhile(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#dropWhile}, but taking a checked predicate. */
+	public CheckedLongStream<E> dropWhile(CheckedLongPredicate predicate) {
+		return with(stream.dropWhile(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link LongStream#distinct}. */
+	public CheckedLongStream<E> distinct() {
+		return with(stream.distinct());
+	}
+
+	/** As {@link LongStream#sorted}. */
+	public CheckedLongStream<E> sorted() {
+		return with(stream.sorted());
+	}
+
+	/** As {@link LongStream#parallel}. */
+	public CheckedLongStream<E> parallel() {
+		return with(stream.parallel());
+	}
+
+	/** As {@link LongStream#sequential}. */
+	public CheckedLongStream<E> sequential() {
+		return with(stream.sequential());
+	}
+
+	/** As {@link LongStream#unordered}. */
+	public CheckedLongStream<E> unordered() {
+		return with(stream.unordered());
+	}
+
+	/** As {@link LongStream#limit}. */
+	public CheckedLongStream<E> limit(long maxSize) {
+		return with(stream.limit(maxSize));
+	}
+
+	/** As {@link LongStream#skip}. */
+	public CheckedLongStream<E> skip(long n) {
+		return with(stream.skip(n));
+	}
+
+	/** As {@link LongStream#onClose}. */
+	public CheckedLongStream<E> onClose(Runnable closeHandler) {
+		return with(stream.onClose(closeHandler));
+	}
+
+	/** As {@link LongStream#isParallel}. */
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	/** As {@link LongStream#boxed}. */
+	public CheckedStream<Long, E> boxed() {
+		return new CheckedStream<>(stream.boxed(), exceptionClass);
+	}
+
+	/** As {@link LongStream#asDoubleStream}. */
+	public CheckedDoubleStream<E> asDoubleStream() {
+		return new CheckedDoubleStream<>(stream.asDoubleStream(), exceptionClass);
+	}
+
+	/** As {@link LongStream#forEach}, but taking a checked consumer. */
+	public void forEach(CheckedLongConsumer action) throws E {
+		terminate(() -> {
+			stream.forEach(l -> {
+				try {
+					action.acceptChecked(l);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link LongStream#forEachOrdered}, but taking a checked consumer. */
+	public void forEachOrdered(CheckedLongConsumer action) throws E {
+		terminate(() -> {
+			stream.forEachOrdered(l -> {
+				try {
+					action.acceptChecked(l);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link LongStream#toArray}. */
+	public long[] toArray() throws E {
+		return terminate(stream::toArray, exceptionClass);
+	}
+
+	/** As {@link LongStream#reduce}, but taking a checked operator. */
+	public long reduce(long identity, CheckedLongBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce(identity, (l0, l1) -> {
+			try {
+				return operator.applyAsLongChecked(l0, l1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#reduce}, but taking a checked operator. */
+	public OptionalLong reduce(CheckedLongBinaryOperator operator) throws E {
+		return terminate(() -> stream.reduce((l0, l1) -> {
+			try {
+				return operator.applyAsLongChecked(l0, l1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#sum}. */
+	public long sum() throws E {
+		return terminate(stream::sum, exceptionClass);
+	}
+
+	/** As {@link LongStream#min}. */
+	public OptionalLong min() throws E {
+		return terminate(stream::min, exceptionClass);
+	}
+
+	/** As {@link LongStream#max}. */
+	public OptionalLong max() throws E {
+		return terminate(stream::max, exceptionClass);
+	}
+
+	/** As {@link LongStream#count}. */
+	public long count() throws E {
+		return terminate(stream::count, exceptionClass);
+	}
+
+	/** As {@link LongStream#average}. */
+	public OptionalDouble average() throws E {
+		return terminate(stream::average, exceptionClass);
+	}
+
+	/** As {@link LongStream#summaryStatistics}. */
+	public LongSummaryStatistics summaryStatistics() throws E {
+		return terminate(stream::summaryStatistics, exceptionClass);
+	}
+
+	/** As {@link LongStream#findFirst}. */
+	public OptionalLong findFirst() throws E {
+		return terminate(stream::findFirst, exceptionClass);
+	}
+
+	/** As {@link LongStream#findAny}. */
+	public OptionalLong findAny() throws E {
+		return terminate(stream::findAny, exceptionClass);
+	}
+
+	/** As {@link LongStream#anyMatch}, but taking a checked predicate. */
+	public boolean anyMatch(CheckedLongPredicate predicate) throws E {
+		return terminate(() -> stream.anyMatch(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#allMatch}, but taking a checked predicate. */
+	public boolean allMatch(CheckedLongPredicate predicate) throws E {
+		return terminate(() -> stream.allMatch(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link LongStream#noneMatch}, but taking a checked predicate. */
+	public boolean noneMatch(CheckedLongPredicate predicate) throws E {
+		return terminate(() -> stream.noneMatch(l -> {
+			try {
+				return predicate.testChecked(l);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,366 @@
+package net.johnglassmyer.uncheckers;
+
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.terminate;
+import static net.johnglassmyer.uncheckers.ExceptionTunnel.tunnel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedBinaryOperator;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedComparator;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedConsumer;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedPredicate;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToDoubleFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToIntFunction;
+import net.johnglassmyer.uncheckers.Uncheckers.CheckedToLongFunction;
+
+/**
+ * A {@link Stream} whose intermediate operations take checked lambdas directly, and whose
+ * terminal operations throw the checked exceptions those lambdas throw. Each stage still
+ * wraps its lambda in one catching checked exceptions and tunnelling them out, so a
+ * pipeline costs about as much as one unchecked stage by stage; what is done once, by the
+ * terminal operation, is the translation of the tunnelled exception back to an {@code E}.
+ *
+ * <p>A checked exception thrown by any stage is carried out through the underlying stream
+ * without a stack trace of its own, ending the stream as an unchecked exception would, and
+ * is thrown by the terminal operation as itself, if it is an {@code E}, and otherwise
+ * wrapped in a {@link RuntimeException}. Unchecked exceptions are thrown unchanged.
+ * Laziness, short-circuiting and parallel execution are those of the underlying stream.
+ *
+ * @see CheckedIntStream
+ * @see CheckedLongStream
+ * @see CheckedDoubleStream
+ */
+public final class CheckedStream<T, E extends Exception> implements AutoCloseable {
+	private final Stream<T> stream;
+	private final Class<E> exceptionClass;
+
+	CheckedStream(Stream<T> stream, Class<E> exceptionClass) {
+		this.stream = stream;
+		this.exceptionClass = exceptionClass;
+	}
+
+	/** A stream whose terminal operations throw any checked exception as itself. */
+	public static <T> CheckedStream<T, Exception> of(Stream<T> stream) {
+		return new CheckedStream<>(stream, Exception.class);
+	}
+
+	/**
+	 * A stream whose terminal operations throw {@code E}, wrapping any other checked
+	 * exception in a {@link RuntimeException}.
+	 */
+	public static <T, E extends Exception> CheckedStream<T, E> of(
+			Stream<T> stream, Class<E> exceptionClass) {
+		return new CheckedStream<>(stream, exceptionClass);
+	}
+
+	private <R> CheckedStream<R, E> with(Stream<R> stream) {
+		return new CheckedStream<>(stream, exceptionClass);
+	}
+
+	/** As {@link Stream#filter}, but taking a checked predicate. */
+	public CheckedStream<T, E> filter(CheckedPredicate<? super T> predicate) {
+		return with(stream.filter(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#map}, but taking a checked function. */
+	public <R> CheckedStream<R, E> map(CheckedFunction<? super T, ? extends R> mapper) {
+		return with(stream.map(t -> {
+			try {
+				return mapper.applyChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#mapToInt}, but taking a checked function. */
+	public CheckedIntStream<E> mapToInt(CheckedToIntFunction<? super T> mapper) {
+		return new CheckedIntStream<>(stream.mapToInt(t -> {
+			try {
+				return mapper.applyAsIntChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#mapToLong}, but taking a checked function. */
+	public CheckedLongStream<E> mapToLong(CheckedToLongFunction<? super T> mapper) {
+		return new CheckedLongStream<>(stream.mapToLong(t -> {
+			try {
+				return mapper.applyAsLongChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#mapToDouble}, but taking a checked function. */
+	public CheckedDoubleStream<E> mapToDouble(CheckedToDoubleFunction<? super T> mapper) {
+		return new CheckedDoubleStream<>(stream.mapToDouble(t -> {
+			try {
+				return mapper.applyAsDoubleChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#flatMap}, but taking a checked function. */
+	public <R> CheckedStream<R, E> flatMap(
+			CheckedFunction<? super T, ? extends Stream<? extends R>> mapper) {
+		return with(stream.flatMap(t -> {
+			try {
+				return mapper.applyChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#peek}, but taking a checked consumer. */
+	public CheckedStream<T, E> peek(CheckedConsumer<? super T> action) {
+		return with(stream.peek(t -> {
+			try {
+				action.acceptChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#takeWhile}, but taking a checked predicate. */
+	public CheckedStream<T, E> takeWhile(CheckedPredicate<? super T> predicate) {
+		return with(stream.takeWhile(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#dropWhile}, but taking a checked predicate. */
+	public CheckedStream<T, E> dropWhile(CheckedPredicate<? super T> predicate) {
+		return with(stream.dropWhile(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#distinct}. */
+	public CheckedStream<T, E> distinct() {
+		return with(stream.distinct());
+	}
+
+	/** As {@link Stream#sorted}. */
+	public CheckedStream<T, E> sorted() {
+		return with(stream.sorted());
+	}
+
+	/** As {@link Stream#sorted}, but taking a checked comparator. */
+	public CheckedStream<T, E> sorted(CheckedComparator<? super T> comparator) {
+		return with(stream.sorted((t0, t1) -> {
+			try {
+				return comparator.compareChecked(t0, t1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}));
+	}
+
+	/** As {@link Stream#limit}. */
+	public CheckedStream<T, E> limit(long maxSize) {
+		return with(stream.limit(maxSize));
+	}
+
+	/** As {@link Stream#skip}. */
+	public CheckedStream<T, E> skip(long n) {
+		return with(stream.skip(n));
+	}
+
+	/** As {@link Stream#parallel}. */
+	public CheckedStream<T, E> parallel() {
+		return with(stream.parallel());
+	}
+
+	/** As {@link Stream#sequential}. */
+	public CheckedStream<T, E> sequential() {
+		return with(stream.sequential());
+	}
+
+	/** As {@link Stream#unordered}. */
+	public CheckedStream<T, E> unordered() {
+		return with(stream.unordered());
+	}
+
+	/** As {@link Stream#onClose}. */
+	public CheckedStream<T, E> onClose(Runnable closeHandler) {
+		return with(stream.onClose(closeHandler));
+	}
+
+	/** As {@link Stream#isParallel}. */
+	public boolean isParallel() {
+		return stream.isParallel();
+	}
+
+	/** As {@link Stream#forEach}, but taking a checked consumer. */
+	public void forEach(CheckedConsumer<? super T> action) throws E {
+		terminate(() -> {
+			stream.forEach(t -> {
+				try {
+					action.acceptChecked(t);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link Stream#forEachOrdered}, but taking a checked consumer. */
+	public void forEachOrdered(CheckedConsumer<? super T> action) throws E {
+		terminate(() -> {
+			stream.forEachOrdered(t -> {
+				try {
+					action.acceptChecked(t);
+				} catch (Exception e) {
+					throw tunnel(e);
+				}
+			});
+			return null;
+		}, exceptionClass);
+	}
+
+	/** As {@link Stream#collect}. */
+	public <R, A> R collect(Collector<? super T, A, R> collector) throws E {
+		return terminate(() -> stream.collect(collector), exceptionClass);
+	}
+
+	/** Collects the elements into a list, as {@code collect(Collectors.toList())} does. */
+	public List<T> toList() throws E {
+		return terminate(() -> stream.collect(Collectors.toList()), exceptionClass);
+	}
+
+	/** As {@link Stream#toArray}. */
+	public Object[] toArray() throws E {
+		return terminate(stream::toArray, exceptionClass);
+	}
+
+	/** As {@link Stream#toArray}. */
+	public <A> A[] toArray(IntFunction<A[]> generator) throws E {
+		return terminate(() -> stream.toArray(generator), exceptionClass);
+	}
+
+	/** As {@link Stream#reduce}, but taking a checked operator. */
+	public T reduce(T identity, CheckedBinaryOperator<T> accumulator) throws E {
+		return terminate(() -> stream.reduce(identity, (t0, t1) -> {
+			try {
+				return accumulator.applyChecked(t0, t1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#reduce}, but taking a checked operator. */
+	public Optional<T> reduce(CheckedBinaryOperator<T> accumulator) throws E {
+		return terminate(() -> stream.reduce((t0, t1) -> {
+			try {
+				return accumulator.applyChecked(t0, t1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#min}, but taking a checked comparator. */
+	public Optional<T> min(CheckedComparator<? super T> comparator) throws E {
+		return terminate(() -> stream.min((t0, t1) -> {
+			try {
+				return comparator.compareChecked(t0, t1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#max}, but taking a checked comparator. */
+	public Optional<T> max(CheckedComparator<? super T> comparator) throws E {
+		return terminate(() -> stream.max((t0, t1) -> {
+			try {
+				return comparator.compareChecked(t0, t1);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#count}. */
+	public long count() throws E {
+		return terminate(stream::count, exceptionClass);
+	}
+
+	/** As {@link Stream#anyMatch}, but taking a checked predicate. */
+	public boolean anyMatch(CheckedPredicate<? super T> predicate) throws E {
+		return terminate(() -> stream.anyMatch(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#allMatch}, but taking a checked predicate. */
+	public boolean allMatch(CheckedPredicate<? super T> predicate) throws E {
+		return terminate(() -> stream.allMatch(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#noneMatch}, but taking a checked predicate. */
+	public boolean noneMatch(CheckedPredicate<? super T> predicate) throws E {
+		return terminate(() -> stream.noneMatch(t -> {
+			try {
+				return predicate.testChecked(t);
+			} catch (Exception e) {
+				throw tunnel(e);
+			}
+		}), exceptionClass);
+	}
+
+	/** As {@link Stream#findFirst}. */
+	public Optional<T> findFirst() throws E {
+		return terminate(stream::findFirst, exceptionClass);
+	}
+
+	/** As {@link Stream#findAny}. */
+	public Optional<T> findAny() throws E {
+		return terminate(stream::findAny, exceptionClass);
+	}
+
+	@Override
+	public void close() {
+		stream.close();
+	}
+}
@@ -0,0 +1,116 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An {@link ExceptionTranslator} translating each exception by the translation registered
+ * for the nearest of its class and superclasses, for example
+ *
+ * <pre>
+ * ExceptionTranslationTable.builder()
+ *         .translating(SQLTransientException.class, RetryableException::new)
+ *         .translating(FileNotFoundException.class, NotFoundException::new)
+ *         .translating(InterruptedException.class, restoringInterrupt(RuntimeException::new))
+ *         .build();
+ * </pre>
+ *
+ * <p>The translation for each exception class is found by walking its superclasses only
+ * the first time that class is translated, and is then cached in a {@link ClassValue},
+ * so that later translations cost one lookup however deep or numerous the registered types.
+ * Exceptions for which no translation is registered are wrapped in a new
+ * {@link RuntimeException}.
+ */
+public final class ExceptionTranslationTable implements ExceptionTranslator {
+	/**
+	 * Re-throws unchecked exceptions unchanged, wraps {@link IOException} in
+	 * {@link UncheckedIOException}, restores the interrupt status of the current thread
+	 * on {@link InterruptedException} before wrapping it in {@link RuntimeException},
+	 * and wraps any other exception in {@code RuntimeException}.
+	 */
+	public static final ExceptionTranslationTable DEFAULT = builder()
+			.translating(RuntimeException.class, e -> e)
+			.translating(IOException.class, UncheckedIOException::new)
+			.translating(InterruptedException.class, restoringInterrupt(RuntimeException::new))
+			.build();
+
+	private final Map<Class<?>, Function<Exception, RuntimeException>> translationsByType;
+
+	private final ClassValue<Function<Exception, RuntimeException>> translationsByClass =
+			new ClassValue<Function<Exception, RuntimeException>>() {
+				@Override
+				protected Function<Exception, RuntimeException> computeValue(
+						Class<?> exceptionClass) {
+					for (Class<?> c = exceptionClass; c != null; c = c.getSuperclass()) {
+						Function<Exception, RuntimeException> translation =
+								translationsByType.get(c);
+						if (translation != null) {
+							return translation;
+						}
+					}
+
+					// a Builder always registers a translation for Exception
+					throw new IllegalArgumentException(String.format(
+							"%s is not an Exception", exceptionClass.getName()));
+				}
+			};
+
+	private ExceptionTranslationTable(
+			Map<Class<?>, Function<Exception, RuntimeException>> translationsByType) {
+		this.translationsByType = translationsByType;
+	}
+
+	/** A builder of a table translating every exception to a {@link RuntimeException} by default. */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Decorates a translation of {@link InterruptedException} (or of any exception)
+	 * to first restore the interrupt status of the current thread, which was cleared
+	 * when the exception was thrown, so that callers further up can still see it.
+	 */
+	public static <E extends Exception> Function<E, RuntimeException> restoringInterrupt(
+			Function<? super E, ? extends RuntimeException> translation) {
+		return e -> {
+			Thread.currentThread().interrupt();
+			return translation.apply(e);
+		};
+	}
+
+	@Override
+	public RuntimeException translate(Exception exception) {
+		return translationsByClass.get(exception.getClass()).apply(exception);
+	}
+
+	/** Registers translations by exception type. */
+	public static class Builder {
+		private final Map<Class<?>, Function<Exception, RuntimeException>> translationsByType =
+				new HashMap<>();
+
+		private Builder() {
+			translationsByType.put(Exception.class, RuntimeException::new);
+		}
+
+		/**
+		 * Registers the translation of exceptions of the given type and of its subtypes
+		 * for which no nearer translation is registered, replacing any translation
+		 * previously registered for that type.
+		 */
+		@SuppressWarnings("unchecked")
+		public <E extends Exception> Builder translating(
+				Class<E> exceptionType,
+				Function<? super E, ? extends RuntimeException> translation) {
+			translationsByType.put(exceptionType, (Function<Exception, RuntimeException>) translation);
+			return this;
+		}
+
+		/** A table of the translations registered so far. */
+		public ExceptionTranslationTable build() {
+			return new ExceptionTranslationTable(new HashMap<>(translationsByType));
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package net.johnglassmyer.uncheckers;
+
+/**
+ * Chooses the unchecked exception to be thrown in place of an exception caught by
+ * {@link TranslatingUncheckers}.
+ *
+ * @see ExceptionTranslationTable
+ */
+@FunctionalInterface
+public interface ExceptionTranslator {
+	/**
+	 * Returns (and does not throw) the unchecked exception to be thrown in place of
+	 * the given exception, which may be the given exception itself if it is unchecked.
+	 * If it returns {@code null}, a {@link RuntimeException} wrapping the given exception
+	 * is thrown instead.
+	 */
+	RuntimeException translate(Exception exception);
+}
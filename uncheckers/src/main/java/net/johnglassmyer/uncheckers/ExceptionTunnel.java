@@ -0,0 +1,44 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.function.Supplier;
+
+/**
+ * Carries a checked exception thrown by a stage of a {@link CheckedStream} (or of one of
+ * its primitive counterparts) out through the underlying stream to its terminal operation,
+ * which alone unwraps it. It captures no stack trace, that of the checked exception
+ * sufficing, so that a failing element costs one small allocation.
+ *
+ * <p>It has no public constructor, so that a fork-join pool rethrowing it from a worker of
+ * a parallel stream rethrows it unchanged rather than wrapping it in a new instance.
+ */
+final class ExceptionTunnel extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	private ExceptionTunnel(Exception cause) {
+		super(null, cause, false, false);
+	}
+
+	/** An unchecked exception to throw for the given exception thrown by a stage. */
+	static RuntimeException tunnel(Exception exception) {
+		return exception instanceof RuntimeException
+				? (RuntimeException) exception
+				: new ExceptionTunnel(exception);
+	}
+
+	/**
+	 * Runs a terminal operation, throwing any checked exception tunnelled out of the stream
+	 * as itself, if it is an {@code E}, and otherwise wrapped in a {@link RuntimeException}.
+	 */
+	static <R, E extends Exception> R terminate(Supplier<R> operation, Class<E> exceptionClass)
+			throws E {
+		try {
+			return operation.get();
+		} catch (ExceptionTunnel tunnel) {
+			Throwable cause = tunnel.getCause();
+			if (exceptionClass.isInstance(cause)) {
+				throw exceptionClass.cast(cause);
+			}
+			throw new RuntimeException(cause);
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package net.johnglassmyer.uncheckers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedges calls against tail latency: whenever a call hasn't returned within the hedging
+ * threshold, a duplicate attempt is started, up to a maximum number of attempts, and the
+ * first attempt to succeed provides the result while the others are cancelled (and their
+ * threads interrupted). Attempts run on the default executor of {@link AsyncCalls},
+ * on virtual threads where available, so that waiting attempts take no platform threads.
+ *
+ * <p>The threshold is either fixed or derived from a percentile of the latencies of
+ * recently succeeding attempts, recorded in a lock-free histogram with buckets about 19%
+ * wide. Counters of calls, of calls hedged, and of hedged calls won by a later attempt
+ * allow the hedge rate and the win rate to be monitored.
+ *
+ * <p>Hedging is not retrying: if every attempt started fails, the call throws the first
+ * failure, even if fewer than the maximum number of attempts were started. Only calls
+ * that are safe to duplicate, such as reads, should be hedged.
+ *
+ * @see IoUncheckers#hedgeIoSupplier(IoUncheckers.CheckedIoSupplier, Hedger)
+ */
+public final class Hedger {
+	/** A call that may be hedged, throwing a checked exception of type {@code E}. */
+	@FunctionalInterface
+	public interface CheckedCall<T, E extends Exception> {
+		/** Makes the call, as one of possibly several attempts. */
+		T call() throws E;
+	}
+
+	private static final int MIN_SAMPLES = 100;
+	private static final int SAMPLES_PER_RECOMPUTATION = 64;
+	private static final long SAMPLES_PER_WINDOW = 10_000;
+
+	private final int maxAttempts;
+	private final ExecutorService executor;
+	/** The percentile from which to derive the threshold, or {@code NaN} if fixed. */
+	private final double percentile;
+	private final LatencyHistogram latencyHistogram;
+	private final LongAdder sampleCount = new LongAdder();
+	/**
+	 * The sample count at which to next recompute the threshold, or {@link Long#MAX_VALUE}
+	 * while a thread that has claimed the recomputation by swapping it in is recomputing.
+	 */
+	private final AtomicLong nextRecomputationSamples = new AtomicLong(MIN_SAMPLES);
+	private volatile long hedgeAfterNanos;
+
+	private final LongAdder callCount = new LongAdder();
+	private final LongAdder hedgedCallCount = new LongAdder();
+	private final LongAdder hedgeWinCount = new LongAdder();
+
+	private Hedger(
+			long hedgeAfterNanos, int maxAttempts, double percentile, ExecutorService executor) {
+		if (hedgeAfterNanos < 0) {
+			throw new IllegalArgumentException("the hedging threshold must not be negative");
+		}
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException(String.format(
+					"maxAttempts must be positive but is %d", maxAttempts));
+		}
+
+		this.hedgeAfterNanos = hedgeAfterNanos;
+		this.maxAttempts = maxAttempts;
+		this.percentile = percentile;
+		this.executor = executor;
+		this.latencyHistogram = Double.isNaN(percentile)
+				? null
+				: new LatencyHistogram();
+	}
+
+	/** Hedges each call not returned within {@code hedgeAfter} of the previous attempt. */
+	public static Hedger fixed(Duration hedgeAfter, int maxAttempts) {
+		return new Hedger(
+				hedgeAfter.toNanos(), maxAttempts, Double.NaN, AsyncCalls.defaultExecutorService());
+	}
+
+	/**
+	 * Hedges each call not returned within the given percentile (such as {@code 95.0})
+	 * of the latencies of recently succeeding attempts, or within {@code initialHedgeAfter}
+	 * until enough latencies have been observed.
+	 */
+	public static Hedger adaptive(double percentile, Duration initialHedgeAfter, int maxAttempts) {
+		if (!(percentile > 0 && percentile < 100)) {
+			throw new IllegalArgumentException(String.format(
+					"percentile must be between 0 and 100 but is %s", percentile));
+		}
+
+		return new Hedger(
+				initialHedgeAfter.toNanos(),
+				maxAttempts,
+				percentile,
+				AsyncCalls.defaultExecutorService());
+	}
+
+	/**
+	 * Calls the given call, hedging it as necessary, and returns the first result or throws
+	 * the first failure (unwrapped) of its attempts. If interrupted while waiting, cancels
+	 * the attempts, restores the interrupt status, and throws {@link CancellationException}.
+	 */
+	public <T, E extends Exception> T call(CheckedCall<T, E> call) throws E {
+		callCount.increment();
+
+		CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+		List<Future<T>> attempts = new ArrayList<>(maxAttempts);
+		attempts.add(completionService.submit(() -> attempt(call)));
+		int pendingCount = 1;
+		Throwable firstFailure = null;
+
+		long nextHedgeNanos = System.nanoTime() + hedgeAfterNanos;
+		try {
+			while (true) {
+				Future<T> completed;
+				if (attempts.size() < maxAttempts) {
+					completed = completionService.poll(
+							nextHedgeNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (completed == null) {
+						if (attempts.size() == 1) {
+							hedgedCallCount.increment();
+						}
+						attempts.add(completionService.submit(() -> attempt(call)));
+						pendingCount++;
+						nextHedgeNanos = System.nanoTime() + hedgeAfterNanos;
+						continue;
+					}
+				} else {
+					completed = completionService.take();
+				}
+				pendingCount--;
+
+				try {
+					T value = completed.get();
+					if (completed != attempts.get(0)) {
+						hedgeWinCount.increment();
+					}
+					return value;
+				} catch (ExecutionException e) {
+					if (firstFailure == null) {
+						firstFailure = e.getCause();
+					}
+					if (pendingCount == 0) {
+						throw Hedger.<E>rethrow(firstFailure);
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("interrupted while waiting for a hedged call");
+		} finally {
+			for (Future<T> attempt : attempts) {
+				attempt.cancel(true);
+			}
+		}
+	}
+
+	private <T, E extends Exception> T attempt(CheckedCall<T, E> call) throws E {
+		long startNanos = System.nanoTime();
+		T value = call.call();
+		if (latencyHistogram != null) {
+			recordLatency(System.nanoTime() - startNanos);
+		}
+		return value;
+	}
+
+	/** Throws a failure thrown by a {@code CheckedCall<?, E>}, as it must be unchecked or E. */
+	@SuppressWarnings("unchecked")
+	private static <E extends Exception> RuntimeException rethrow(Throwable failure) throws E {
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		}
+		throw (E) failure;
+	}
+
+	private void recordLatency(long nanos) {
+		latencyHistogram.record(nanos);
+		sampleCount.increment();
+
+		long samples = sampleCount.sum();
+		long nextRecomputation = nextRecomputationSamples.get();
+		// claimed by exactly one thread, so that the histogram is decayed once per window
+		if (samples >= nextRecomputation
+				&& nextRecomputationSamples.compareAndSet(nextRecomputation, Long.MAX_VALUE)) {
+			hedgeAfterNanos = latencyHistogram.percentileNanos(percentile);
+
+			// let older latencies fade, so that the threshold follows changes in latency
+			if (samples >= SAMPLES_PER_WINDOW) {
+				latencyHistogram.decay();
+				sampleCount.add(-samples / 2);
+				samples -= samples / 2;
+			}
+			nextRecomputationSamples.set(samples + SAMPLES_PER_RECOMPUTATION);
+		}
+	}
+
+	/** The current hedging threshold. */
+	public Duration getHedgeAfter() {
+		return Duration.ofNanos(hedgeAfterNanos);
+	}
+
+	/** The number of calls made through this hedger. */
+	public long getCallCount() {
+		return callCount.sum();
+	}
+
+	/** The number of calls for which at least one duplicate attempt was started. */
+	public long getHedgedCallCount() {
+		return hedgedCallCount.sum();
+	}
+
+	/** The number of hedged calls whose result came from a duplicate attempt. */
+	public long getHedgeWinCount() {
+		return hedgeWinCount.sum();
+	}
+
+	/** The fraction of calls that were hedged. */
+	public double getHedgeRate() {
+		long calls = getCallCount();
+		return calls == 0 ? 0 : (double) getHedgedCallCount() / calls;
+	}
+
+	/** The fraction of hedged calls whose result came from a duplicate attempt. */
+	public double getWinRate() {
+		long hedgedCalls = getHedgedCallCount();
+		return hedgedCalls == 0 ? 0 : (double) getHedgeWinCount() / hedgedCalls;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"Hedger[hedgeAfter=%s, maxAttempts=%d, calls=%d, hedgeRate=%.4f, winRate=%.4f]",
+				getHedgeAfter(), maxAttempts, getCallCount(), getHedgeRate(), getWinRate());
+	}
+}
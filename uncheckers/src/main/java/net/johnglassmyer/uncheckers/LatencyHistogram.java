@@ -0,0 +1,84 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds, with logarithmic buckets each about
+ * 19% wide, so that recording is one increment whatever the latency. Each bucket is a
+ * striped {@link LongAdder}, so that threads recording similar latencies at once
+ * don't contend on one cache line.
+ */
+final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int BUCKET_COUNT = 64 << SUB_BUCKET_BITS;
+
+	private final LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+
+	LatencyHistogram() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	void record(long nanos) {
+		counts[bucketOf(nanos)].increment();
+	}
+
+	/**
+	 * The upper bound of the bucket holding the given percentile (such as {@code 99.9})
+	 * of the latencies recorded, or 0 if none have been.
+	 */
+	long percentileNanos(double percentile) {
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			total += counts[i].sum();
+		}
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += counts[i].sum();
+			if (seen >= rank) {
+				return upperBoundOf(i);
+			}
+		}
+		return upperBoundOf(BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Halves every count (approximately, if latencies are being recorded meanwhile),
+	 * so that older latencies weigh less than newer ones.
+	 */
+	void decay() {
+		for (LongAdder count : counts) {
+			count.add(-(count.sum() / 2));
+		}
+	}
+
+	/**
+	 * The bucket of a latency: the position of its highest set bit,
+	 * refined by the {@value #SUB_BUCKET_BITS} bits below it.
+	 */
+	static int bucketOf(long nanos) {
+		if (nanos < (1 << SUB_BUCKET_BITS)) {
+			return (int) Math.max(nanos, 0);
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+		int subBucket = (int) (nanos >>> shift) & ((1 << SUB_BUCKET_BITS) - 1);
+		return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+	}
+
+	static long upperBoundOf(int bucket) {
+		if (bucket < (1 << SUB_BUCKET_BITS)) {
+			return bucket;
+		}
+
+		int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+		long subBucket = (bucket & ((1 << SUB_BUCKET_BITS) - 1)) | (1 << SUB_BUCKET_BITS);
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,89 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
+
+import net.johnglassmyer.uncheckers.BatchWriter.ArrayStripe;
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoConsumer;
+
+/**
+ * A {@code long} counterpart of {@link BatchingConsumer}, gathering the values it accepts
+ * into arrays for a bulk sink, without boxing them. Each batch is a new array, holding
+ * exactly the values of the batch, which the sink may keep. Buffers are allocated small
+ * and grown as values are added, so that a large {@code maxBatchSize} costs memory only
+ * once batches that large are filled.
+ */
+public final class LongBatchingConsumer implements LongConsumer, AutoCloseable {
+	private final ArrayStripe<long[]>[] stripes;
+	private final BatchWriter<long[]> writer;
+
+	@SuppressWarnings("unchecked")
+	private LongBatchingConsumer(
+			CheckedIoConsumer<? super long[]> sink,
+			int maxBatchSize,
+			Duration maxLinger,
+			Executor executor) {
+		BatchWriter.checkMaxBatchSize(maxBatchSize);
+
+		this.stripes = new ArrayStripe[BatchWriter.stripeCount()];
+		for (int i = 0; i < stripes.length; i++) {
+			stripes[i] = new ArrayStripe<>(maxBatchSize, long[]::new);
+		}
+		this.writer = new BatchWriter<>(sink, stripes, maxLinger, executor);
+	}
+
+	/** Writes batches of up to {@code maxBatchSize} values to the sink. */
+	public static LongBatchingConsumer of(CheckedIoConsumer<? super long[]> sink, int maxBatchSize) {
+		return new LongBatchingConsumer(sink, maxBatchSize, null, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Writes batches of up to {@code maxBatchSize} values to the sink, and each partial
+	 * batch within {@code maxLinger}.
+	 */
+	public static LongBatchingConsumer of(
+			CheckedIoConsumer<? super long[]> sink, int maxBatchSize, Duration maxLinger) {
+		return new LongBatchingConsumer(sink, maxBatchSize, maxLinger, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Writes batches of up to {@code maxBatchSize} values to the sink, and each partial
+	 * batch within {@code maxLinger} (unless {@code null}), on the given executor.
+	 */
+	public static LongBatchingConsumer of(
+			CheckedIoConsumer<? super long[]> sink,
+			int maxBatchSize,
+			Duration maxLinger,
+			Executor executor) {
+		return new LongBatchingConsumer(sink, maxBatchSize, maxLinger, executor);
+	}
+
+	@Override
+	public void accept(long value) {
+		writer.checkOpen();
+
+		int count;
+		ArrayStripe<long[]> stripe = stripes[BatchWriter.stripeIndex(stripes.length)];
+		synchronized (stripe) {
+			stripe.reserve()[stripe.count()] = value;
+			count = stripe.added();
+		}
+
+		if (count == 1) {
+			writer.bufferedFirst();
+		} else if (count == 0) {
+			writer.writeHandedOver(stripe);
+		}
+	}
+
+	/**
+	 * Writes the partial batches, throwing {@link UncheckedIOException} if writing any of
+	 * them, or a batch written on expiry of the linger time since the last call, failed.
+	 */
+	@Override
+	public void close() {
+		writer.close();
+	}
+}
@@ -0,0 +1,227 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoFunction;
+
+/**
+ * Static helper methods which stream the delimited records of a file, memory-mapped rather
+ * than read onto the heap, through a checked parser, so that files of many gigabytes can be
+ * parsed by every core with heap use independent of the size of the file.
+ *
+ * <p>Each record is handed to the parser as a read-only {@link ByteBuffer} sliced from the
+ * mapping, without copying, and without its delimiter. A parser which keeps the slice keeps
+ * its whole region mapped, so should rather keep whatever it decodes from it. An
+ * {@link IOException} thrown by the parser is wrapped and re-thrown in a new
+ * {@link java.io.UncheckedIOException UncheckedIOException}, as by {@link IoUncheckers}.
+ *
+ * <p>The file is mapped in regions of at most a gigabyte, each ending on a record boundary,
+ * and the stream splits first between regions and then at the first record boundary after
+ * the midpoint of a region, so that a parallel stream divides the file evenly by bytes
+ * whatever the lengths of its records. No record may be longer than a region.
+ *
+ * <p>The file must not be truncated while it is streamed; reading a page that no longer
+ * exists is reported by the JVM as an {@link InternalError}.
+ */
+public final class MappedRecords {
+	private static final int MAX_REGION_SIZE = 1 << 30;
+	private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+	private MappedRecords() {}
+
+	/**
+	 * Streams the lines of a file, as delimited by {@code '\n'} or {@code "\r\n"}, through a
+	 * parser, each without its line terminator.
+	 */
+	public static <T> Stream<T> lines(Path path, CheckedIoFunction<ByteBuffer, ? extends T> parser)
+			throws IOException {
+		return stream(path, (byte) '\n', true, parser);
+	}
+
+	/**
+	 * Streams the records of a file through a parser, each record ending at the delimiter or
+	 * at the end of the file. A delimiter at the end of the file ends the last record, rather
+	 * than beginning an empty one.
+	 */
+	public static <T> Stream<T> stream(
+			Path path, byte delimiter, CheckedIoFunction<ByteBuffer, ? extends T> parser)
+			throws IOException {
+		return stream(path, delimiter, false, parser);
+	}
+
+	private static <T> Stream<T> stream(
+			Path path,
+			byte delimiter,
+			boolean stripsCarriageReturns,
+			CheckedIoFunction<ByteBuffer, ? extends T> parser)
+			throws IOException {
+		List<ByteBuffer> regions = mapRegions(path, delimiter);
+		return StreamSupport.stream(new RecordSpliterator<>(
+				regions.toArray(new ByteBuffer[0]), delimiter, stripsCarriageReturns, parser), false);
+	}
+
+	private static List<ByteBuffer> mapRegions(Path path, byte delimiter) throws IOException {
+		List<ByteBuffer> regions = new ArrayList<>();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long start = 0;
+			while (start < size) {
+				long length = Math.min(size - start, MAX_REGION_SIZE);
+				MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+				if (start + length < size) {
+					int lastDelimiter = lastIndexOf(region, delimiter);
+					if (lastDelimiter < 0) {
+						throw new IOException(String.format(
+								"no record boundary in %d bytes at offset %d of %s",
+								length, start, path));
+					}
+					region.limit(lastDelimiter + 1);
+				}
+				regions.add(region);
+				start += region.limit();
+			}
+		}
+		return regions;
+	}
+
+	private static int lastIndexOf(ByteBuffer buffer, byte b) {
+		for (int i = buffer.limit() - 1; i >= 0; i--) {
+			if (buffer.get(i) == b) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOf(ByteBuffer buffer, byte b, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buffer.get(i) == b) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Splits the records of regions {@code region} to {@code lastRegion}, from
+	 * {@code position} in the first to {@code limit} in the last, each region ending on a
+	 * record boundary.
+	 */
+	private static final class RecordSpliterator<T> implements Spliterator<T> {
+		private final ByteBuffer[] regions;
+		private final byte delimiter;
+		/** Whether a {@code '\r'} ending a record is left out of it, as part of a CRLF. */
+		private final boolean stripsCarriageReturns;
+		private final CheckedIoFunction<ByteBuffer, ? extends T> parser;
+		private int region;
+		private int position;
+		private final int lastRegion;
+		private final int limit;
+
+		RecordSpliterator(
+				ByteBuffer[] regions,
+				byte delimiter,
+				boolean stripsCarriageReturns,
+				CheckedIoFunction<ByteBuffer, ? extends T> parser) {
+			this(regions, delimiter, stripsCarriageReturns, parser, 0, 0, regions.length - 1,
+					regions.length == 0 ? 0 : regions[regions.length - 1].limit());
+		}
+
+		private RecordSpliterator(
+				ByteBuffer[] regions,
+				byte delimiter,
+				boolean stripsCarriageReturns,
+				CheckedIoFunction<ByteBuffer, ? extends T> parser,
+				int region, int position, int lastRegion, int limit) {
+			this.regions = regions;
+			this.delimiter = delimiter;
+			this.stripsCarriageReturns = stripsCarriageReturns;
+			this.parser = parser;
+			this.region = region;
+			this.position = position;
+			this.lastRegion = lastRegion;
+			this.limit = limit;
+		}
+
+		private int end(int r) {
+			return r == lastRegion ? limit : regions[r].limit();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			while (region <= lastRegion) {
+				ByteBuffer buffer = regions[region];
+				int end = end(region);
+				if (position >= end) {
+					region++;
+					position = 0;
+					continue;
+				}
+				int delimiterIndex = indexOf(buffer, delimiter, position, end);
+				int recordEnd = delimiterIndex < 0 ? end : delimiterIndex;
+				int contentEnd = stripsCarriageReturns
+						&& recordEnd > position
+						&& buffer.get(recordEnd - 1) == '\r'
+								? recordEnd - 1
+								: recordEnd;
+				ByteBuffer record = buffer.duplicate().limit(contentEnd).position(position).slice();
+				position = recordEnd + 1;
+				action.accept(parser.apply(record));
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			if (region < lastRegion) {
+				int mid = region + (lastRegion - region + 1) / 2;
+				Spliterator<T> prefix = new RecordSpliterator<>(
+						regions, delimiter, stripsCarriageReturns, parser,
+						region, position, mid - 1, regions[mid - 1].limit());
+				region = mid;
+				position = 0;
+				return prefix;
+			}
+			if (region > lastRegion || limit - position < MIN_SPLIT_SIZE) {
+				return null;
+			}
+			int delimiterIndex = indexOf(
+					regions[region], delimiter, position + (limit - position) / 2, limit);
+			if (delimiterIndex < 0) {
+				return null;
+			}
+			Spliterator<T> prefix = new RecordSpliterator<>(
+					regions, delimiter, stripsCarriageReturns, parser,
+					region, position, region, delimiterIndex + 1);
+			position = delimiterIndex + 1;
+			return prefix;
+		}
+
+		/** The number of bytes remaining, an upper bound on the number of records. */
+		@Override
+		public long estimateSize() {
+			long size = 0;
+			for (int r = region; r <= lastRegion; r++) {
+				size += end(r) - (r == region ? position : 0);
+			}
+			return size;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED;
+		}
+	}
+}
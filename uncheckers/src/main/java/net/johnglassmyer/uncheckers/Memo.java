@@ -0,0 +1,106 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.function.Supplier;
+
+/**
+ * The outcome of a computation done at most once, however many threads ask for it at the
+ * same time: the first to ask computes it, holding the memo's lock, while the others wait
+ * for the lock and then find the outcome. Once computed, the outcome is read without
+ * locking, from a volatile field.
+ *
+ * <p>A failure, being a {@link RuntimeException} or an {@link Error}, is an outcome too,
+ * rethrown to every thread asking for it, unless the memo retries failures, in which case
+ * it is thrown only to the thread whose computation failed, and the next thread to ask
+ * computes again.
+ */
+final class Memo<V> {
+	/** The outcome of a computation returning {@code null}. */
+	private static final Object NULL = new Object();
+
+	private static final class Failure {
+		final Throwable throwable;
+
+		Failure(Throwable throwable) {
+			this.throwable = throwable;
+		}
+	}
+
+	private final boolean retriesFailure;
+	/** How long an outcome lasts once computed, or 0 if it lasts for ever. */
+	private final long timeToLiveNanos;
+	/** When the outcome expires, by {@link System#nanoTime()}, if it does. */
+	private long expiresAtNanos;
+	/** {@code null} until computed; then the value, {@link #NULL}, or a {@link Failure}. */
+	private volatile Object outcome;
+
+	Memo(boolean retriesFailure, long timeToLiveNanos) {
+		this.retriesFailure = retriesFailure;
+		this.timeToLiveNanos = timeToLiveNanos;
+	}
+
+	boolean isComputed() {
+		return outcome != null;
+	}
+
+	/** Whether the outcome has been computed and is a failure. */
+	boolean hasFailed() {
+		return outcome instanceof Failure;
+	}
+
+	/** Whether the outcome has been computed and has expired by the given time. */
+	boolean hasExpired(long nanoTime) {
+		return timeToLiveNanos > 0 && outcome != null && nanoTime - expiresAtNanos >= 0;
+	}
+
+	/**
+	 * The value computed, computing it now by the given computation if it hasn't been.
+	 * Callers may avoid allocating the computation once it has been by calling
+	 * {@link #isComputed()} and then {@link #get()}.
+	 */
+	V get(Supplier<? extends V> computation) {
+		Object outcome = this.outcome;
+		if (outcome == null) {
+			outcome = compute(computation);
+		}
+		return valueOf(outcome);
+	}
+
+	/** The value computed, which must have been. */
+	V get() {
+		return valueOf(outcome);
+	}
+
+	private synchronized Object compute(Supplier<? extends V> computation) {
+		Object outcome = this.outcome;
+		if (outcome != null) {
+			return outcome;
+		}
+
+		try {
+			V value = computation.get();
+			outcome = value == null ? NULL : value;
+		} catch (RuntimeException | Error e) {
+			if (retriesFailure) {
+				throw e;
+			}
+			outcome = new Failure(e);
+		}
+		if (timeToLiveNanos > 0) {
+			expiresAtNanos = System.nanoTime() + timeToLiveNanos;
+		}
+		this.outcome = outcome;
+		return outcome;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V valueOf(Object outcome) {
+		if (outcome instanceof Failure) {
+			Throwable throwable = ((Failure) outcome).throwable;
+			if (throwable instanceof Error) {
+				throw (Error) throwable;
+			}
+			throw (RuntimeException) throwable;
+		}
+		return outcome == NULL ? null : (V) outcome;
+	}
+}
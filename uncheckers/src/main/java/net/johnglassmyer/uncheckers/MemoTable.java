@@ -0,0 +1,253 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.Objects;
+
+/**
+ * A bounded concurrent table of {@link Memo Memos}, keyed by objects or by {@code long}s,
+ * which are never boxed. The table is split into segments, each an open-addressed hash
+ * table locked only while finding, adding, or removing a memo, never while a memo is
+ * computed, so that computing the value of one key blocks no other.
+ *
+ * <p>When a segment is full, it evicts a memo chosen by the CLOCK algorithm, an
+ * approximation of evicting the least recently used: a hand sweeps the segment's slots,
+ * giving each memo used since the hand last passed a second chance, and evicting the first
+ * memo not used since. Expired memos are replaced when found, and evicted first when
+ * swept.
+ */
+final class MemoTable<V> {
+	private static final int MAX_SEGMENT_COUNT = 256;
+	/**
+	 * The least number of memos in each segment, if there is more than one, so that keys
+	 * hashing unevenly to segments, each bounded separately, evict little before the table
+	 * holds its maximum size.
+	 */
+	private static final int MIN_SEGMENT_SIZE = 64;
+
+	private final Segment<V>[] segments;
+
+	@SuppressWarnings("unchecked")
+	MemoTable(int maximumSize, long timeToLiveNanos, boolean hasLongKeys) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException(String.format(
+					"maximumSize must be positive but is %d", maximumSize));
+		}
+
+		int segmentCount = Math.min(
+				Math.min(
+						MAX_SEGMENT_COUNT,
+						Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4)),
+				Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+		segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			int segmentSize = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+			segments[i] = new Segment<>(segmentSize, timeToLiveNanos, hasLongKeys);
+		}
+	}
+
+	/** The memo of the key, added if there was none or it had expired. */
+	Memo<V> memo(long key) {
+		int hash = spread(Long.hashCode(key));
+		return segmentFor(hash).memo(key, null, hash);
+	}
+
+	/** The memo of the key, added if there was none or it had expired. */
+	Memo<V> memo(Object key) {
+		int hash = spread(Objects.hashCode(key));
+		return segmentFor(hash).memo(0, key, hash);
+	}
+
+	/** Removes the memo of the key, if it is the given one. */
+	void forget(long key, Memo<V> memo) {
+		int hash = spread(Long.hashCode(key));
+		segmentFor(hash).forget(key, null, hash, memo);
+	}
+
+	/** Removes the memo of the key, if it is the given one. */
+	void forget(Object key, Memo<V> memo) {
+		int hash = spread(Objects.hashCode(key));
+		segmentFor(hash).forget(0, key, hash, memo);
+	}
+
+	private Segment<V> segmentFor(int hash) {
+		return segments[(hash >>> 24) & (segments.length - 1)];
+	}
+
+	/** The finalizer of MurmurHash3, so that keys like consecutive integers spread out. */
+	private static int spread(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	/**
+	 * A table with linear probing, kept at most half full, growing as needed up to the
+	 * capacity for its maximum size, and removing by shifting later memos of the same
+	 * probe sequence back, so that no tombstones accumulate.
+	 */
+	private static final class Segment<V> {
+		private static final int INITIAL_CAPACITY = 8;
+
+		private final int maximumSize;
+		private final long timeToLiveNanos;
+		private final boolean hasLongKeys;
+
+		private long[] longKeys;
+		private Object[] objectKeys;
+		private int[] hashes;
+		private Memo<V>[] memos;
+		/** Whether each memo has been used since the hand last passed it. */
+		private boolean[] referenced;
+		private int size;
+		private int hand;
+
+		Segment(int maximumSize, long timeToLiveNanos, boolean hasLongKeys) {
+			this.maximumSize = maximumSize;
+			this.timeToLiveNanos = timeToLiveNanos;
+			this.hasLongKeys = hasLongKeys;
+			allocate(Math.min(INITIAL_CAPACITY, capacityFor(maximumSize)));
+		}
+
+		synchronized Memo<V> memo(long longKey, Object objectKey, int hash) {
+			int i = indexOf(longKey, objectKey, hash);
+			if (i >= 0) {
+				if (!hasExpired(memos[i])) {
+					referenced[i] = true;
+					return memos[i];
+				}
+				removeAt(i);
+			}
+
+			if (size == maximumSize) {
+				evict();
+			} else if (2 * (size + 1) > memos.length) {
+				grow();
+			}
+
+			Memo<V> memo = new Memo<>(false, timeToLiveNanos);
+			int j = hash & (memos.length - 1);
+			while (memos[j] != null) {
+				j = (j + 1) & (memos.length - 1);
+			}
+			put(j, longKey, objectKey, hash, memo, false);
+			size++;
+			return memo;
+		}
+
+		synchronized void forget(long longKey, Object objectKey, int hash, Memo<V> memo) {
+			int i = indexOf(longKey, objectKey, hash);
+			if (i >= 0 && memos[i] == memo) {
+				removeAt(i);
+			}
+		}
+
+		private int indexOf(long longKey, Object objectKey, int hash) {
+			int mask = memos.length - 1;
+			for (int i = hash & mask; memos[i] != null; i = (i + 1) & mask) {
+				if (hashes[i] == hash && (hasLongKeys
+						? longKeys[i] == longKey
+						: Objects.equals(objectKeys[i], objectKey))) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private boolean hasExpired(Memo<V> memo) {
+			return timeToLiveNanos > 0 && memo.hasExpired(System.nanoTime());
+		}
+
+		/** Removes one memo, the segment being full and so not empty. */
+		private void evict() {
+			int mask = memos.length - 1;
+			while (true) {
+				hand = (hand + 1) & mask;
+				if (memos[hand] == null) {
+					continue;
+				}
+				if (referenced[hand] && !hasExpired(memos[hand])) {
+					referenced[hand] = false;
+				} else {
+					removeAt(hand);
+					return;
+				}
+			}
+		}
+
+		private void removeAt(int i) {
+			int mask = memos.length - 1;
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (memos[j] == null) {
+					break;
+				}
+				// moves the memo at j back to i unless its home slot lies cyclically in (i, j]
+				int home = hashes[j] & mask;
+				boolean staysPut = i <= j
+						? i < home && home <= j
+						: i < home || home <= j;
+				if (!staysPut) {
+					put(i, hasLongKeys ? longKeys[j] : 0, hasLongKeys ? null : objectKeys[j],
+							hashes[j], memos[j], referenced[j]);
+					i = j;
+				}
+			}
+			put(i, 0, null, 0, null, false);
+			size--;
+		}
+
+		private void grow() {
+			long[] oldLongKeys = longKeys;
+			Object[] oldObjectKeys = objectKeys;
+			int[] oldHashes = hashes;
+			Memo<V>[] oldMemos = memos;
+			boolean[] oldReferenced = referenced;
+
+			allocate(Math.min(2 * oldMemos.length, capacityFor(maximumSize)));
+			int mask = memos.length - 1;
+			for (int i = 0; i < oldMemos.length; i++) {
+				if (oldMemos[i] != null) {
+					int j = oldHashes[i] & mask;
+					while (memos[j] != null) {
+						j = (j + 1) & mask;
+					}
+					put(j, hasLongKeys ? oldLongKeys[i] : 0, hasLongKeys ? null : oldObjectKeys[i],
+							oldHashes[i], oldMemos[i], oldReferenced[i]);
+				}
+			}
+			hand = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void allocate(int capacity) {
+			if (hasLongKeys) {
+				longKeys = new long[capacity];
+			} else {
+				objectKeys = new Object[capacity];
+			}
+			hashes = new int[capacity];
+			memos = new Memo[capacity];
+			referenced = new boolean[capacity];
+		}
+
+		private void put(
+				int i, long longKey, Object objectKey, int hash, Memo<V> memo, boolean isReferenced) {
+			if (hasLongKeys) {
+				longKeys[i] = longKey;
+			} else {
+				objectKeys[i] = objectKey;
+			}
+			hashes[i] = hash;
+			memos[i] = memo;
+			referenced[i] = isReferenced;
+		}
+
+		/** The least power of two at least twice the given size. */
+		private static int capacityFor(int maximumSize) {
+			return Integer.highestOneBit(Math.max(1, 2 * maximumSize - 1)) << 1;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package net.johnglassmyer.uncheckers;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Static helper methods which decorate functions to remember their results, for repeated
+ * expensive calls with the same arguments, such as parsing the same configuration files,
+ * and suppliers to compute their results only once.
+ *
+ * <p>A memoized function keeps the results of at most {@code maximumSize} arguments,
+ * evicting those least recently used (approximately, and within each of the segments into
+ * which large tables are split) to make room for more, and, given a
+ * time to live, forgets each result that long after computing it. However many threads
+ * ask for the result of the same argument at the same time, it is computed once, by the
+ * first, while the others wait for it. A failure is thrown to every thread waiting for
+ * it, but not remembered, so that the next call with the same argument computes again.
+ * The results of {@code int} and {@code long} arguments are kept without boxing them.
+ *
+ * <p>Memoizing makes sense only for functions whose results depend on nothing but their
+ * arguments, at least for the time to live.
+ *
+ * @see IoUncheckers#memoizeIoFunction(IoUncheckers.CheckedIoFunction, int, Duration)
+ * @see IoUncheckers#lazyIoSupplier(IoUncheckers.CheckedIoSupplier, boolean)
+ */
+public final class Memoizers {
+	private Memoizers() {}
+
+	/**
+	 * Decorates the function to remember the results of up to {@code maximumSize} recently
+	 * used arguments, each for {@code timeToLive} (unless {@code null}).
+	 */
+	public static <T, R> Function<T, R> memoizeFunction(
+			Function<T, R> function, int maximumSize, Duration timeToLive) {
+		return new MemoizedFunction<>(
+				function, new MemoTable<>(maximumSize, nanosOf(timeToLive), false));
+	}
+
+	/**
+	 * Decorates the function to remember the results of up to {@code maximumSize} recently
+	 * used arguments, each for {@code timeToLive} (unless {@code null}).
+	 */
+	public static <R> IntFunction<R> memoizeIntFunction(
+			IntFunction<R> function, int maximumSize, Duration timeToLive) {
+		return new MemoizedIntFunction<>(
+				function, new MemoTable<>(maximumSize, nanosOf(timeToLive), true));
+	}
+
+	/**
+	 * Decorates the function to remember the results of up to {@code maximumSize} recently
+	 * used arguments, each for {@code timeToLive} (unless {@code null}).
+	 */
+	public static <R> LongFunction<R> memoizeLongFunction(
+			LongFunction<R> function, int maximumSize, Duration timeToLive) {
+		return new MemoizedLongFunction<>(
+				function, new MemoTable<>(maximumSize, nanosOf(timeToLive), true));
+	}
+
+	/**
+	 * Decorates the supplier to be called at most once, on the first call of the
+	 * decorator, with other threads calling meanwhile waiting for its result, and later
+	 * calls reading the result without locking. A failure is rethrown by every later call,
+	 * unless {@code retriesFailure}, in which case the next call calls the supplier again.
+	 */
+	public static <T> Supplier<T> lazySupplier(Supplier<T> supplier, boolean retriesFailure) {
+		return new LazySupplier<>(supplier, new Memo<>(retriesFailure, 0));
+	}
+
+	private static long nanosOf(Duration timeToLive) {
+		if (timeToLive == null) {
+			return 0;
+		}
+		if (timeToLive.isNegative() || timeToLive.isZero()) {
+			throw new IllegalArgumentException(String.format(
+					"timeToLive must be positive but is %s", timeToLive));
+		}
+		return timeToLive.toNanos();
+	}
+
+	private static final class MemoizedFunction<T, R> implements Function<T, R> {
+		private final Function<T, R> function;
+		private final MemoTable<R> table;
+
+		MemoizedFunction(Function<T, R> function, MemoTable<R> table) {
+			this.function = function;
+			this.table = table;
+		}
+
+		@Override
+		public R apply(T t) {
+			Memo<R> memo = table.memo(t);
+			try {
+				return memo.isComputed() ? memo.get() : memo.get(() -> function.apply(t));
+			} catch (RuntimeException | Error e) {
+				table.forget(t, memo);
+				throw e;
+			}
+		}
+	}
+
+	private static final class MemoizedIntFunction<R> implements IntFunction<R> {
+		private final IntFunction<R> function;
+		private final MemoTable<R> table;
+
+		MemoizedIntFunction(IntFunction<R> function, MemoTable<R> table) {
+			this.function = function;
+			this.table = table;
+		}
+
+		@Override
+		public R apply(int i) {
+			Memo<R> memo = table.memo(i);
+			try {
+				return memo.isComputed() ? memo.get() : memo.get(() -> function.apply(i));
+			} catch (RuntimeException | Error e) {
+				table.forget(i, memo);
+				throw e;
+			}
+		}
+	}
+
+	private static final class MemoizedLongFunction<R> implements LongFunction<R> {
+		private final LongFunction<R> function;
+		private final MemoTable<R> table;
+
+		MemoizedLongFunction(LongFunction<R> function, MemoTable<R> table) {
+			this.function = function;
+			this.table = table;
+		}
+
+		@Override
+		public R apply(long l) {
+			Memo<R> memo = table.memo(l);
+			try {
+				return memo.isComputed() ? memo.get() : memo.get(() -> function.apply(l));
+			} catch (RuntimeException | Error e) {
+				table.forget(l, memo);
+				throw e;
+			}
+		}
+	}
+
+	private static final class LazySupplier<T> implements Supplier<T> {
+		private final Supplier<T> supplier;
+		private final Memo<T> memo;
+
+		LazySupplier(Supplier<T> supplier, Memo<T> memo) {
+			this.supplier = supplier;
+			this.memo = memo;
+		}
+
+		@Override
+		public T get() {
+			return memo.isComputed() ? memo.get() : memo.get(supplier);
+		}
+	}
+}
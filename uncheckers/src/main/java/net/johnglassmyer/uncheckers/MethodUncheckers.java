@@ -0,0 +1,259 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Static helper methods which view reflected methods and constructors as functional
+ * interfaces, so that they can be called without handling
+ * {@link ReflectiveOperationException}, and much faster than through
+ * {@link Method#invoke} or {@link Constructor#newInstance}.
+ *
+ * <p>Each view is a lambda spun by {@link LambdaMetafactory}, calling the method or
+ * constructor directly, and so is inlined like any other lambda. Since no arguments are
+ * captured, each view is created once and cached, keyed on its method or constructor;
+ * finding a view in the cache costs far less than creating it, but far more than calling it,
+ * so views called repeatedly are best held rather than requested for every call.
+ *
+ * <p>Spinning a lambda requires full privilege access in the declaring class, which this
+ * class cannot have in classes of another module, named or unnamed, such as classes loaded
+ * by another class loader for plugins or web applications. Members of such classes are
+ * viewed instead through {@link MethodHandleProxies#asInterfaceInstance}; calls through
+ * such views are much slower, and wrap checked exceptions in
+ * {@link java.lang.reflect.UndeclaredThrowableException UndeclaredThrowableException}.
+ *
+ * <p>An instance method's receiver is the first argument of its view. Arguments and results
+ * are boxed, unboxed, and widened as necessary. Exceptions thrown by the method or
+ * constructor are otherwise re-thrown unchanged (not wrapped in
+ * {@link java.lang.reflect.InvocationTargetException InvocationTargetException}),
+ * checked exceptions included, though undeclared, as by {@link SneakyUncheckers}.
+ * A method or constructor which cannot be accessed from this class or viewed as the
+ * requested type causes an {@link IllegalArgumentException} when the view is requested.
+ */
+public class MethodUncheckers {
+	private static final ClassValue<Map<List<Object>, Object>> VIEWS_BY_DECLARING_CLASS =
+			new ClassValue<Map<List<Object>, Object>>() {
+				@Override
+				protected Map<List<Object>, Object> computeValue(Class<?> declaringClass) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+
+	private MethodUncheckers() {}
+
+	/**
+	 * Views a method as an instance of the given SAM type, whose method takes the
+	 * receiver (unless the method is static) followed by the method's parameters.
+	 */
+	public static <S> S uncheckMethodAs(Class<S> samType, Method method) {
+		return view(samType, method);
+	}
+
+	/**
+	 * Views a constructor as an instance of the given SAM type, whose method takes
+	 * the constructor's parameters and returns the new instance.
+	 */
+	public static <S> S uncheckConstructorAs(Class<S> samType, Constructor<?> constructor) {
+		return view(samType, constructor);
+	}
+
+	/** Views a no-argument instance method, or a one-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T, R> Function<T, R> uncheckMethodAsFunction(Method method) {
+		return view(Function.class, method);
+	}
+
+	/** Views a no-argument instance method, or a one-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T> ToIntFunction<T> uncheckMethodAsToIntFunction(Method method) {
+		return view(ToIntFunction.class, method);
+	}
+
+	/** Views a no-argument instance method, or a one-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T> ToLongFunction<T> uncheckMethodAsToLongFunction(Method method) {
+		return view(ToLongFunction.class, method);
+	}
+
+	/** Views a no-argument instance method, or a one-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T> ToDoubleFunction<T> uncheckMethodAsToDoubleFunction(Method method) {
+		return view(ToDoubleFunction.class, method);
+	}
+
+	/** Views a no-argument instance method, or a one-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T> Predicate<T> uncheckMethodAsPredicate(Method method) {
+		return view(Predicate.class, method);
+	}
+
+	/** Views a one-argument instance method, or a two-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <T, U, R> BiFunction<T, U, R> uncheckMethodAsBiFunction(Method method) {
+		return view(BiFunction.class, method);
+	}
+
+	/**
+	 * Views a no-argument instance method, or a one-argument static method,
+	 * discarding any result.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Consumer<T> uncheckMethodAsConsumer(Method method) {
+		return view(Consumer.class, method);
+	}
+
+	/**
+	 * Views a one-argument instance method, such as a setter, or a two-argument
+	 * static method, discarding any result.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, U> BiConsumer<T, U> uncheckMethodAsBiConsumer(Method method) {
+		return view(BiConsumer.class, method);
+	}
+
+	/** Views a no-argument static method. */
+	@SuppressWarnings("unchecked")
+	public static <R> Supplier<R> uncheckMethodAsSupplier(Method method) {
+		return view(Supplier.class, method);
+	}
+
+	/** Views a no-argument static method, discarding any result. */
+	public static Runnable uncheckMethodAsRunnable(Method method) {
+		return view(Runnable.class, method);
+	}
+
+	/** Views a no-argument constructor. */
+	@SuppressWarnings("unchecked")
+	public static <R> Supplier<R> uncheckConstructorAsSupplier(Constructor<R> constructor) {
+		return view(Supplier.class, constructor);
+	}
+
+	/** Views a one-argument constructor. */
+	@SuppressWarnings("unchecked")
+	public static <T, R> Function<T, R> uncheckConstructorAsFunction(Constructor<R> constructor) {
+		return view(Function.class, constructor);
+	}
+
+	private static <S> S view(Class<S> samType, Executable executable) {
+		Object view = VIEWS_BY_DECLARING_CLASS.get(executable.getDeclaringClass())
+				.computeIfAbsent(
+						Arrays.asList(samType, executable),
+						key -> spinView(samType, executable));
+
+		return samType.cast(view);
+	}
+
+	private static Object spinView(Class<?> samType, Executable executable) {
+		Method samMethod = SamMethods.extractSingleAbstractMethod(samType);
+		MethodType samMethodType =
+				MethodType.methodType(samMethod.getReturnType(), samMethod.getParameterTypes());
+
+		try {
+			MethodHandles.Lookup lookup = lookupFor(executable.getDeclaringClass());
+			MethodHandle implementation = executable instanceof Method
+					? lookup.unreflect((Method) executable)
+					: lookup.unreflectConstructor((Constructor<?>) executable);
+
+			if (implementation.type().parameterCount() != samMethodType.parameterCount()) {
+				throw new IllegalArgumentException(String.format(
+						"%s takes %d arguments (including any receiver) but %s.%s takes %d",
+						executable,
+						implementation.type().parameterCount(),
+						samType.getName(),
+						samMethod.getName(),
+						samMethodType.parameterCount()));
+			}
+
+			if (!hasFullPrivilegeAccess(lookup)) {
+				return MethodHandleProxies.asInterfaceInstance(
+						samType, implementation.asType(samMethodType));
+			}
+
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					samMethod.getName(),
+					MethodType.methodType(samType),
+					samMethodType,
+					implementation,
+					instantiatedMethodType(samMethodType, implementation.type()));
+
+			return callSite.getTarget().invoke();
+		} catch (IllegalAccessException | LambdaConversionException | WrongMethodTypeException e) {
+			throw new IllegalArgumentException(String.format(
+					"cannot view %s as %s: %s", executable, samType.getName(), e.getMessage()), e);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			// the call site's target only returns the non-capturing lambda
+			throw new IllegalStateException(t);
+		}
+	}
+
+	/**
+	 * Looks up members with the privileges of their declaring class where possible,
+	 * so that non-public methods can be viewed, and otherwise with the privileges
+	 * of this class, such as for public methods of the JDK.
+	 */
+	private static MethodHandles.Lookup lookupFor(Class<?> declaringClass) {
+		try {
+			return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+		} catch (IllegalAccessException e) {
+			return MethodHandles.lookup();
+		}
+	}
+
+	/**
+	 * Whether the lookup has both private and module access, without which
+	 * {@link LambdaMetafactory} refuses it as the caller.
+	 */
+	private static boolean hasFullPrivilegeAccess(MethodHandles.Lookup lookup) {
+		int fullPrivilegeModes = MethodHandles.Lookup.PRIVATE | MethodHandles.Lookup.MODULE;
+		return (lookup.lookupModes() & fullPrivilegeModes) == fullPrivilegeModes;
+	}
+
+	/**
+	 * The SAM method's type specialized to the implementation's types, boxed where
+	 * the SAM method's type is a reference type and primitive where it is primitive.
+	 */
+	private static MethodType instantiatedMethodType(
+			MethodType samMethodType, MethodType implementationType) {
+		Class<?>[] parameterTypes = new Class<?>[samMethodType.parameterCount()];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			parameterTypes[i] = samMethodType.parameterType(i).isPrimitive()
+					? samMethodType.parameterType(i)
+					: wrap(implementationType.parameterType(i));
+		}
+
+		Class<?> returnType = samMethodType.returnType().isPrimitive()
+				? samMethodType.returnType()
+				: wrap(implementationType.returnType());
+
+		return MethodType.methodType(returnType, parameterTypes);
+	}
+
+	private static Class<?> wrap(Class<?> type) {
+		return MethodType.methodType(type).wrap().returnType();
+	}
+}
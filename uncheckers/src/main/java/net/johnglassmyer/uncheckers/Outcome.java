@@ -0,0 +1,67 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The values collected from a stream by one of the collectors of {@link Attempts},
+ * along with the number of elements that failed and the first of their exceptions.
+ *
+ * @param <V> the type of the collected values, such as {@code List<R>} or {@code long[]}
+ */
+public final class Outcome<V> {
+	private final V values;
+	private final long failureCount;
+	private final List<Exception> keptFailures;
+
+	Outcome(V values, long failureCount, List<Exception> keptFailures) {
+		this.values = values;
+		this.failureCount = failureCount;
+		this.keptFailures = Collections.unmodifiableList(keptFailures);
+	}
+
+	/**
+	 * The values of the elements that succeeded, in encounter order
+	 * unless the stream was unordered.
+	 */
+	public V getValues() {
+		return values;
+	}
+
+	/** Whether any element failed. */
+	public boolean hasFailures() {
+		return failureCount > 0;
+	}
+
+	/** The number of elements that failed, including those whose exceptions weren't kept. */
+	public long getFailureCount() {
+		return failureCount;
+	}
+
+	/**
+	 * The exceptions thrown by failing elements, up to the limit given to the collector,
+	 * in encounter order unless the stream was unordered.
+	 */
+	public List<Exception> getKeptFailures() {
+		return keptFailures;
+	}
+
+	/**
+	 * Returns the values if no element failed, and otherwise throws a
+	 * {@link RuntimeException} caused by the first kept failure and suppressing the others.
+	 */
+	public V getValuesOrThrow() {
+		if (failureCount == 0) {
+			return values;
+		}
+
+		RuntimeException exception = new RuntimeException(
+				String.format("%d elements failed", failureCount),
+				keptFailures.isEmpty() ? null : keptFailures.get(0));
+		for (int i = 1; i < keptFailures.size(); i++) {
+			exception.addSuppressed(keptFailures.get(i));
+		}
+
+		throw exception;
+	}
+}
@@ -0,0 +1,235 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoFunction;
+import net.johnglassmyer.uncheckers.IoUncheckers.CheckedIoSupplier;
+
+/**
+ * Iterates over the pages of a paged source, fetching up to {@code readAhead} pages ahead
+ * of the consumer on a background thread, so that fetching the next pages overlaps with
+ * processing the current one rather than alternating with it. Pages are fetched on the
+ * default executor of {@link AsyncCalls}, on a virtual thread where available, unless
+ * another executor is given.
+ *
+ * <p>Once {@code readAhead} pages are waiting, fetching blocks until the consumer takes
+ * one. A failure to fetch a page is rethrown by {@link #hasNext} or {@link #next} after
+ * the pages fetched before it, an {@link IOException} being wrapped and re-thrown in a new
+ * {@link UncheckedIOException}, as by {@link IoUncheckers}, and anything else as itself.
+ *
+ * <p>Closing the prefetcher, or the stream returned by {@link #stream}, stops fetching,
+ * interrupting a fetch in progress, and discards the pages waiting. Consumers that may
+ * stop before the last page should therefore close it, as with try-with-resources.
+ */
+public final class PagePrefetcher<T> implements Iterator<T>, AutoCloseable {
+	private static final Object END = new Object();
+
+	private static final class Failure {
+		final Throwable throwable;
+
+		Failure(Throwable throwable) {
+			this.throwable = throwable;
+		}
+	}
+
+	private final CheckedIoSupplier<? extends T> source;
+	private final BlockingQueue<Object> queue;
+	private volatile boolean closed;
+	/** The thread fetching pages, guarded by {@code this}. */
+	private Thread fetchingThread;
+	/** The page, end, or failure taken from the queue but not yet consumed. */
+	private Object nextItem;
+
+	private PagePrefetcher(CheckedIoSupplier<? extends T> source, int readAhead) {
+		if (readAhead < 1) {
+			throw new IllegalArgumentException(String.format(
+					"readAhead must be positive but is %d", readAhead));
+		}
+
+		this.source = source;
+		this.queue = new ArrayBlockingQueue<>(readAhead);
+	}
+
+	/** Prefetches the pages returned by a source, until it returns {@code null}. */
+	public static <T> PagePrefetcher<T> start(CheckedIoSupplier<? extends T> source, int readAhead) {
+		return start(source, readAhead, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Prefetches, on the given executor, the pages returned by a source, until it returns
+	 * {@code null}.
+	 */
+	public static <T> PagePrefetcher<T> start(
+			CheckedIoSupplier<? extends T> source, int readAhead, Executor executor) {
+		PagePrefetcher<T> prefetcher = new PagePrefetcher<>(source, readAhead);
+		executor.execute(prefetcher::fetchAhead);
+		return prefetcher;
+	}
+
+	/**
+	 * Prefetches the pages fetched for successive cursors, from the first cursor (which may
+	 * be {@code null}), until {@code nextCursor} returns {@code null} for the last page.
+	 */
+	public static <C, T> PagePrefetcher<T> start(
+			C firstCursor,
+			CheckedIoFunction<? super C, ? extends T> fetch,
+			Function<? super T, ? extends C> nextCursor,
+			int readAhead) {
+		return start(firstCursor, fetch, nextCursor, readAhead, AsyncCalls.defaultExecutor());
+	}
+
+	/**
+	 * Prefetches, on the given executor, the pages fetched for successive cursors, from the
+	 * first cursor, until {@code nextCursor} returns {@code null} for the last page.
+	 */
+	public static <C, T> PagePrefetcher<T> start(
+			C firstCursor,
+			CheckedIoFunction<? super C, ? extends T> fetch,
+			Function<? super T, ? extends C> nextCursor,
+			int readAhead,
+			Executor executor) {
+		return start(new CursorSource<>(firstCursor, fetch, nextCursor), readAhead, executor);
+	}
+
+	/** Fetches the page for each cursor in turn; called only by the fetching thread. */
+	private static final class CursorSource<C, T> implements CheckedIoSupplier<T> {
+		private final CheckedIoFunction<? super C, ? extends T> fetch;
+		private final Function<? super T, ? extends C> nextCursor;
+		private C cursor;
+		private boolean fetchedLastPage;
+
+		CursorSource(
+				C firstCursor,
+				CheckedIoFunction<? super C, ? extends T> fetch,
+				Function<? super T, ? extends C> nextCursor) {
+			this.cursor = firstCursor;
+			this.fetch = fetch;
+			this.nextCursor = nextCursor;
+		}
+
+		@Override
+		public T getChecked() throws IOException {
+			if (fetchedLastPage) {
+				return null;
+			}
+			T page = fetch.applyChecked(cursor);
+			cursor = nextCursor.apply(page);
+			fetchedLastPage = cursor == null;
+			return page;
+		}
+	}
+
+	private void fetchAhead() {
+		synchronized (this) {
+			fetchingThread = Thread.currentThread();
+		}
+
+		try {
+			while (!closed) {
+				T page = source.getChecked();
+				if (page == null) {
+					queue.put(END);
+					return;
+				}
+				queue.put(page);
+			}
+		} catch (InterruptedException e) {
+			// closed while waiting for the consumer
+		} catch (Throwable t) {
+			if (!closed) {
+				try {
+					queue.put(new Failure(t));
+				} catch (InterruptedException e) {
+					// closed while waiting for the consumer
+				}
+			}
+		} finally {
+			synchronized (this) {
+				fetchingThread = null;
+				// clear any interrupt from closing, which is not meant for the executor
+				Thread.interrupted();
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (nextItem == null) {
+			nextItem = closed ? END : take();
+		}
+
+		if (nextItem instanceof Failure) {
+			Throwable throwable = ((Failure) nextItem).throwable;
+			nextItem = END;
+			close();
+			throw unchecked(throwable);
+		}
+
+		return nextItem != END;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		@SuppressWarnings("unchecked")
+		T page = (T) nextItem;
+		nextItem = null;
+		return page;
+	}
+
+	private Object take() {
+		try {
+			return queue.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new RuntimeException("interrupted while waiting for a page", e);
+		}
+	}
+
+	private static RuntimeException unchecked(Throwable throwable) {
+		if (throwable instanceof IOException) {
+			return new UncheckedIOException((IOException) throwable);
+		} else if (throwable instanceof RuntimeException) {
+			return (RuntimeException) throwable;
+		} else if (throwable instanceof Error) {
+			throw (Error) throwable;
+		} else {
+			return new RuntimeException(throwable);
+		}
+	}
+
+	/** A sequential stream of the remaining pages, closing which closes the prefetcher. */
+	public Stream<T> stream() {
+		return StreamSupport.stream(
+						Spliterators.spliteratorUnknownSize(
+								this, Spliterator.ORDERED | Spliterator.NONNULL),
+						false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		synchronized (this) {
+			if (fetchingThread != null) {
+				fetchingThread.interrupt();
+			}
+		}
+		queue.clear();
+	}
+}
@@ -0,0 +1,223 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Unchecks instances of functional interfaces for SAM types not known when the uncheckers
+ * were generated, such as plugin interfaces loaded at run time, wrapping and re-throwing
+ * any thrown {@link Exception} in a new {@link RuntimeException}, as {@link Uncheckers} does.
+ *
+ * <p>The first time a SAM type is unchecked from a given checked interface, a small adapter
+ * class is generated and defined alongside the checked interface. Its SAM method calls the
+ * checked method within a try/catch block, just as a statically generated unchecker would,
+ * so that once the JIT has inlined it a call costs no more than through {@code Uncheckers}.
+ * Adapter constructors are cached per SAM type and per implementation class in
+ * {@link ClassValue ClassValues}, so that later calls to {@link #uncheck} only allocate
+ * the adapter.
+ *
+ * <p>Adapter classes are generated with ASM ({@code org.ow2.asm:asm}), an optional
+ * dependency of this artifact, which must be added to the class path to use this class.
+ */
+public class RuntimeUncheckers {
+	private static final AtomicInteger ADAPTER_COUNT = new AtomicInteger();
+
+	private static final ClassValue<SamTypeAdapters> ADAPTERS_BY_SAM_TYPE =
+			new ClassValue<SamTypeAdapters>() {
+				@Override
+				protected SamTypeAdapters computeValue(Class<?> samType) {
+					return new SamTypeAdapters(samType);
+				}
+			};
+
+	private RuntimeUncheckers() {}
+
+	/**
+	 * Returns an instance of the given SAM type which calls the given implementation
+	 * of some interface having a compatible single abstract method declared to throw
+	 * a checked exception, wrapping and re-throwing any thrown {@code Exception}
+	 * in a new {@code RuntimeException}.
+	 *
+	 * @throws IllegalArgumentException if {@code samType} is not a SAM type or if
+	 * {@code checkedImpl} implements no (or more than one) interface with a compatible
+	 * single abstract method declared to throw a checked exception
+	 */
+	public static <S> S uncheck(Class<S> samType, Object checkedImpl) {
+		MethodHandle adapterConstructor = ADAPTERS_BY_SAM_TYPE.get(samType)
+				.constructorsByImplementationClass.get(checkedImpl.getClass());
+
+		try {
+			return samType.cast((Object) adapterConstructor.invokeExact(checkedImpl));
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			// the adapter's constructor only assigns a field
+			throw new IllegalStateException(t);
+		}
+	}
+
+	private static class SamTypeAdapters {
+		final Class<?> samType;
+		final Method samMethod;
+
+		final ClassValue<MethodHandle> constructorsByCheckedInterface =
+				new ClassValue<MethodHandle>() {
+					@Override
+					protected MethodHandle computeValue(Class<?> checkedInterface) {
+						return spinAdapter(
+								samType,
+								samMethod,
+								checkedInterface,
+								SamMethods.extractSingleAbstractMethod(checkedInterface));
+					}
+				};
+
+		final ClassValue<MethodHandle> constructorsByImplementationClass =
+				new ClassValue<MethodHandle>() {
+					@Override
+					protected MethodHandle computeValue(Class<?> implementationClass) {
+						return constructorsByCheckedInterface.get(
+								findCheckedInterface(samType, samMethod, implementationClass));
+					}
+				};
+
+		SamTypeAdapters(Class<?> samType) {
+			this.samType = samType;
+			this.samMethod = SamMethods.extractSingleAbstractMethod(samType);
+		}
+	}
+
+	private static Class<?> findCheckedInterface(
+			Class<?> samType, Method samMethod, Class<?> implementationClass) {
+		List<Class<?>> checkedInterfaces = allInterfaces(implementationClass).stream()
+				.filter(candidate -> trySingleAbstractMethod(candidate)
+						.filter(SamMethods::declaresCheckedException)
+						.filter(checkedMethod -> isCompatible(samMethod, checkedMethod))
+						.isPresent())
+				.collect(Collectors.toList());
+
+		// an interface inheriting its single abstract method adds no choice
+		checkedInterfaces.removeIf(candidate -> checkedInterfaces.stream().anyMatch(other ->
+				other != candidate
+						&& candidate.isAssignableFrom(other)
+						&& SamMethods.extractSingleAbstractMethod(other).equals(
+								SamMethods.extractSingleAbstractMethod(candidate))));
+
+		if (checkedInterfaces.size() != 1) {
+			throw new IllegalArgumentException(String.format(
+					"%s implements %d interfaces with a single abstract method compatible with"
+							+ " %s.%s and declared to throw a checked exception: %s",
+					implementationClass.getName(),
+					checkedInterfaces.size(),
+					samType.getName(),
+					samMethod.getName(),
+					checkedInterfaces));
+		}
+
+		return checkedInterfaces.get(0);
+	}
+
+	private static Set<Class<?>> allInterfaces(Class<?> clazz) {
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			addInterfaces(c, interfaces);
+		}
+		return interfaces;
+	}
+
+	private static void addInterfaces(Class<?> clazz, Set<Class<?>> interfaces) {
+		for (Class<?> i : clazz.getInterfaces()) {
+			if (interfaces.add(i)) {
+				addInterfaces(i, interfaces);
+			}
+		}
+	}
+
+	private static Optional<Method> trySingleAbstractMethod(Class<?> candidate) {
+		try {
+			return Optional.of(SamMethods.extractSingleAbstractMethod(candidate));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Whether the SAM method's arguments can be passed to the checked method,
+	 * and the checked method's result returned from the SAM method.
+	 */
+	private static boolean isCompatible(Method samMethod, Method checkedMethod) {
+		Class<?>[] samParameterTypes = samMethod.getParameterTypes();
+		Class<?>[] checkedParameterTypes = checkedMethod.getParameterTypes();
+		if (samParameterTypes.length != checkedParameterTypes.length) {
+			return false;
+		}
+
+		for (int i = 0; i < samParameterTypes.length; i++) {
+			if (!checkedParameterTypes[i].isAssignableFrom(samParameterTypes[i])) {
+				return false;
+			}
+		}
+
+		return samMethod.getReturnType() == void.class
+				|| samMethod.getReturnType().isAssignableFrom(checkedMethod.getReturnType());
+	}
+
+	private static MethodHandle spinAdapter(
+			Class<?> samType,
+			Method samMethod,
+			Class<?> checkedInterface,
+			Method checkedMethod) {
+		// define the adapter alongside the checked interface, unless that's in the JDK
+		Class<?> hostClass = checkedInterface.getClassLoader() == null
+				? RuntimeUncheckers.class
+				: checkedInterface;
+
+		if (!isVisibleFrom(hostClass, samType) || !isVisibleFrom(hostClass, checkedInterface)) {
+			throw new IllegalArgumentException(String.format(
+					"%s and %s are not both visible from the class loader of %s",
+					samType.getName(), checkedInterface.getName(), hostClass.getName()));
+		}
+
+		String adapterName = String.format("%s.%s$UncheckedAs%s$%d",
+				hostClass.getPackageName(),
+				checkedInterface.getSimpleName(),
+				samType.getSimpleName(),
+				ADAPTER_COUNT.incrementAndGet());
+
+		try {
+			MethodHandles.Lookup lookup =
+					MethodHandles.privateLookupIn(hostClass, MethodHandles.lookup());
+
+			Class<?> adapterClass = lookup.defineClass(AdapterClassFiles.generate(
+					adapterName.replace('.', '/'),
+					samType,
+					samMethod,
+					checkedInterface,
+					checkedMethod));
+
+			return lookup
+					.findConstructor(adapterClass, MethodType.methodType(void.class, checkedInterface))
+					.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (IllegalAccessException | NoSuchMethodException e) {
+			throw new IllegalArgumentException(String.format(
+					"cannot define an adapter from %s to %s: %s",
+					checkedInterface.getName(), samType.getName(), e.getMessage()), e);
+		}
+	}
+
+	private static boolean isVisibleFrom(Class<?> hostClass, Class<?> type) {
+		try {
+			return Class.forName(type.getName(), false, hostClass.getClassLoader()) == type;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the single abstract method of a SAM type at run time, by the same rules
+ * by which the generator's {@code SamType} finds it at build time: the one abstract
+ * public method not also declared by {@link Object}. The generator is only a build-time
+ * dependency of this artifact, so those rules are restated here rather than shared.
+ */
+final class SamMethods {
+	private SamMethods() {}
+
+	static Method extractSingleAbstractMethod(Class<?> samType) {
+		if (!samType.isInterface()) {
+			throw new IllegalArgumentException(String.format(
+					"%s is not an interface", samType.getName()));
+		}
+
+		List<Method> methods = Arrays.stream(samType.getMethods())
+				.filter(m -> Modifier.isAbstract(m.getModifiers()))
+				.filter(m -> !isMethodOfObject(m))
+				.collect(Collectors.toList());
+
+		if (methods.size() != 1) {
+			throw new IllegalArgumentException(String.format(
+					"%s has %d abstract methods: %s",
+					samType.getName(),
+					methods.size(),
+					methods.stream().map(m -> m.getName()).collect(Collectors.toList())));
+		}
+
+		return methods.get(0);
+	}
+
+	static boolean isMethodOfObject(Method m) {
+		for (Method objectMethod : Object.class.getDeclaredMethods()) {
+			if (m.getName().equals(objectMethod.getName())
+					&& Arrays.equals(m.getParameterTypes(), objectMethod.getParameterTypes())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	static boolean declaresCheckedException(Method method) {
+		return Arrays.stream(method.getExceptionTypes())
+				.anyMatch(exceptionType -> Exception.class.isAssignableFrom(exceptionType)
+						&& !RuntimeException.class.isAssignableFrom(exceptionType));
+	}
+}
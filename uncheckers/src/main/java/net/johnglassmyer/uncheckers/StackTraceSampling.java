@@ -0,0 +1,38 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether a stackless wrapper exception should nonetheless capture its stack trace.
+ *
+ * <p>The first <i>N</i> wrapper exceptions thrown for each SAM type capture full stack traces,
+ * <i>N</i> being the value of the system property {@value #FULL_STACK_TRACES_PROPERTY}
+ * (by default 0); all later ones are stackless.
+ */
+final class StackTraceSampling {
+	static final String FULL_STACK_TRACES_PROPERTY =
+			"net.johnglassmyer.uncheckers.fullStackTracesPerSamType";
+
+	private static final int FULL_STACK_TRACES_PER_SAM_TYPE =
+			Integer.getInteger(FULL_STACK_TRACES_PROPERTY, 0);
+
+	private static final ConcurrentMap<String, AtomicInteger> COUNTS_BY_SAM_TYPE_NAME =
+			new ConcurrentHashMap<>();
+
+	private StackTraceSampling() {}
+
+	static boolean shouldFillInStackTrace(String samTypeName) {
+		if (FULL_STACK_TRACES_PER_SAM_TYPE <= 0 || samTypeName == null) {
+			return false;
+		}
+
+		AtomicInteger count = COUNTS_BY_SAM_TYPE_NAME.computeIfAbsent(
+				samTypeName, name -> new AtomicInteger());
+
+		// avoid contending on the counter once the budget is spent
+		return count.get() < FULL_STACK_TRACES_PER_SAM_TYPE
+				&& count.getAndIncrement() < FULL_STACK_TRACES_PER_SAM_TYPE;
+	}
+}
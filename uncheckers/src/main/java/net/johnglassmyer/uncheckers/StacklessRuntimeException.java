@@ -0,0 +1,35 @@
+package net.johnglassmyer.uncheckers;
+
+/**
+ * A {@link RuntimeException} wrapping a checked exception
+ * without capturing a stack trace of its own,
+ * the stack trace of its cause already locating the failure.
+ *
+ * <p>Skipping {@link #fillInStackTrace()} avoids walking the stack a second time
+ * when unchecking a thrown exception.
+ * Setting the system property
+ * {@code net.johnglassmyer.uncheckers.fullStackTracesPerSamType} to <i>N</i>
+ * captures full stack traces for the first <i>N</i> exceptions wrapped for each SAM type.
+ */
+public class StacklessRuntimeException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	/** Wraps the cause, capturing no stack trace. */
+	public StacklessRuntimeException(Throwable cause) {
+		this(cause, null);
+	}
+
+	/** Wraps the cause, capturing a stack trace only if sampled for the SAM type. */
+	public StacklessRuntimeException(Throwable cause, String samTypeName) {
+		super(cause);
+
+		if (StackTraceSampling.shouldFillInStackTrace(samTypeName)) {
+			super.fillInStackTrace();
+		}
+	}
+
+	@Override
+	public Throwable fillInStackTrace() {
+		return this;
+	}
+}
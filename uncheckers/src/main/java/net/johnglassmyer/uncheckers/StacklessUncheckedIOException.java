@@ -0,0 +1,38 @@
+package net.johnglassmyer.uncheckers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An {@link UncheckedIOException} wrapping an {@link IOException}
+ * without capturing a stack trace of its own,
+ * the stack trace of its cause already locating the failure.
+ *
+ * <p>Skipping {@link #fillInStackTrace()} avoids walking the stack a second time
+ * when unchecking a thrown exception.
+ * Setting the system property
+ * {@code net.johnglassmyer.uncheckers.fullStackTracesPerSamType} to <i>N</i>
+ * captures full stack traces for the first <i>N</i> exceptions wrapped for each SAM type.
+ */
+public class StacklessUncheckedIOException extends UncheckedIOException {
+	private static final long serialVersionUID = 1L;
+
+	/** Wraps the cause, capturing no stack trace. */
+	public StacklessUncheckedIOException(IOException cause) {
+		this(cause, null);
+	}
+
+	/** Wraps the cause, capturing a stack trace only if sampled for the SAM type. */
+	public StacklessUncheckedIOException(IOException cause, String samTypeName) {
+		super(cause);
+
+		if (StackTraceSampling.shouldFillInStackTrace(samTypeName)) {
+			super.fillInStackTrace();
+		}
+	}
+
+	@Override
+	public Throwable fillInStackTrace() {
+		return this;
+	}
+}
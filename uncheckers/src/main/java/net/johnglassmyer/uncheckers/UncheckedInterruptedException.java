@@ -0,0 +1,21 @@
+package net.johnglassmyer.uncheckers;
+
+/**
+ * Wraps an {@link InterruptedException} with an unchecked exception, as
+ * {@link java.io.UncheckedIOException UncheckedIOException} does an {@code IOException}.
+ * Whoever wraps one should first restore the interrupt status of the current thread, as
+ * {@link InterruptibleUncheckers} does, so that the interruption isn't lost.
+ */
+public class UncheckedInterruptedException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	/** Wraps the cause. */
+	public UncheckedInterruptedException(InterruptedException cause) {
+		super(cause);
+	}
+
+	@Override
+	public InterruptedException getCause() {
+		return (InterruptedException) super.getCause();
+	}
+}
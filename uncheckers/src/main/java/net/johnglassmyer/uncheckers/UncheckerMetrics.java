@@ -0,0 +1,75 @@
+package net.johnglassmyer.uncheckers;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * The registry of {@link CallSiteMetrics} of the instrumented uncheckers, keyed by call-site
+ * tag, which publishes them through the platform MBean server as
+ * {@value #OBJECT_NAME} when the first call site is registered.
+ *
+ * <p>The generated {@code uncheck} methods look up their call site's metrics once, when
+ * unchecking, while the {@code callUnchecked} methods look them up for every call, so call
+ * sites on hot paths are best served by holding an unchecked instance.
+ */
+public final class UncheckerMetrics {
+	/** The name of the MBean publishing the metrics. */
+	public static final String OBJECT_NAME = "net.johnglassmyer.uncheckers:type=UncheckerMetrics";
+
+	private static final ConcurrentMap<String, CallSiteMetrics> METRICS_BY_TAG =
+			new ConcurrentHashMap<>();
+
+	static {
+		try {
+			ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+		} catch (JMException | SecurityException e) {
+			// another class loader's copy already registered, or not permitted;
+			// metrics remain available through snapshots()
+		}
+	}
+
+	private UncheckerMetrics() {}
+
+	static CallSiteMetrics forCallSite(String tag) {
+		CallSiteMetrics metrics = METRICS_BY_TAG.get(tag);
+		return metrics != null
+				? metrics
+				: METRICS_BY_TAG.computeIfAbsent(tag, CallSiteMetrics::new);
+	}
+
+	/** Snapshots of the metrics of all call sites, in order of tag. */
+	public static List<CallSiteSnapshot> snapshots() {
+		return METRICS_BY_TAG.values().stream()
+				.map(CallSiteMetrics::snapshot)
+				.sorted((a, b) -> a.getTag().compareTo(b.getTag()))
+				.collect(Collectors.toList());
+	}
+
+	private static class MXBean implements UncheckerMetricsMXBean {
+		@Override
+		public List<String> getCallSiteTags() {
+			List<String> tags = new ArrayList<>(METRICS_BY_TAG.keySet());
+			tags.sort(null);
+			return tags;
+		}
+
+		@Override
+		public List<CallSiteSnapshot> getCallSites() {
+			return snapshots();
+		}
+
+		@Override
+		public CallSiteSnapshot getCallSite(String tag) {
+			CallSiteMetrics metrics = METRICS_BY_TAG.get(tag);
+			return metrics == null ? null : metrics.snapshot();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package net.johnglassmyer.uncheckers;
+
+import java.util.List;
+
+/**
+ * The metrics of the instrumented uncheckers' call sites, registered with the platform
+ * MBean server as {@value UncheckerMetrics#OBJECT_NAME}.
+ */
+public interface UncheckerMetricsMXBean {
+	/** The tags of the registered call sites. */
+	List<String> getCallSiteTags();
+
+	/** The metrics of every registered call site. */
+	List<CallSiteSnapshot> getCallSites();
+
+	/** The metrics of the call site with the given tag, or {@code null} if there is none. */
+	CallSiteSnapshot getCallSite(String tag);
+}